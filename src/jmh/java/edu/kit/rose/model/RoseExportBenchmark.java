@@ -0,0 +1,112 @@
+package edu.kit.rose.model;
+
+import edu.kit.rose.model.plausibility.criteria.CriteriaManager;
+import edu.kit.rose.model.roadsystem.RoadSystem;
+import edu.kit.rose.model.roadsystem.elements.Base;
+import edu.kit.rose.model.roadsystem.elements.Element;
+import edu.kit.rose.model.roadsystem.elements.SegmentType;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long saving a project in the ROSE formats takes, for road systems whose segments
+ * are connected in chains and grouped.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class RoseExportBenchmark {
+  private static final int CHAIN_LENGTH = 10;
+
+  @Param({"1000", "10000", "100000"})
+  private int segmentCount;
+
+  private RoseProject project;
+  private File file;
+  private File binaryFile;
+
+  /**
+   * Creates a project with chains of connected segments, each chain in a group of its own.
+   *
+   * @throws IOException if the file to save to can not be created.
+   */
+  @Setup
+  public void setUp() throws IOException {
+    CriteriaManager criteriaManager = new CriteriaManager();
+    project = new RoseProject(criteriaManager);
+    RoadSystem roadSystem = project.getRoadSystem();
+    criteriaManager.setRoadSystem(roadSystem);
+    criteriaManager.setViolationManager(project.getPlausibilitySystem().getViolationManager());
+    roadSystem.batch(() -> {
+      List<Element> chain = new ArrayList<>(CHAIN_LENGTH);
+      Base previous = null;
+      for (int i = 0; i < segmentCount; i++) {
+        Base segment = (Base) roadSystem.createSegment(SegmentType.BASE);
+        if (previous != null) {
+          roadSystem.connectConnectors(previous.getExit(), segment.getEntry());
+        }
+        chain.add(segment);
+        previous = segment;
+        if (chain.size() == CHAIN_LENGTH) {
+          roadSystem.createGroup(Set.copyOf(chain));
+          chain.clear();
+          previous = null;
+        }
+      }
+    });
+    file = Files.createTempFile("rose-export", ".rose.json").toFile();
+    binaryFile = Files.createTempFile("rose-export", RoseBinaryExportStrategy.FILE_EXTENSION)
+        .toFile();
+  }
+
+  /**
+   * Deletes the files the project was saved to.
+   *
+   * @throws IOException if a file can not be deleted.
+   */
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file.toPath());
+    Files.deleteIfExists(binaryFile.toPath());
+  }
+
+  /**
+   * Saves the project in the ROSE format.
+   *
+   * @return whether the project was saved.
+   */
+  @Benchmark
+  public boolean save() {
+    return new RoseExportStrategy(project).exportToFile(file);
+  }
+
+  /**
+   * Saves the project in the binary ROSE format.
+   *
+   * @return whether the project was saved.
+   */
+  @Benchmark
+  public boolean saveBinary() {
+    return new RoseBinaryExportStrategy(project).exportToFile(binaryFile);
+  }
+}
@@ -0,0 +1,89 @@
+package edu.kit.rose.model.plausibility.criteria;
+
+import edu.kit.rose.model.plausibility.criteria.validation.ValidationType;
+import edu.kit.rose.model.plausibility.violation.ViolationManager;
+import edu.kit.rose.model.roadsystem.GraphRoadSystem;
+import edu.kit.rose.model.roadsystem.RoadSystem;
+import edu.kit.rose.model.roadsystem.TimeSliceSetting;
+import edu.kit.rose.model.roadsystem.attributes.AttributeType;
+import edu.kit.rose.model.roadsystem.elements.Base;
+import edu.kit.rose.model.roadsystem.elements.SegmentType;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long a {@link CompatibilityCriterion} takes to check a single segment, depending on
+ * the number of violations the criterion holds. The cost of a check should not grow with the
+ * number of violations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompatibilityCriterionBenchmark {
+  @Param({"1000", "10000", "100000"})
+  private int violationCount;
+
+  private CompatibilityCriterion criterion;
+  private Base checkedSegment;
+  private boolean valid;
+
+  /**
+   * Creates pairs of connected segments whose names violate the criterion.
+   */
+  @Setup
+  public void setUp() {
+    var criteriaManager = new CriteriaManager();
+    criteriaManager.setViolationManager(new ViolationManager());
+    criteriaManager.removeAllCriteria();
+    RoadSystem roadSystem = new GraphRoadSystem(criteriaManager, new TimeSliceSetting());
+
+    roadSystem.batch(() -> {
+      for (int i = 0; i < violationCount; i++) {
+        Base segment1 = (Base) roadSystem.createSegment(SegmentType.BASE);
+        Base segment2 = (Base) roadSystem.createSegment(SegmentType.BASE);
+        segment1.setName("a" + i);
+        segment2.setName("b" + i);
+        roadSystem.connectConnectors(segment1.getExit(), segment2.getEntry());
+        if (i == 0) {
+          checkedSegment = segment1;
+        }
+      }
+    });
+
+    criterion = new CompatibilityCriterion(roadSystem, new ViolationManager());
+    criterion.setAttributeType(AttributeType.NAME);
+    criterion.setValidationType(ValidationType.EQUALS);
+    criterion.addSegmentType(SegmentType.BASE);
+  }
+
+  /**
+   * Checks a segment whose violation stays the same.
+   */
+  @Benchmark
+  public void checkUnchangedSegment() {
+    criterion.notifyChange(checkedSegment);
+  }
+
+  /**
+   * Checks a segment whose violation alternately disappears and comes back.
+   */
+  @Benchmark
+  public void checkChangedSegment() {
+    valid = !valid;
+    checkedSegment.setName(valid ? "b0" : "a0");
+    criterion.notifyChange(checkedSegment);
+  }
+}
@@ -0,0 +1,79 @@
+package edu.kit.rose.model.plausibility.criteria;
+
+import edu.kit.rose.model.plausibility.violation.ViolationManager;
+import edu.kit.rose.model.roadsystem.GraphRoadSystem;
+import edu.kit.rose.model.roadsystem.RoadSystem;
+import edu.kit.rose.model.roadsystem.TimeSliceSetting;
+import edu.kit.rose.model.roadsystem.elements.Base;
+import edu.kit.rose.model.roadsystem.elements.Connector;
+import edu.kit.rose.model.roadsystem.elements.SegmentType;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long a {@link ConnectorCriterion} takes to check a whole chain of segments, in
+ * which every tenth segment is reversed so that both of its connections are invalid.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConnectorCriterionBenchmark {
+  private static final int REVERSED_SEGMENT_INTERVAL = 10;
+
+  @Param({"5000", "20000"})
+  private int segmentCount;
+
+  private ConnectorCriterion criterion;
+  private ViolationManager violationManager;
+
+  /**
+   * Creates the chain of segments and the criterion to check it with.
+   */
+  @Setup
+  public void setUp() {
+    var criteriaManager = new CriteriaManager();
+    criteriaManager.setViolationManager(new ViolationManager());
+    criteriaManager.removeAllCriteria();
+    RoadSystem roadSystem = new GraphRoadSystem(criteriaManager, new TimeSliceSetting());
+
+    roadSystem.batch(() -> {
+      Connector previousOut = null;
+      for (int i = 0; i < segmentCount; i++) {
+        Base segment = (Base) roadSystem.createSegment(SegmentType.BASE);
+        boolean reversed = i % REVERSED_SEGMENT_INTERVAL == REVERSED_SEGMENT_INTERVAL - 1;
+        Connector in = reversed ? segment.getExit() : segment.getEntry();
+        if (previousOut != null) {
+          roadSystem.connectConnectors(previousOut, in);
+        }
+        previousOut = reversed ? segment.getEntry() : segment.getExit();
+      }
+    });
+
+    violationManager = new ViolationManager();
+    criterion = new ConnectorCriterion(roadSystem, violationManager);
+  }
+
+  /**
+   * Checks every segment of the chain.
+   *
+   * @return the number of violations found, so the check can not be optimized away.
+   */
+  @Benchmark
+  public int checkAll() {
+    criterion.checkAll();
+    return violationManager.getViolationCount();
+  }
+}
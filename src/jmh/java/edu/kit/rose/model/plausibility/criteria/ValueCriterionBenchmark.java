@@ -0,0 +1,73 @@
+package edu.kit.rose.model.plausibility.criteria;
+
+import edu.kit.rose.model.plausibility.violation.ViolationManager;
+import edu.kit.rose.model.roadsystem.attributes.AttributeType;
+import edu.kit.rose.model.roadsystem.elements.Base;
+import edu.kit.rose.model.roadsystem.elements.Segment;
+import edu.kit.rose.model.roadsystem.elements.SegmentType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares checking all segments of a network with a {@link ValueCriterion} one after the other
+ * to checking them with a single bulk check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueCriterionBenchmark {
+  @Param({"1000", "10000", "100000"})
+  private int segmentCount;
+
+  private ValueCriterion criterion;
+  private List<Segment> segments;
+
+  /**
+   * Creates segments of which every tenth one is too long.
+   */
+  @Setup
+  public void setUp() {
+    segments = new ArrayList<>(segmentCount);
+    for (int i = 0; i < segmentCount; i++) {
+      Base segment = new Base();
+      segment.setLength(i % 10 == 0 ? 6000 : 100);
+      segments.add(segment);
+    }
+    criterion = new ValueCriterion(new ViolationManager(), AttributeType.LENGTH,
+        ValueCriterion.LENGTH_RANGE);
+    criterion.addSegmentType(SegmentType.BASE);
+  }
+
+  /**
+   * Checks every segment on its own.
+   */
+  @Benchmark
+  public void checkEachSegment() {
+    for (Segment segment : segments) {
+      criterion.notifyChange(segment);
+    }
+  }
+
+  /**
+   * Checks all segments with a single bulk check.
+   */
+  @Benchmark
+  public void checkAllSegments() {
+    criterion.checkSegments(segments);
+  }
+}
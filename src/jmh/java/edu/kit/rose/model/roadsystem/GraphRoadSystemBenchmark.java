@@ -0,0 +1,72 @@
+package edu.kit.rose.model.roadsystem;
+
+import edu.kit.rose.model.plausibility.criteria.CriteriaManager;
+import edu.kit.rose.model.plausibility.violation.ViolationManager;
+import edu.kit.rose.model.roadsystem.elements.Base;
+import edu.kit.rose.model.roadsystem.elements.Connection;
+import edu.kit.rose.model.roadsystem.elements.SegmentType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long disconnecting every connection of a chain of segments takes, which has to
+ * grow linearly with the number of connections.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GraphRoadSystemBenchmark {
+  @Param({"1000", "10000"})
+  private int connectionCount;
+
+  private RoadSystem roadSystem;
+  private List<Connection> connections;
+
+  /**
+   * Creates a chain of segments that are connected to their predecessors.
+   */
+  @Setup(Level.Invocation)
+  public void setUp() {
+    var criteriaManager = new CriteriaManager();
+    criteriaManager.setViolationManager(new ViolationManager());
+    criteriaManager.removeAllCriteria();
+    roadSystem = new GraphRoadSystem(criteriaManager, new TimeSliceSetting());
+    connections = new ArrayList<>(connectionCount);
+
+    roadSystem.batch(() -> {
+      Base previous = (Base) roadSystem.createSegment(SegmentType.BASE);
+      for (int i = 0; i < connectionCount; i++) {
+        Base next = (Base) roadSystem.createSegment(SegmentType.BASE);
+        connections.add(roadSystem.connectConnectors(previous.getExit(), next.getEntry()));
+        previous = next;
+      }
+    });
+  }
+
+  /**
+   * Disconnects every connection of the chain, one at a time.
+   *
+   * @return the road system, so the disconnects can not be optimized away.
+   */
+  @Benchmark
+  public RoadSystem disconnectAll() {
+    connections.forEach(roadSystem::disconnectConnection);
+    return roadSystem;
+  }
+}
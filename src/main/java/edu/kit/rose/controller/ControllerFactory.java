@@ -62,7 +62,7 @@ public class ControllerFactory {
     this.languageSelector = languageSelector;
     this.applicationDataSystem = applicationDataSystem;
     this.project = project;
-    this.changeCommandBuffer = new RoseChangeCommandBuffer();
+    this.changeCommandBuffer = new RoseChangeCommandBuffer(this::runCommand);
     this.selectionBuffer = new RoseSelectionBuffer();
     this.storageLock = new RoseStorageLock();
     this.replacementLog = new ReplacementLog();
@@ -137,4 +137,12 @@ public class ControllerFactory {
     return new RoseRoadSystemController(this.changeCommandBuffer, this.storageLock, this.navigator,
         this.selectionBuffer, this.project, this.replacementLog);
   }
+
+  /*
+   * Segments changed by a command are checked by the plausibility criteria once the command
+   * completed, instead of after every single change.
+   */
+  private void runCommand(Runnable command) {
+    this.applicationDataSystem.getCriteriaManager().getPlausibilityScheduler().defer(command);
+  }
 }
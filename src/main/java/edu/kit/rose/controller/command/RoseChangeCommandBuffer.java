@@ -1,6 +1,8 @@
 package edu.kit.rose.controller.command;
 
+import java.util.Objects;
 import java.util.Stack;
+import java.util.function.Consumer;
 
 /**
  * Implements a container that stores ChangeCommand in
@@ -13,10 +15,23 @@ public class RoseChangeCommandBuffer implements ChangeCommandBuffer {
   private static final int POINT_TO_NOTHING = -1;
 
   private final Stack<ChangeCommand> changeCommandStack;
+  private final Consumer<Runnable> commandScope;
   private int undoRedoPointer;
 
   public RoseChangeCommandBuffer() {
+    this(Runnable::run);
+  }
+
+  /**
+   * Creates a new {@link RoseChangeCommandBuffer} that executes and unexecutes every command
+   * within the given scope, e.g. to defer plausibility checks until the command completed.
+   *
+   * @param commandScope receives the execution of a command and has to run it, may not be
+   *     {@code null}.
+   */
+  public RoseChangeCommandBuffer(Consumer<Runnable> commandScope) {
     this.changeCommandStack = new Stack<>();
+    this.commandScope = Objects.requireNonNull(commandScope);
     this.undoRedoPointer = POINT_TO_NOTHING;
   }
 
@@ -27,7 +42,7 @@ public class RoseChangeCommandBuffer implements ChangeCommandBuffer {
     }
 
     ChangeCommand command = this.changeCommandStack.get(this.undoRedoPointer);
-    command.unexecute();
+    commandScope.accept(command::unexecute);
     this.undoRedoPointer--;
   }
 
@@ -39,14 +54,14 @@ public class RoseChangeCommandBuffer implements ChangeCommandBuffer {
 
     this.undoRedoPointer++;
     ChangeCommand command = this.changeCommandStack.get(this.undoRedoPointer);
-    command.execute();
+    commandScope.accept(command::execute);
   }
 
   @Override
   public void addAndExecuteCommand(ChangeCommand changeCommand) {
     deleteCommandsAfterPointer();
     this.changeCommandStack.push(changeCommand);
-    changeCommand.execute();
+    commandScope.accept(changeCommand::execute);
     this.undoRedoPointer++;
   }
 
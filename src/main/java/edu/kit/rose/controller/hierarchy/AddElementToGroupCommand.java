@@ -40,7 +40,7 @@ public class AddElementToGroupCommand implements ChangeCommand {
     var currentElement = this.replacementLog.getCurrentVersion(this.element);
 
     // find parent and remove element
-    this.parent = getParentGroup(currentElement);
+    this.parent = this.project.getRoadSystem().getParentGroup(currentElement);
     this.parent.removeElement(currentElement);
 
     // add element to new group
@@ -48,14 +48,6 @@ public class AddElementToGroupCommand implements ChangeCommand {
     currentGroup.addElement(currentElement);
   }
 
-  private Group getParentGroup(Element currentElement) {
-    return (Group) this.project.getRoadSystem().getElements()
-        .stream()
-        .filter(element1 -> element1.isContainer() && ((Group) element1).contains(currentElement))
-        .findFirst()
-        .orElse(this.project.getRoadSystem().getRootGroup());
-  }
-
   @Override
   public void unexecute() {
     var currentGroup = this.replacementLog.getCurrentVersion(this.group);
@@ -41,11 +41,7 @@ public class DeleteGroupCommand implements ChangeCommand {
   public void execute() {
     var groupToDelete = this.replacementLog.getCurrentVersion(this.group);
 
-    this.parent = this.project.getRoadSystem().getElements().stream()
-        .filter(Element::isContainer)
-        .map(element -> (Group) element)
-        .filter(container -> container.contains(groupToDelete))
-        .findAny().orElse(null);
+    this.parent = this.project.getRoadSystem().getParentGroup(groupToDelete);
 
     Set<Connection> storedConnections = new HashSet<>();
     this.saveSegmentConnections(groupToDelete, storedConnections);
@@ -8,7 +8,8 @@ import edu.kit.rose.infrastructure.RoseBox;
  * configure {@link Navigator#showFileDialog(FileDialogType, FileFormat)}.
  */
 public enum FileFormat {
-  ROSE("*.rose.json"),
+  ROSE("*.rose.json", "*.rose.bin"),
+  ROSE_BINARY("*.rose.bin"),
   SUMO("*.net.xml"),
   YAML("*.yaml", "*.yml"),
   CRITERIA("*.criteria.json");
@@ -32,4 +32,17 @@ public interface Navigator {
    * @param errorType the type of the error that occured
    */
   void showErrorDialog(ErrorType errorType);
+
+  /**
+   * Shows the progress of loading a project. The first call opens a window that stays open until
+   * {@link #hideProgress()} is called.
+   *
+   * @param progress the fraction of the project that was loaded, between 0 and 1.
+   */
+  void showProgress(double progress);
+
+  /**
+   * Closes the window opened by {@link #showProgress(double)}, if it is open.
+   */
+  void hideProgress();
 }
@@ -121,6 +121,7 @@ public class RoseProjectController extends Controller implements ProjectControll
   private FileFormat toFileFormat(ProjectFormat projectFormat) {
     return switch (projectFormat) {
       case ROSE -> FileFormat.ROSE;
+      case ROSE_BINARY -> FileFormat.ROSE_BINARY;
       case YAML -> FileFormat.YAML;
       case SUMO -> FileFormat.SUMO;
     };
@@ -207,7 +208,7 @@ public class RoseProjectController extends Controller implements ProjectControll
       getStorageLock().acquireStorageLock();
       this.onProjectIoActionBeginCallbacks.forEach(Runnable::run);
 
-      boolean loadingSucceeded = project.load(backUpPath);
+      boolean loadingSucceeded = loadWithProgress(backUpPath);
       if (loadingSucceeded) {
         setCurrentProjectPath(null);
       } else {
@@ -251,7 +252,7 @@ public class RoseProjectController extends Controller implements ProjectControll
           = getNavigator().showFileDialog(FileDialogType.LOAD_FILE, FileFormat.ROSE);
 
       if (sourceFilePath != null) {
-        boolean loadingSucceeded = project.load(sourceFilePath);
+        boolean loadingSucceeded = loadWithProgress(sourceFilePath);
         if (loadingSucceeded) {
           setCurrentProjectPath(sourceFilePath);
         } else {
@@ -292,7 +293,7 @@ public class RoseProjectController extends Controller implements ProjectControll
       getStorageLock().acquireStorageLock();
       this.onProjectIoActionBeginCallbacks.forEach(Runnable::run);
 
-      boolean loadingSucceeded = project.load(recentProjectPath);
+      boolean loadingSucceeded = loadWithProgress(recentProjectPath);
       if (loadingSucceeded) {
         setCurrentProjectPath(recentProjectPath);
       } else {
@@ -304,6 +305,17 @@ public class RoseProjectController extends Controller implements ProjectControll
     }
   }
 
+  /*
+   * Loads the project from the given path while the navigator shows the progress.
+   */
+  private boolean loadWithProgress(Path projectPath) {
+    try {
+      return project.load(projectPath, getNavigator()::showProgress);
+    } finally {
+      getNavigator().hideProgress();
+    }
+  }
+
   private void setCurrentProjectPath(Path projectPath) {
     this.currentProjectPath = projectPath;
     if (projectPath != null) {
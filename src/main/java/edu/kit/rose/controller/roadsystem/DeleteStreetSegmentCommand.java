@@ -45,6 +45,10 @@ public class DeleteStreetSegmentCommand implements ChangeCommand {
 
   @Override
   public void execute() {
+    this.project.getRoadSystem().batch(this::deleteSegments);
+  }
+
+  private void deleteSegments() {
     this.connections.clear();
 
     Set<Segment> segments = new HashSet<>(segmentParentGroups.keySet());
@@ -73,11 +77,7 @@ public class DeleteStreetSegmentCommand implements ChangeCommand {
   }
 
   private void saveParentGroupForSegment(Segment segment) {
-    Group parentGroup = (Group) this.project.getRoadSystem().getElements()
-        .stream()
-        .filter(element -> element.isContainer() && ((Group) element).contains(segment))
-        .findFirst()
-        .orElse(this.project.getRoadSystem().getRootGroup());
+    Group parentGroup = this.project.getRoadSystem().getParentGroup(segment);
 
     this.segmentParentGroups.put(segment, parentGroup);
     parentGroup.removeElement(segment);
@@ -85,6 +85,10 @@ public class DeleteStreetSegmentCommand implements ChangeCommand {
 
   @Override
   public void unexecute() {
+    this.project.getRoadSystem().batch(this::restoreSegments);
+  }
+
+  private void restoreSegments() {
     HierarchyCopier copier = new HierarchyCopier(this.replacementLog, this.project.getRoadSystem());
 
     Set<Segment> segmentsCopy = new HashSet<>(this.segmentParentGroups.keySet());
@@ -61,6 +61,7 @@ public class DragStreetSegmentsCommand implements ChangeCommand {
   @Override
   public void execute() {
     this.project.getRoadSystem().moveSegments(getCurrentSegments(), movement);
+    this.project.getRoadSystem().endMoveSegments();
     if (isExecuteFirstCall && this.segments.size() == 1 && this.dragConnector != null) {
       this.connectionCreatedAfterDragging = ConnectionBuilder.buildConnection(
           this.project.getRoadSystem(), this.dragConnector);
@@ -77,6 +78,7 @@ public class DragStreetSegmentsCommand implements ChangeCommand {
   @Override
   public void unexecute() {
     this.project.getRoadSystem().moveSegments(getCurrentSegments(), getInverseMovement(movement));
+    this.project.getRoadSystem().endMoveSegments();
     restoreConnections();
   }
 
@@ -44,8 +44,10 @@ public class DuplicateStreetSegmentCommand implements ChangeCommand {
 
   @Override
   public void execute() {
-    HashMap<Segment, Segment> segmentToDuplicateMappings = duplicateSegments();
-    connectDuplicatedSegments(segmentToDuplicateMappings);
+    this.project.getRoadSystem().batch(() -> {
+      HashMap<Segment, Segment> segmentToDuplicateMappings = duplicateSegments();
+      connectDuplicatedSegments(segmentToDuplicateMappings);
+    });
   }
 
   private HashMap<Segment, Segment> duplicateSegments() {
@@ -132,9 +134,11 @@ public class DuplicateStreetSegmentCommand implements ChangeCommand {
 
   @Override
   public void unexecute() {
-    for (var segment : this.segments) {
-      this.project.getRoadSystem()
-          .removeElement(this.replacementLog.getCurrentVersion(segment));
-    }
+    this.project.getRoadSystem().batch(() -> {
+      for (var segment : this.segments) {
+        this.project.getRoadSystem()
+            .removeElement(this.replacementLog.getCurrentVersion(segment));
+      }
+    });
   }
 }
@@ -167,6 +167,7 @@ public class RoseRoadSystemController extends Controller
 
   @Override
   public void endDragStreetSegment(Position segmentPosition, Connector draggedConnector) {
+    this.roadSystem.endMoveSegments();
     if (initialSegmentDragPosition == null) {
       //TODO: remove after implementing hit box event translucency
       return;
@@ -221,41 +222,9 @@ public class RoseRoadSystemController extends Controller
   public void selectSegmentsInRectangle(Position firstSelectionCorner,
                                         Position secondSelectionCorner) {
 
-    this.project.getRoadSystem().getElements().forEach(element -> {
-      if (element.isContainer()) {
-        return;
-      }
-      Segment segment = (Segment) element;
-      if (isInRectangle(segment.getCenter(), firstSelectionCorner, secondSelectionCorner)) {
-        selectionBuffer.addSegmentSelection(segment);
-      } else {
-        for (Connector connector : segment.getConnectors()) {
-          if (isInRectangle(connector.getPosition(), firstSelectionCorner, secondSelectionCorner)) {
-            selectionBuffer.addSegmentSelection(segment);
-            break;
-          }
-        }
-      }
-    });
-  }
-
-  private static boolean isInRectangle(Position target,
-                                       Position firstSelectionCorner,
-                                       Position secondSelectionCorner) {
-
-    double maximumX = Math.max(firstSelectionCorner.getX(), secondSelectionCorner.getX());
-    double minimumX = Math.min(firstSelectionCorner.getX(), secondSelectionCorner.getX());
-
-    double maximumY = Math.max(firstSelectionCorner.getY(), secondSelectionCorner.getY());
-    double minimumY = Math.min(firstSelectionCorner.getY(), secondSelectionCorner.getY());
-
-    return isInInterval(target.getX(), minimumX, maximumX)
-        && isInInterval(target.getY(), minimumY, maximumY);
-  }
-
-  private static boolean isInInterval(double value, double lowerIntervalBorder,
-                                      double upperIntervalBorder) {
-    return lowerIntervalBorder <= value && value <= upperIntervalBorder;
+    this.project.getRoadSystem()
+        .getSegmentsInRectangle(firstSelectionCorner, secondSelectionCorner)
+        .forEach(selectionBuffer::addSegmentSelection);
   }
 
   @Override
@@ -0,0 +1,39 @@
+package edu.kit.rose.infrastructure;
+
+/**
+ * A DualSetChange holds the net changes that were made to a {@link DualSetObservable} at once,
+ * e.g. during a batch. A unit that was added and removed again is part of neither change.
+ *
+ * @param <T> the first unit type.
+ * @param <R> the second unit type.
+ */
+public interface DualSetChange<T, R> {
+
+  /**
+   * Provides the units of the first type that were added.
+   *
+   * @return the added units of the first type.
+   */
+  Box<T> getAdditions();
+
+  /**
+   * Provides the units of the first type that were removed.
+   *
+   * @return the removed units of the first type.
+   */
+  Box<T> getRemovals();
+
+  /**
+   * Provides the units of the second type that were added.
+   *
+   * @return the added units of the second type.
+   */
+  Box<R> getAdditionsSecond();
+
+  /**
+   * Provides the units of the second type that were removed.
+   *
+   * @return the removed units of the second type.
+   */
+  Box<R> getRemovalsSecond();
+}
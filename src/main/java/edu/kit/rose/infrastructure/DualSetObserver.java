@@ -22,4 +22,20 @@ public interface DualSetObserver<T, R, S> extends SetObserver<T, S> {
    * @param unit the Object that was removed.
    */
   void notifyRemovalSecond(R unit);
+
+  /**
+   * To be called when several Objects were added to and removed from the set at once, instead of
+   * calling the other notification methods for every single Object.
+   * Forwards every change to the single notification methods by default, removals of the second
+   * type first and additions of the second type last. Observers that can update more efficiently
+   * at once should override this.
+   *
+   * @param changes the net changes that were made to the set.
+   */
+  default void notifyChanges(DualSetChange<T, R> changes) {
+    changes.getRemovalsSecond().forEach(this::notifyRemovalSecond);
+    changes.getRemovals().forEach(this::notifyRemoval);
+    changes.getAdditions().forEach(this::notifyAddition);
+    changes.getAdditionsSecond().forEach(this::notifyAdditionSecond);
+  }
 }
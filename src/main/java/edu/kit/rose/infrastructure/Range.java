@@ -29,6 +29,24 @@ public class Range<T extends Comparable<T>> {
     }
   }
 
+  /**
+   * Returns the lower bound of this range.
+   *
+   * @return the lower bound, which is part of the range.
+   */
+  public T getLowerEndPoint() {
+    return lowerEndPoint;
+  }
+
+  /**
+   * Returns the upper bound of this range.
+   *
+   * @return the upper bound, which is part of the range.
+   */
+  public T getUpperEndPoint() {
+    return upperEndPoint;
+  }
+
   /**
    * Returns true in case the provided value is in thi range. false otherwise.
    *
@@ -0,0 +1,53 @@
+package edu.kit.rose.infrastructure;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * A read-only {@link Box} that shows the content of a collection without copying it.
+ * Changes to the collection are visible through the view, callers that modify the collection
+ * while iterating the view should iterate a {@link #snapshot()} instead.
+ *
+ * @param <T> The Type of the Objects in the Box.
+ */
+public class RoseBoxView<T> implements Box<T> {
+
+  private final Collection<T> content;
+
+  /**
+   * Constructor.
+   *
+   * @param content the collection whose Elements are supposed to be shown by the Box, may not be
+   *     {@code null}.
+   */
+  public RoseBoxView(Collection<T> content) {
+    this.content = Collections.unmodifiableCollection(Objects.requireNonNull(content));
+  }
+
+  @Override
+  public int getSize() {
+    return content.size();
+  }
+
+  @Override
+  public boolean contains(T t) {
+    return content.contains(t);
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return content.iterator();
+  }
+
+  /**
+   * Copies the current content of this view into a {@link Box} that is not affected by later
+   * changes.
+   *
+   * @return the copied {@link Box}.
+   */
+  public Box<T> snapshot() {
+    return new RoseBox<>(content);
+  }
+}
@@ -0,0 +1,36 @@
+package edu.kit.rose.infrastructure;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A read-only {@link SortedBox} that shows the content of a list without copying it.
+ *
+ * @param <T> The Type of the Objects in the Box.
+ */
+public class RoseSortedBoxView<T> extends RoseBoxView<T> implements SortedBox<T> {
+
+  private final List<T> content;
+
+  /**
+   * Constructor.
+   *
+   * @param content the list whose Elements are supposed to be shown by the Box, may not be
+   *     {@code null}.
+   */
+  public RoseSortedBoxView(List<T> content) {
+    super(content);
+    this.content = Collections.unmodifiableList(content);
+  }
+
+  @Override
+  public T get(int index) {
+    return content.get(index);
+  }
+
+  @Override
+  public SortedBox<T> snapshot() {
+    return new RoseSortedBox<>(content);
+  }
+}
@@ -14,22 +14,32 @@ import java.util.Set;
  */
 abstract class SubscriberManager<T extends UnitObserver<S>, S> implements Observable<T, S> {
 
-  protected final Set<T> subscribers;
+  /**
+   * The subscribers of this observable. Most observables, like the attribute accessors of a
+   * segment, never get a subscriber, so the set is only created for the first one and replaced
+   * while it is empty.
+   */
+  protected Set<T> subscribers;
 
   public SubscriberManager() {
-    subscribers = new HashSet<>();
+    subscribers = Set.of();
   }
 
   @Override
   public void addSubscriber(T observer) {
     Objects.requireNonNull(observer, "observer may not be null");
 
+    if (subscribers.isEmpty()) {
+      subscribers = new HashSet<>();
+    }
     subscribers.add(observer);
   }
 
   @Override
   public void removeSubscriber(T observer) {
-    subscribers.remove(observer);
+    if (!subscribers.isEmpty()) {
+      subscribers.remove(observer);
+    }
   }
 
   @Override
@@ -0,0 +1,711 @@
+package edu.kit.rose.model;
+
+import edu.kit.rose.infrastructure.Movement;
+import edu.kit.rose.infrastructure.Position;
+import edu.kit.rose.model.roadsystem.RoadSystem;
+import edu.kit.rose.model.roadsystem.TimeSliceSetting;
+import edu.kit.rose.model.roadsystem.attributes.SpeedLimit;
+import edu.kit.rose.model.roadsystem.elements.Base;
+import edu.kit.rose.model.roadsystem.elements.Connector;
+import edu.kit.rose.model.roadsystem.elements.Element;
+import edu.kit.rose.model.roadsystem.elements.Group;
+import edu.kit.rose.model.roadsystem.elements.HighwaySegment;
+import edu.kit.rose.model.roadsystem.elements.RampSegment;
+import edu.kit.rose.model.roadsystem.elements.Segment;
+import edu.kit.rose.model.roadsystem.elements.SegmentType;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.DoubleConsumer;
+
+/**
+ * This is a compact binary encoding of {@link Project}s, holding the same data as
+ * {@link SerializedProject}.
+ * A file starts with {@link #MAGIC} and the format version, followed by sections for strings,
+ * elements, connections, groups, time slices and the zoom setting. Each section starts with a tag
+ * and its length, so sections that a reader does not know can be skipped.
+ * Strings are stored once in the string table and referred to by their index. Speed limits are
+ * stored by their name, so reordering {@link SpeedLimit} does not break old files. Indices, counts
+ * and coordinates without fractional part are stored as variable-length integers, all other
+ * numbers as eight byte doubles.
+ */
+final class BinaryProject {
+  private static final byte[] MAGIC = {'R', 'O', 'S', 'B'};
+  private static final int VERSION = 2;
+
+  private static final int STRINGS_SECTION = 1;
+  private static final int ELEMENTS_SECTION = 2;
+  private static final int CONNECTIONS_SECTION = 3;
+  private static final int GROUPS_SECTION = 4;
+  private static final int TIME_SLICES_SECTION = 5;
+  private static final int ZOOM_SECTION = 6;
+
+  private static final int GROUP_KIND = 0;
+  private static final int BASE_KIND = 1;
+  private static final int ENTRANCE_KIND = 2;
+  private static final int EXIT_KIND = 3;
+
+  private static final int SLOT_COUNT = 3;
+
+  private static final int LENGTH_SET = 1;
+  private static final int SLOPE_SET = 1 << 1;
+  private static final int LANE_COUNT_SET = 1 << 2;
+  private static final int CONURBATION_SET = 1 << 3;
+  private static final int CONURBATION = 1 << 4;
+  private static final int MAX_SPEED_SET = 1 << 5;
+  private static final int LANE_COUNT_RAMP_SET = 1 << 6;
+  private static final int MAX_SPEED_RAMP_SET = 1 << 7;
+
+  private static final double PROGRESS_STEP = 0.01;
+  private static final int ELEMENTS_PER_BATCH = 1000;
+
+  private BinaryProject() {
+  }
+
+  /**
+   * Checks whether the given stream starts with the header of this format.
+   *
+   * @param input the stream to check, positioned at its start.
+   * @return {@code true} if the stream starts with the header of this format.
+   * @throws IOException if reading from the stream fails.
+   */
+  static boolean hasHeader(InputStream input) throws IOException {
+    return Arrays.equals(MAGIC, input.readNBytes(MAGIC.length));
+  }
+
+  /**
+   * Writes the given project in this format to the given stream.
+   *
+   * @param source the project to write.
+   * @param output the stream to write to.
+   * @throws IOException if writing to the stream fails.
+   */
+  static void write(Project source, OutputStream output) throws IOException {
+    RoadSystem roadSystem = source.getRoadSystem();
+    var strings = new StringTable();
+    var elements = new Output();
+    var connections = new Output();
+    var groups = new Output();
+
+    Map<Element, Integer> elementIds = new IdentityHashMap<>();
+    Map<Connector, Integer> connectorIds = new IdentityHashMap<>();
+    List<Segment> segments = new ArrayList<>();
+    List<Group> containers = new ArrayList<>();
+
+    elements.writeVarInt(roadSystem.getElements().getSize());
+    for (var element : roadSystem.getElements()) {
+      int id = elementIds.size();
+      elementIds.put(element, id);
+      if (element.isContainer()) {
+        containers.add((Group) element);
+        elements.writeVarInt(GROUP_KIND);
+        writeElementData(element, elements, strings);
+      } else {
+        var segment = (Segment) element;
+        segments.add(segment);
+        writeSegment((HighwaySegment) segment, elements, strings);
+        Connector[] slots = getConnectorSlots(segment);
+        for (int slot = 0; slot < slots.length; slot++) {
+          connectorIds.put(slots[slot], id * SLOT_COUNT + slot);
+        }
+      }
+    }
+
+    writeConnections(roadSystem, segments, connectorIds, connections);
+
+    groups.writeVarInt(containers.size());
+    for (var group : containers) {
+      groups.writeVarInt(elementIds.get(group));
+      groups.writeVarInt(group.getElements().getSize());
+      for (var child : group.getElements()) {
+        groups.writeVarInt(elementIds.get(child));
+      }
+    }
+
+    var timeSlices = new Output();
+    TimeSliceSetting timeSliceSetting = roadSystem.getTimeSliceSetting();
+    timeSlices.writeVarInt(timeSliceSetting.getTimeSliceLength());
+    timeSlices.writeVarInt(timeSliceSetting.getNumberOfTimeSlices());
+
+    var zoom = new Output();
+    zoom.writeNumber(source.getZoomSetting().getCenterOfView().getX());
+    zoom.writeNumber(source.getZoomSetting().getCenterOfView().getY());
+    zoom.writeNumber(source.getZoomSetting().getZoomLevel());
+
+    var header = new Output();
+    header.writeBytes(MAGIC);
+    header.writeVarInt(VERSION);
+    header.writeTo(output);
+    strings.write().writeSection(STRINGS_SECTION, output);
+    elements.writeSection(ELEMENTS_SECTION, output);
+    connections.writeSection(CONNECTIONS_SECTION, output);
+    groups.writeSection(GROUPS_SECTION, output);
+    timeSlices.writeSection(TIME_SLICES_SECTION, output);
+    zoom.writeSection(ZOOM_SECTION, output);
+  }
+
+  private static void writeElementData(Element element, Output output, StringTable strings) {
+    output.writeVarInt(strings.indexOf(element.getName()));
+    output.writeVarInt(strings.indexOf(element.getComment()));
+  }
+
+  private static void writeSegment(HighwaySegment segment, Output output, StringTable strings) {
+    int kind = switch (segment.getSegmentType()) {
+      case BASE -> BASE_KIND;
+      case ENTRANCE -> ENTRANCE_KIND;
+      case EXIT -> EXIT_KIND;
+    };
+    output.writeVarInt(kind);
+    writeElementData(segment, output, strings);
+
+    int flags = 0;
+    flags |= segment.getLength() != null ? LENGTH_SET : 0;
+    flags |= segment.getSlope() != null ? SLOPE_SET : 0;
+    flags |= segment.getLaneCount() != null ? LANE_COUNT_SET : 0;
+    flags |= segment.getConurbation() != null ? CONURBATION_SET : 0;
+    flags |= Boolean.TRUE.equals(segment.getConurbation()) ? CONURBATION : 0;
+    flags |= segment.getMaxSpeed() != null ? MAX_SPEED_SET : 0;
+    if (segment instanceof RampSegment ramp) {
+      flags |= ramp.getLaneCountRamp() != null ? LANE_COUNT_RAMP_SET : 0;
+      flags |= ramp.getMaxSpeedRamp() != null ? MAX_SPEED_RAMP_SET : 0;
+    }
+    output.writeVarInt(flags);
+
+    if ((flags & LENGTH_SET) != 0) {
+      output.writeSignedVarLong(segment.getLength());
+    }
+    if ((flags & SLOPE_SET) != 0) {
+      output.writeNumber(segment.getSlope());
+    }
+    if ((flags & LANE_COUNT_SET) != 0) {
+      output.writeSignedVarLong(segment.getLaneCount());
+    }
+    if ((flags & MAX_SPEED_SET) != 0) {
+      output.writeVarInt(strings.indexOf(segment.getMaxSpeed().name()));
+    }
+    output.writeNumber(segment.getCenter().getX());
+    output.writeNumber(segment.getCenter().getY());
+    output.writeSignedVarLong(segment.getRotation());
+
+    if (segment instanceof Base base) {
+      Position entry = base.getEntry().getPosition();
+      Position exit = base.getExit().getPosition();
+      output.writeNumber(exit.getX() - entry.getX());
+      output.writeNumber(exit.getY() - entry.getY());
+    } else {
+      var ramp = (RampSegment) segment;
+      if ((flags & LANE_COUNT_RAMP_SET) != 0) {
+        output.writeSignedVarLong(ramp.getLaneCountRamp());
+      }
+      if ((flags & MAX_SPEED_RAMP_SET) != 0) {
+        output.writeVarInt(strings.indexOf(ramp.getMaxSpeedRamp().name()));
+      }
+      output.writeVarInt(strings.indexOf(ramp.getJunctionName()));
+    }
+  }
+
+  /**
+   * Writes each connection once, from the connector with the lower id, as the id of that
+   * connector and the id of the other connector. Connector ids are the id of their segment times
+   * the number of connector slots plus the slot of the connector.
+   */
+  private static void writeConnections(RoadSystem roadSystem, List<Segment> segments,
+                                       Map<Connector, Integer> connectorIds, Output output) {
+    var connections = new Output();
+    int count = 0;
+    int previousId = 0;
+    for (var segment : segments) {
+      for (var connector : getConnectorSlots(segment)) {
+        var connection = roadSystem.getConnection(connector);
+        if (connection == null) {
+          continue;
+        }
+        int id = connectorIds.get(connector);
+        Integer otherId = connectorIds.get(connection.getOther(connector));
+        if (otherId == null) { // this should never happen if the road system is consistent
+          throw new IllegalStateException("connected segment is not contained in this project");
+        }
+        if (id < otherId) {
+          connections.writeVarInt(id - previousId);
+          connections.writeVarInt(otherId - id);
+          previousId = id;
+          count++;
+        }
+      }
+    }
+    output.writeVarInt(count);
+    output.append(connections);
+  }
+
+  /**
+   * Lists the connectors of the given segment by their slot: entry, exit and ramp.
+   */
+  private static Connector[] getConnectorSlots(Segment segment) {
+    if (segment instanceof RampSegment ramp) {
+      return new Connector[] {ramp.getEntry(), ramp.getExit(), ramp.getRamp()};
+    }
+    var highwaySegment = (HighwaySegment) segment;
+    return new Connector[] {highwaySegment.getEntry(), highwaySegment.getExit()};
+  }
+
+  /**
+   * Reads a project in this format into the given target.
+   * The elements are read in {@link RoadSystem#batch(Runnable) batches} of
+   * {@value #ELEMENTS_PER_BATCH}, and each other section of the road system in one batch, so
+   * observers and plausibility checks are notified once per batch.
+   * Progress is only reported between two batches, when all observers were notified of the
+   * elements read so far, so the listener may let other tasks read the project.
+   *
+   * @param data the content of the file to read.
+   * @param target the project to read into.
+   * @param progressListener receives the fraction of the data that was read whenever it grew by
+   *     a percent after a batch.
+   * @throws IOException if the data is not a project in this format.
+   */
+  static void read(byte[] data, Project target, DoubleConsumer progressListener)
+      throws IOException {
+    var input = new Input(data, 0, data.length, progressListener);
+    if (!Arrays.equals(MAGIC, input.readBytes(MAGIC.length))) {
+      throw new IOException("not a binary ROSE project");
+    }
+    int version = input.readVarInt();
+    if (version != VERSION) {
+      throw new IOException("unsupported binary ROSE project version " + version);
+    }
+    new Reader(target).readSections(input);
+  }
+
+  /**
+   * Reads a part of a file.
+   */
+  private interface SectionReader {
+    void read() throws IOException;
+  }
+
+  /**
+   * Restores the sections of one file into a project.
+   */
+  private static class Reader {
+    private final Project target;
+    private final RoadSystem roadSystem;
+    private String[] strings;
+    private Element[] elements;
+
+    Reader(Project target) {
+      this.target = target;
+      this.roadSystem = target.getRoadSystem();
+    }
+
+    void readSections(Input input) throws IOException {
+      while (input.hasRemaining()) {
+        int tag = input.readVarInt();
+        Input section = input.slice(input.readVarInt());
+        switch (tag) {
+          case STRINGS_SECTION -> readStrings(section);
+          case ELEMENTS_SECTION -> readElements(section);
+          case CONNECTIONS_SECTION -> batch(() -> readConnections(section));
+          case GROUPS_SECTION -> batch(() -> readGroups(section));
+          case TIME_SLICES_SECTION -> readTimeSlices(section);
+          case ZOOM_SECTION -> readZoom(section);
+          default -> {
+            // sections of later versions are skipped
+          }
+        }
+      }
+    }
+
+    private void readStrings(Input input) throws IOException {
+      this.strings = new String[input.readVarInt() + 1];
+      for (int i = 1; i < this.strings.length; i++) {
+        this.strings[i] = new String(input.readBytes(input.readVarInt()), StandardCharsets.UTF_8);
+      }
+    }
+
+    private String readString(Input input) throws IOException {
+      if (this.strings == null) {
+        throw new IOException("strings section is missing");
+      }
+      int index = input.readVarInt();
+      if (index >= this.strings.length) {
+        throw new IOException("invalid string index " + index);
+      }
+      return this.strings[index];
+    }
+
+    /*
+     * Runs the given reader in one batch of the road system and unwraps the exceptions that the
+     * batch had to wrap.
+     */
+    private void batch(SectionReader reader) throws IOException {
+      try {
+        this.roadSystem.batch(() -> {
+          try {
+            reader.read();
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+    }
+
+    private void readElements(Input input) throws IOException {
+      this.elements = new Element[input.readVarInt()];
+      for (int start = 0; start < this.elements.length; start += ELEMENTS_PER_BATCH) {
+        int first = start;
+        int end = Math.min(this.elements.length, start + ELEMENTS_PER_BATCH);
+        batch(() -> readElements(input, first, end));
+        input.reportProgress();
+      }
+    }
+
+    private void readElements(Input input, int start, int end) throws IOException {
+      for (int i = start; i < end; i++) {
+        int kind = input.readVarInt();
+        this.elements[i] = switch (kind) {
+          case GROUP_KIND -> readGroup(input);
+          case BASE_KIND -> readSegment(SegmentType.BASE, input);
+          case ENTRANCE_KIND -> readSegment(SegmentType.ENTRANCE, input);
+          case EXIT_KIND -> readSegment(SegmentType.EXIT, input);
+          default -> throw new IOException("invalid element kind " + kind);
+        };
+      }
+    }
+
+    private Group readGroup(Input input) throws IOException {
+      Group group = this.roadSystem.createGroup(Set.of());
+      group.setName(readString(input));
+      group.setComment(readString(input));
+      return group;
+    }
+
+    /*
+     * Segments are read before they are added to the road system, so nobody is notified of each
+     * of their attributes. The batch unwraps the exceptions of the initializer.
+     */
+    private Segment readSegment(SegmentType type, Input input) {
+      return this.roadSystem.createSegment(type, segment -> {
+        try {
+          segment.setName(readString(input));
+          segment.setComment(readString(input));
+          readSegment((HighwaySegment) segment, input);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    }
+
+    private void readSegment(HighwaySegment segment, Input input) throws IOException {
+      int flags = input.readVarInt();
+      if ((flags & LENGTH_SET) != 0) {
+        segment.setLength(input.readSignedVarInt());
+      }
+      if ((flags & SLOPE_SET) != 0) {
+        segment.setSlope(input.readNumber());
+      }
+      if ((flags & LANE_COUNT_SET) != 0) {
+        segment.setLaneCount(input.readSignedVarInt());
+      }
+      if ((flags & CONURBATION_SET) != 0) {
+        segment.setConurbation((flags & CONURBATION) != 0);
+      }
+      if ((flags & MAX_SPEED_SET) != 0) {
+        segment.setMaxSpeed(readSpeedLimit(input));
+      }
+      double centerX = input.readNumber();
+      double centerY = input.readNumber();
+      int rotation = input.readSignedVarInt();
+
+      if (segment instanceof Base base) {
+        // restore the relative position of the connectors before placing the segment
+        Position entry = base.getEntry().getPosition();
+        Position exit = base.getExit().getPosition();
+        base.getExit().move(new Movement(
+            entry.getX() + input.readNumber() - exit.getX(),
+            entry.getY() + input.readNumber() - exit.getY()));
+      } else {
+        var ramp = (RampSegment) segment;
+        if ((flags & LANE_COUNT_RAMP_SET) != 0) {
+          ramp.setLaneCountRamp(input.readSignedVarInt());
+        }
+        if ((flags & MAX_SPEED_RAMP_SET) != 0) {
+          ramp.setMaxSpeedRamp(readSpeedLimit(input));
+        }
+        ramp.setJunctionName(readString(input));
+      }
+
+      segment.move(new Movement(
+          centerX - segment.getCenter().getX(), centerY - segment.getCenter().getY()));
+      segment.rotate(rotation);
+    }
+
+    private SpeedLimit readSpeedLimit(Input input) throws IOException {
+      String name = readString(input);
+      if (name == null) {
+        throw new IOException("missing speed limit");
+      }
+      try {
+        return SpeedLimit.valueOf(name);
+      } catch (IllegalArgumentException e) {
+        throw new IOException("invalid speed limit " + name, e);
+      }
+    }
+
+    private Element getElement(int id) throws IOException {
+      if (this.elements == null) {
+        throw new IOException("elements section is missing");
+      }
+      if (id >= this.elements.length) {
+        throw new IOException("invalid element id " + id);
+      }
+      return this.elements[id];
+    }
+
+    private Connector getConnector(int id) throws IOException {
+      Element element = getElement(id / SLOT_COUNT);
+      if (element.isContainer()) {
+        throw new IOException("connector " + id + " does not belong to a segment");
+      }
+      Connector[] slots = getConnectorSlots((Segment) element);
+      int slot = id % SLOT_COUNT;
+      if (slot >= slots.length) {
+        throw new IOException("invalid connector id " + id);
+      }
+      return slots[slot];
+    }
+
+    private void readConnections(Input input) throws IOException {
+      int count = input.readVarInt();
+      int id = 0;
+      for (int i = 0; i < count; i++) {
+        id += input.readVarInt();
+        int otherId = id + input.readVarInt();
+        this.roadSystem.connectConnectors(getConnector(id), getConnector(otherId));
+      }
+    }
+
+    private void readGroups(Input input) throws IOException {
+      int count = input.readVarInt();
+      for (int i = 0; i < count; i++) {
+        int id = input.readVarInt();
+        Element group = getElement(id);
+        if (!group.isContainer()) {
+          throw new IOException("element " + id + " is not a group");
+        }
+        int childCount = input.readVarInt();
+        for (int j = 0; j < childCount; j++) {
+          ((Group) group).addElement(getElement(input.readVarInt()));
+        }
+      }
+    }
+
+    private void readTimeSlices(Input input) throws IOException {
+      TimeSliceSetting timeSliceSetting = this.roadSystem.getTimeSliceSetting();
+      timeSliceSetting.setTimeSliceLength(input.readVarInt());
+      timeSliceSetting.setNumberOfTimeSlices(input.readVarInt());
+    }
+
+    private void readZoom(Input input) throws IOException {
+      ZoomSetting zoomSetting = this.target.getZoomSetting();
+      zoomSetting.setCenterOfView(new Position(input.readNumber(), input.readNumber()));
+      zoomSetting.setZoomLevel(input.readNumber());
+    }
+  }
+
+  /**
+   * Assigns indices to strings in the order they are first used. Index 0 stands for
+   * {@code null}.
+   */
+  private static class StringTable {
+    private final Map<String, Integer> indices = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+
+    int indexOf(String string) {
+      if (string == null) {
+        return 0;
+      }
+      return this.indices.computeIfAbsent(string, key -> {
+        this.strings.add(key);
+        return this.strings.size();
+      });
+    }
+
+    Output write() {
+      var output = new Output();
+      output.writeVarInt(this.strings.size());
+      for (var string : this.strings) {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeVarInt(bytes.length);
+        output.write(bytes, 0, bytes.length);
+      }
+      return output;
+    }
+  }
+
+  /**
+   * Buffers the content of a section.
+   */
+  private static class Output extends ByteArrayOutputStream {
+    void writeVarInt(int value) {
+      if (value < 0) {
+        throw new IllegalArgumentException("value may not be negative");
+      }
+      writeVarLong(value);
+    }
+
+    void writeSignedVarLong(long value) {
+      writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    private void writeVarLong(long value) {
+      while ((value & ~0x7FL) != 0) {
+        write((int) (value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      write((int) value);
+    }
+
+    /**
+     * Writes a number as a variable-length integer with a cleared lowest bit if it has no
+     * fractional part, or as a set lowest bit followed by its eight bytes otherwise.
+     */
+    void writeNumber(double value) {
+      long integral = (long) value;
+      if (Double.doubleToRawLongBits(integral) == Double.doubleToRawLongBits(value)
+          && Math.abs(integral) < 1L << 52) {
+        writeVarLong(((integral << 1) ^ (integral >> 63)) << 1);
+      } else {
+        write(1);
+        long bits = Double.doubleToRawLongBits(value);
+        for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+          write((int) (bits >>> shift));
+        }
+      }
+    }
+
+    void append(Output other) {
+      write(other.buf, 0, other.count);
+    }
+
+    void writeSection(int tag, OutputStream target) throws IOException {
+      var header = new Output();
+      header.writeVarInt(tag);
+      header.writeVarInt(size());
+      header.writeTo(target);
+      writeTo(target);
+    }
+  }
+
+  /**
+   * Reads from the content of a file, reporting how much of it was read.
+   */
+  private static class Input {
+    private final byte[] data;
+    private final int end;
+    private final DoubleConsumer progressListener;
+    private int position;
+    private double reportedProgress;
+
+    Input(byte[] data, int position, int end, DoubleConsumer progressListener) {
+      this.data = data;
+      this.position = position;
+      this.end = end;
+      this.progressListener = progressListener;
+    }
+
+    boolean hasRemaining() {
+      return this.position < this.end;
+    }
+
+    Input slice(int length) throws IOException {
+      if (length > this.end - this.position) {
+        throw new EOFException("section exceeds the end of the file");
+      }
+      var slice = new Input(this.data, this.position, this.position + length,
+          this.progressListener);
+      this.position += length;
+      return slice;
+    }
+
+    void reportProgress() {
+      double progress = (double) this.position / this.data.length;
+      if (progress - this.reportedProgress >= PROGRESS_STEP) {
+        this.reportedProgress = progress;
+        this.progressListener.accept(progress);
+      }
+    }
+
+    private int readByte() throws IOException {
+      if (this.position >= this.end) {
+        throw new EOFException("unexpected end of section");
+      }
+      return this.data[this.position++] & 0xFF;
+    }
+
+    byte[] readBytes(int length) throws IOException {
+      if (length > this.end - this.position) {
+        throw new EOFException("unexpected end of section");
+      }
+      byte[] bytes = Arrays.copyOfRange(this.data, this.position, this.position + length);
+      this.position += length;
+      return bytes;
+    }
+
+    private long readVarLong() throws IOException {
+      long value = 0;
+      for (int shift = 0; shift < Long.SIZE; shift += 7) {
+        int next = readByte();
+        value |= (long) (next & 0x7F) << shift;
+        if ((next & 0x80) == 0) {
+          return value;
+        }
+      }
+      throw new IOException("malformed variable-length integer");
+    }
+
+    int readVarInt() throws IOException {
+      long value = readVarLong();
+      if (value < 0 || value > Integer.MAX_VALUE) {
+        throw new IOException("integer out of range: " + value);
+      }
+      return (int) value;
+    }
+
+    int readSignedVarInt() throws IOException {
+      long encoded = readVarLong();
+      long value = (encoded >>> 1) ^ -(encoded & 1);
+      if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+        throw new IOException("integer out of range: " + value);
+      }
+      return (int) value;
+    }
+
+    double readNumber() throws IOException {
+      long encoded = readVarLong();
+      if ((encoded & 1) == 0) {
+        long zigZag = encoded >>> 1;
+        return (zigZag >>> 1) ^ -(zigZag & 1);
+      }
+      if (encoded != 1) {
+        throw new IOException("malformed number");
+      }
+      long bits = 0;
+      for (int i = 0; i < Long.BYTES; i++) {
+        bits = bits << Byte.SIZE | readByte();
+      }
+      return Double.longBitsToDouble(bits);
+    }
+  }
+}
@@ -1,6 +1,10 @@
 package edu.kit.rose.model;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 
 /**
  * Describes a Strategy for exporting a {@link edu.kit.rose.model.roadsystem.RoadSystem}
@@ -8,6 +12,7 @@ import java.io.File;
  * Implements the Strategy in the Strategy design Pattern.
  */
 abstract class ExportStrategy {
+  private static final int BUFFER_SIZE = 1 << 16;
 
   /**
    * Exports the current {@link edu.kit.rose.model.roadsystem.RoadSystem} or Project into
@@ -18,4 +23,16 @@ abstract class ExportStrategy {
    * @return {@code true} if the export was successful and {@code false} otherwise.
    */
   abstract boolean exportToFile(File file);
+
+  /**
+   * Opens a buffered stream for streaming an export into the given file.
+   * The file is created, or truncated if it exists.
+   *
+   * @param file the file to write to.
+   * @return the stream that writes to the file.
+   * @throws IOException if the file can not be opened.
+   */
+  static OutputStream openOutputStream(File file) throws IOException {
+    return new BufferedOutputStream(Files.newOutputStream(file.toPath()), BUFFER_SIZE);
+  }
 }
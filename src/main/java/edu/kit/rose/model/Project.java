@@ -6,6 +6,7 @@ import edu.kit.rose.model.plausibility.criteria.PlausibilityCriterion;
 import edu.kit.rose.model.roadsystem.RoadSystem;
 import edu.kit.rose.model.roadsystem.TimeSliceSetting;
 import java.nio.file.Path;
+import java.util.function.DoubleConsumer;
 
 /**
  * A Project holds all data specified in "Pflichtenheft: Projekt" as well as the current
@@ -40,7 +41,8 @@ public interface Project {
   boolean exportToFile(ProjectFormat projectFormat, Path filePath);
 
   /**
-   * Saves the Project as a ROSE file. This saves everything the Project needs to be reopened in
+   * Saves the Project as a ROSE file, in the binary ROSE format if the file name ends with
+   * {@code .rose.bin}. This saves everything the Project needs to be reopened in
    * the program.
    * Including {@link PlausibilityCriterion} and the {@link Position}s
    *
@@ -50,14 +52,27 @@ public interface Project {
   boolean save(Path filePath);
 
   /**
-   * Loads a ROSE File. This rewrites the Project to hold the information specified in the
-   * provided file.
+   * Loads a ROSE File in either ROSE format. This rewrites the Project to hold the information
+   * specified in the provided file.
    *
    * @param filePath The {@link Path} of the File.
    * @return {@code true} if loading the project succeeded and {@code false} otherwise.
    */
   boolean load(Path filePath);
 
+  /**
+   * Loads a ROSE File like {@link #load(Path)}, reporting how much of the file was read.
+   * If loading fails, the project is left empty.
+   * The listener is only called between the batches in which the road system is filled, when all
+   * observers were notified of the elements read so far, so it may let other tasks read the
+   * project.
+   *
+   * @param filePath The {@link Path} of the File.
+   * @param progressListener receives the fraction of the file that was read, between 0 and 1.
+   * @return {@code true} if loading the project succeeded and {@code false} otherwise.
+   */
+  boolean load(Path filePath, DoubleConsumer progressListener);
+
   /**
    * Provides the {@link ZoomSetting} of a view that displays the RoadSystem.
    *
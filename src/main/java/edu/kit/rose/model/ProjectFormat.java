@@ -15,5 +15,10 @@ public enum ProjectFormat {
   /**
    * This is ROSE's internal format for persistently storing {@link Project}s on the disk.
    */
-  ROSE
+  ROSE,
+  /**
+   * This is a compact binary encoding of ROSE's internal format, which is faster to save and load
+   * and smaller on the disk.
+   */
+  ROSE_BINARY
 }
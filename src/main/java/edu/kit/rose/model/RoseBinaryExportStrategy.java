@@ -0,0 +1,78 @@
+package edu.kit.rose.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.function.DoubleConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implements the export for the whole Project into the compact binary ROSE-Format.
+ * This Format allows the Project to be reopened in the ROSE-Program and takes less space and
+ * time to save and load than the JSON based ROSE-Format.
+ */
+class RoseBinaryExportStrategy extends ExportStrategy {
+  /**
+   * The file name extension of projects in this format.
+   */
+  static final String FILE_EXTENSION = ".rose.bin";
+
+  private static final Logger LOG = LoggerFactory.getLogger(RoseBinaryExportStrategy.class);
+
+  private final Project project;
+
+  RoseBinaryExportStrategy(Project project) {
+    this.project = project;
+  }
+
+  @Override
+  boolean exportToFile(File file) {
+    try (var output = openOutputStream(file)) {
+      BinaryProject.write(project, output);
+      return true;
+    } catch (IOException e) {
+      String message = String.format("Could not export project to file %s", file.toPath());
+      LOG.error(message, e);
+      return false;
+    }
+  }
+
+  /**
+   * Checks whether the given file holds a project in this format.
+   *
+   * @param file the file to check.
+   * @return {@code true} if the file holds a project in this format and {@code false} otherwise.
+   */
+  static boolean isBinaryProject(File file) {
+    try (var input = Files.newInputStream(file.toPath())) {
+      return BinaryProject.hasHeader(input);
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Imports the project from the given file into the given project.
+   * If the import fails, the elements read so far are not removed, so callers have to reset the
+   * project, as {@link Project#load(java.nio.file.Path)} does.
+   *
+   * @param project the project to import into.
+   * @param file the file to import from.
+   * @param progressListener receives the fraction of the file that was read, between 0 and 1,
+   *     whenever it grew by a percent after a batch of elements, and 1 once the import completed.
+   * @return {@code true} if the import was successful and {@code false} otherwise.
+   */
+  static boolean importToProject(Project project, File file, DoubleConsumer progressListener) {
+    try {
+      BinaryProject.read(Files.readAllBytes(file.toPath()), project, progressListener);
+    } catch (IOException e) {
+      String message = String.format("Could not import project from file %s", file.toPath());
+      LOG.error(message, e);
+      return false;
+    }
+
+    progressListener.accept(1);
+    return true;
+  }
+}
@@ -3,16 +3,19 @@ package edu.kit.rose.model;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import java.io.File;
 import java.io.IOException;
+import java.util.function.DoubleConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Implements the export for the whole Project into the ROSE-Format.
  * This Format allows the Project to be reopened in the ROSE-Program.
+ * The Project is streamed into the file one element at a time.
  */
 class RoseExportStrategy extends ExportStrategy {
   private static final Logger LOG = LoggerFactory.getLogger(RoseExportStrategy.class);
@@ -27,10 +30,9 @@ class RoseExportStrategy extends ExportStrategy {
   boolean exportToFile(File file) {
     var mapper = createObjectMapper();
 
-    var serialized = new SerializedProject(project);
-
-    try {
-      mapper.writeValue(file, serialized);
+    try (var output = openOutputStream(file);
+         var generator = mapper.createGenerator(output)) {
+      SerializedProject.write(project, mapper, generator);
       return true;
     } catch (IOException e) {
       String message = String.format("Could not export project to file %s", file.toPath());
@@ -42,7 +44,8 @@ class RoseExportStrategy extends ExportStrategy {
   private static ObjectMapper createObjectMapper() {
     var factory = new JsonFactory();
     var mapper = new ObjectMapper(factory)
-        .enable(SerializationFeature.INDENT_OUTPUT);
+        .enable(SerializationFeature.INDENT_OUTPUT)
+        .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     mapper.findAndRegisterModules();
     mapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
 
@@ -50,18 +53,66 @@ class RoseExportStrategy extends ExportStrategy {
   }
 
   public static boolean importToProject(Project project, File file) {
+    return importToProject(project, file, progress -> { });
+  }
+
+  /**
+   * Imports the project from the given file into the given project, creating its elements while
+   * the file is parsed. If the import fails, the elements read so far are not removed, so callers
+   * have to reset the project, as {@link Project#load(java.nio.file.Path)} does.
+   *
+   * @param project the project to import into.
+   * @param file the file to import from.
+   * @param progressListener receives the fraction of the file that was read, between 0 and 1,
+   *     whenever it grew by a percent after a batch of elements, and 1 once the import completed.
+   * @return {@code true} if the import was successful and {@code false} otherwise.
+   */
+  public static boolean importToProject(Project project, File file,
+                                        DoubleConsumer progressListener) {
     var mapper = createObjectMapper();
 
-    SerializedProject serialized;
-    try {
-      serialized = mapper.readValue(file, SerializedProject.class);
+    try (var parser = mapper.createParser(file)) {
+      var progress = new ProgressReporter(parser, file.length(), progressListener);
+      SerializedProject.read(parser, mapper, project, progress);
     } catch (IOException e) {
       String message = String.format("Could not import project from file %s", file.toPath());
       LOG.error(message, e);
       return false;
     }
 
-    serialized.populateProject(project);
+    progressListener.accept(1);
     return true;
   }
+
+  /**
+   * Reports the fraction of a file that a parser has read to a listener, whenever it grows by at
+   * least a percent.
+   */
+  private static class ProgressReporter implements Runnable {
+    private static final double STEP = 0.01;
+
+    private final JsonParser parser;
+    private final long fileSize;
+    private final DoubleConsumer listener;
+    private double reportedProgress;
+
+    ProgressReporter(JsonParser parser, long fileSize, DoubleConsumer listener) {
+      this.parser = parser;
+      this.fileSize = fileSize;
+      this.listener = listener;
+    }
+
+    @Override
+    public void run() {
+      if (fileSize <= 0) {
+        return;
+      }
+      long offset = parser.getCurrentLocation().getByteOffset();
+      double progress = Math.min(1, (double) offset / fileSize);
+      if (progress - reportedProgress >= STEP) {
+        reportedProgress = progress;
+        listener.accept(progress);
+      }
+    }
+  }
 }
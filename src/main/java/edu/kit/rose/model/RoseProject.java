@@ -11,6 +11,7 @@ import java.io.File;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.DoubleConsumer;
 
 /**
  * A standard implementation for {@link Project}.
@@ -35,6 +36,7 @@ class RoseProject implements Project {
 
     this.exportStrategies = Map.of(
         ProjectFormat.ROSE, new RoseExportStrategy(this),
+        ProjectFormat.ROSE_BINARY, new RoseBinaryExportStrategy(this),
         ProjectFormat.YAML, new YamlExportStrategy(this),
         ProjectFormat.SUMO, new SumoExportStrategy()
     );
@@ -64,13 +66,27 @@ class RoseProject implements Project {
 
   @Override
   public boolean save(Path filePath) {
-    return this.exportToFile(ProjectFormat.ROSE, filePath);
+    boolean binary = filePath.getFileName().toString()
+        .endsWith(RoseBinaryExportStrategy.FILE_EXTENSION);
+    return this.exportToFile(binary ? ProjectFormat.ROSE_BINARY : ProjectFormat.ROSE, filePath);
   }
 
   @Override
   public boolean load(Path filePath) {
+    return this.load(filePath, progress -> { });
+  }
+
+  @Override
+  public boolean load(Path filePath, DoubleConsumer progressListener) {
     this.reset();
-    return RoseExportStrategy.importToProject(this, filePath.toFile());
+    File file = filePath.toFile();
+    boolean loaded = RoseBinaryExportStrategy.isBinaryProject(file)
+        ? RoseBinaryExportStrategy.importToProject(this, file, progressListener)
+        : RoseExportStrategy.importToProject(this, file, progressListener);
+    if (!loaded) {
+      this.reset();
+    }
+    return loaded;
   }
 
   @Override
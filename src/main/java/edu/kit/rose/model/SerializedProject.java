@@ -4,6 +4,13 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import edu.kit.rose.infrastructure.Movement;
 import edu.kit.rose.infrastructure.Position;
 import edu.kit.rose.model.roadsystem.RoadSystem;
@@ -19,41 +26,89 @@ import edu.kit.rose.model.roadsystem.elements.HighwaySegment;
 import edu.kit.rose.model.roadsystem.elements.RampSegment;
 import edu.kit.rose.model.roadsystem.elements.Segment;
 import edu.kit.rose.model.roadsystem.elements.SegmentType;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 
 /**
  * This is a data model for {@link Project} that is serializable through the Jackson library.
+ * A project is written with {@link #write(Project, ObjectMapper, JsonGenerator)} and read with
+ * {@link #read(JsonParser, ObjectMapper, Project, Runnable)}, which stream the data model of one
+ * element at a time, so the data model of the whole road system is never held in memory.
  */
 class SerializedProject {
-  @JsonProperty("roadSystem")
-  private SerializedRoadSystem roadSystem;
-  @JsonProperty("zoomSetting")
-  private SerializedZoomSetting zoomSetting;
+  private static final String ROAD_SYSTEM_FIELD = "roadSystem";
+  private static final String ZOOM_SETTING_FIELD = "zoomSetting";
+  private static final String ELEMENTS_FIELD = "elements";
+  private static final String TIME_SLICE_SETTING_FIELD = "timeSliceSetting";
+  private static final int ELEMENTS_PER_BATCH = 1000;
+
+  private SerializedProject() {
+  }
 
   /**
-   * Serializes the given project into a data model for the ROSE format.
+   * Writes the given project in the ROSE format to the given generator, one element at a time.
+   * The generator is neither flushed nor closed.
    *
-   * @param source the project to serialize.
+   * @param source the project to write.
+   * @param mapper the mapper to serialize the data model of each element with.
+   * @param generator the generator to write to.
+   * @throws IOException if writing to the generator fails.
    */
-  public SerializedProject(Project source) {
-    this.roadSystem = new SerializedRoadSystem(source.getRoadSystem());
-    this.zoomSetting = new SerializedZoomSetting(source.getZoomSetting());
+  static void write(Project source, ObjectMapper mapper, JsonGenerator generator)
+      throws IOException {
+    generator.writeStartObject();
+    generator.writeFieldName(ROAD_SYSTEM_FIELD);
+    new SerializedRoadSystem(source.getRoadSystem()).write(mapper, generator);
+    generator.writeFieldName(ZOOM_SETTING_FIELD);
+    mapper.writeValue(generator, new SerializedZoomSetting(source.getZoomSetting()));
+    generator.writeEndObject();
   }
 
   /**
-   * Empty constructor to be used by Jackson when de-serializing a file into this model.
+   * Reads a project in the ROSE format from the given parser into the given target.
+   * The elements of the road system are created as soon as they are parsed, their relations to
+   * other elements are restored once all elements exist. The elements are created in
+   * {@link RoadSystem#batch(Runnable) batches} of {@value #ELEMENTS_PER_BATCH} and their
+   * relations in one more batch, so observers and plausibility checks are notified once per
+   * batch. Unknown fields are skipped.
+   *
+   * @param parser the parser to read from, positioned before the start of the project.
+   * @param mapper the mapper to deserialize the data model of each element with.
+   * @param target the project to read into.
+   * @param onElementsRead called after each batch of elements, when all observers were notified
+   *     of the elements read so far, so it may let other tasks read the project.
+   * @throws IOException if reading from the parser fails or the file is not a ROSE project.
    */
-  @SuppressWarnings("unused")
-  private SerializedProject() {
+  static void read(JsonParser parser, ObjectMapper mapper, Project target,
+                   Runnable onElementsRead) throws IOException {
+    expectStartObject(parser, parser.nextToken());
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken value = parser.nextToken();
+      if (ROAD_SYSTEM_FIELD.equals(field)) {
+        expectStartObject(parser, value);
+        new SerializedRoadSystem().read(parser, mapper, target.getRoadSystem(), onElementsRead);
+      } else if (ZOOM_SETTING_FIELD.equals(field)) {
+        mapper.readValue(parser, SerializedZoomSetting.class)
+            .populateZoomSetting(target.getZoomSetting());
+      } else {
+        parser.skipChildren();
+      }
+    }
   }
 
-  public void populateProject(Project target) {
-    this.roadSystem.populateRoadSystem(target.getRoadSystem());
-    this.zoomSetting.populateZoomSetting(target.getZoomSetting());
+  private static void expectStartObject(JsonParser parser, JsonToken token)
+      throws JsonParseException {
+    if (token != JsonToken.START_OBJECT) {
+      throw new JsonParseException(parser, "expected an object but found " + token);
+    }
   }
 
   /**
@@ -127,39 +182,124 @@ class SerializedProject {
 
   /**
    * Serializable data model for {@link RoadSystem} objects.
+   * While writing, the elements are indexed by identity and the segments by their connectors,
+   * so linking the serialized elements takes linear time.
    */
   private static class SerializedRoadSystem {
-    @JsonIgnore
     private final RoadSystem roadSystem;
+    private Map<Element, Integer> elementIds;
+    private Map<Connector, Segment> connectorSegments;
 
-    @JsonProperty("elements")
     private List<SerializedElement<? extends Element>> elements;
-    @JsonProperty("timeSliceSetting")
     private SerializedTimeSliceSetting timeSliceSetting;
 
-    public SerializedRoadSystem(RoadSystem roadSystem) {
+    /**
+     * Prepares writing the given road system by indexing its elements.
+     */
+    SerializedRoadSystem(RoadSystem roadSystem) {
       this.roadSystem = roadSystem;
 
-      this.populateElements();
-      this.linkElements();
+      this.indexElements();
 
       this.timeSliceSetting =
           new SerializedTimeSliceSetting(this.roadSystem.getTimeSliceSetting());
     }
 
     /**
-     * Empty constructor to be used by Jackson when de-serializing a file into this model.
+     * Prepares reading a road system.
      */
-    @SuppressWarnings("unused")
-    public SerializedRoadSystem() {
+    SerializedRoadSystem() {
       this.roadSystem = null;
+      this.elements = new ArrayList<>();
     }
 
-    private void populateElements() {
-      this.elements = new ArrayList<>(this.roadSystem.getElements().getSize());
+    private void indexElements() {
+      this.elementIds = new IdentityHashMap<>(this.roadSystem.getElements().getSize());
+      this.connectorSegments = new IdentityHashMap<>();
       int index = 0;
       for (var element : this.roadSystem.getElements()) {
-        this.elements.add(createJsonElement(index++, element));
+        this.elementIds.put(element, index++);
+        if (!element.isContainer()) {
+          Segment segment = (Segment) element;
+          for (Connector connector : segment.getConnectors()) {
+            this.connectorSegments.put(connector, segment);
+          }
+        }
+      }
+    }
+
+    /**
+     * Writes the road system to the given generator. The data model of each element is created,
+     * linked and written before the next element is looked at.
+     */
+    void write(ObjectMapper mapper, JsonGenerator generator) throws IOException {
+      ObjectWriter elementWriter = mapper.writerFor(SerializedElement.class);
+      generator.writeStartObject();
+      generator.writeArrayFieldStart(ELEMENTS_FIELD);
+      for (var element : this.roadSystem.getElements()) {
+        var serializedElement = createJsonElement(getElementId(element), element);
+        serializedElement.link(this);
+        elementWriter.writeValue(generator, serializedElement);
+      }
+      generator.writeEndArray();
+      generator.writeFieldName(TIME_SLICE_SETTING_FIELD);
+      mapper.writeValue(generator, this.timeSliceSetting);
+      generator.writeEndObject();
+    }
+
+    /**
+     * Reads the fields of a road system from the given parser into the given target, creating
+     * the elements in batches of the target and linking them in a last batch.
+     */
+    void read(JsonParser parser, ObjectMapper mapper, RoadSystem target, Runnable onElementsRead)
+        throws IOException {
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken value = parser.nextToken();
+        if (ELEMENTS_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+          readElements(parser, mapper, target, onElementsRead);
+        } else if (TIME_SLICE_SETTING_FIELD.equals(field)) {
+          mapper.readValue(parser, SerializedTimeSliceSetting.class)
+              .populateTimeSliceSetting(target.getTimeSliceSetting());
+        } else {
+          parser.skipChildren();
+        }
+      }
+      target.batch(() -> this.elements.forEach(element -> element.linkRoseElement(this, target)));
+    }
+
+    /*
+     * Only the batch that reaches the end of the array reads fewer elements than it may.
+     */
+    private void readElements(JsonParser parser, ObjectMapper mapper, RoadSystem target,
+                              Runnable onElementsRead) throws IOException {
+      ObjectReader elementReader = mapper.readerFor(SerializedElement.class);
+      int readElements;
+      do {
+        int previousElements = this.elements.size();
+        try {
+          target.batch(() -> {
+            try {
+              readElementBatch(parser, elementReader, target);
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          });
+        } catch (UncheckedIOException e) {
+          throw e.getCause();
+        }
+        readElements = this.elements.size() - previousElements;
+        onElementsRead.run();
+      } while (readElements == ELEMENTS_PER_BATCH);
+    }
+
+    private void readElementBatch(JsonParser parser, ObjectReader elementReader, RoadSystem target)
+        throws IOException {
+      for (int i = 0; i < ELEMENTS_PER_BATCH && parser.nextToken() == JsonToken.START_OBJECT;
+           i++) {
+        SerializedElement<? extends Element> element = elementReader.readValue(parser);
+        element.createRoseElement(target);
+        this.elements.add(element);
       }
     }
 
@@ -176,30 +316,22 @@ class SerializedProject {
       }
     }
 
-    private void linkElements() {
-      this.elements.forEach(element -> element.link(this));
-    }
-
-    public void populateRoadSystem(RoadSystem target) {
-      this.elements.forEach(element -> element.createRoseElement(target));
-      this.elements.forEach(element -> element.linkRoseElement(this, target));
-
-      this.timeSliceSetting.populateTimeSliceSetting(target.getTimeSliceSetting());
-    }
-
     /**
      * Finds the index of a given {@code element}.
-     * {@link #populateElements()} must have completed execution before calling this method.
+     * Only works for road systems that are written.
      *
      * @return the index of the given element or {@code null} if {@code element} is {@code null}.
      * @throws java.util.NoSuchElementException if the element is not contained in this project.
      */
     public Integer getElementId(Element element) {
-      return element == null ? null : this.elements.stream()
-          .filter(other -> other.getRoseElement() == element)
-          .findAny()
-          .orElseThrow()
-          .getIndex();
+      if (element == null) {
+        return null;
+      }
+      Integer id = this.elementIds.get(element);
+      if (id == null) {
+        throw new NoSuchElementException("element is not contained in this project");
+      }
+      return id;
     }
 
     /**
@@ -215,6 +347,7 @@ class SerializedProject {
 
     /**
      * Finds the ROSE segment that is connected to {@code segment} on the given {@code connector}.
+     * Only works for road systems that are written.
      *
      * @return the connected segment or {@code null} if this connector is not connected to another
      *     {@link Segment}.
@@ -226,10 +359,11 @@ class SerializedProject {
       }
       var otherConnector = connection.getOther(connector);
 
-      return this.roadSystem.getAdjacentSegments(segment).stream()
-          .filter(adjacent -> adjacent.getConnectors().contains(otherConnector))
-          .findAny()
-          .orElseThrow(); // this should never happen if the road system is consistent
+      Segment connectedSegment = this.connectorSegments.get(otherConnector);
+      if (connectedSegment == null) { // this should never happen if the road system is consistent
+        throw new NoSuchElementException("connected segment is not contained in this project");
+      }
+      return connectedSegment;
     }
   }
 
@@ -293,19 +427,32 @@ class SerializedProject {
 
     public abstract void link(SerializedRoadSystem serializedRoadSystem);
 
+    /**
+     * Creates the rose element of this object in the given road system and fills it through
+     * {@link #populateRoseElement()}.
+     *
+     * @param target the road system to create the rose element in.
+     */
     public abstract void createRoseElement(RoadSystem target);
 
     /**
      * Fills the rose element that was created through {@link #createRoseElement(RoadSystem)} with
-     * the data of this object restores relations to other elements (e.g. segment connections
-     * and group content).
+     * the data of this object that does not refer to other elements.
+     */
+    public void populateRoseElement() {
+      this.roseElement.setName(this.name);
+      this.roseElement.setComment(this.comment);
+    }
+
+    /**
+     * Restores the relations of the rose element that was created through
+     * {@link #createRoseElement(RoadSystem)} to other elements (e.g. segment connections and
+     * group content). All elements need to be created before calling this method.
      *
      * @param source the serialized road system to use for looking up other elements.
      * @param target the road system that the relations should be created in.
      */
     public void linkRoseElement(SerializedRoadSystem source, RoadSystem target) {
-      this.roseElement.setName(this.name);
-      this.roseElement.setComment(this.comment);
     }
   }
 
@@ -345,6 +492,7 @@ class SerializedProject {
     @Override
     public void createRoseElement(RoadSystem target) {
       this.roseElement = target.createGroup(Set.of());
+      populateRoseElement();
     }
 
     @Override
@@ -412,8 +560,8 @@ class SerializedProject {
     public abstract Connector getConnectorForConnectionTo(int connectedIndex);
 
     @Override
-    public void linkRoseElement(SerializedRoadSystem source, RoadSystem target) {
-      super.linkRoseElement(source, target);
+    public void populateRoseElement() {
+      super.populateRoseElement();
 
       // restore HighwaySegment attributes
       this.roseElement.setLength(this.length);
@@ -447,7 +595,11 @@ class SerializedProject {
 
         Connector otherConnector = connectedSegment.getConnectorForConnectionTo(this.getIndex());
 
-        target.connectConnectors(connector, otherConnector);
+        // the connected segment may have restored this connection already
+        var connection = target.getConnection(connector);
+        if (connection == null || connection.getOther(connector) != otherConnector) {
+          target.connectConnectors(connector, otherConnector);
+        }
       }
     }
   }
@@ -495,8 +647,15 @@ class SerializedProject {
 
     @Override
     public void createRoseElement(RoadSystem target) {
-      this.roseElement = (Base) target.createSegment(SegmentType.BASE);
+      // segments are populated before they are added, so nobody is notified of each attribute
+      target.createSegment(SegmentType.BASE, segment -> {
+        this.roseElement = (Base) segment;
+        populateRoseElement();
+      });
+    }
 
+    @Override
+    public void populateRoseElement() {
       // restore relative position of connectors (but not the position of the segment in general)
       var targetConnectorDifference = new Movement(// exit - entrance
           this.exitPosition.coordinateX - this.entrancePosition.coordinateX,
@@ -510,6 +669,8 @@ class SerializedProject {
           targetExitPosition.getY() - this.roseElement.getExit().getPosition().getY());
 
       this.roseElement.getExit().move(exitConnectorMovement);
+
+      super.populateRoseElement();
     }
 
     @Override
@@ -592,12 +753,17 @@ class SerializedProject {
     }
 
     @Override
-    public void linkRoseElement(SerializedRoadSystem source, RoadSystem target) {
-      super.linkRoseElement(source, target);
+    public void populateRoseElement() {
+      super.populateRoseElement();
 
       this.roseElement.setLaneCountRamp(this.laneCountRamp);
       this.roseElement.setMaxSpeedRamp(this.maxSpeedRamp);
       this.roseElement.setJunctionName(this.junctionName);
+    }
+
+    @Override
+    public void linkRoseElement(SerializedRoadSystem source, RoadSystem target) {
+      super.linkRoseElement(source, target);
 
       createRoseConnection(source, target, entranceConnectedSegmentId, roseElement.getEntry());
       createRoseConnection(source, target, exitConnectedSegmentId, roseElement.getExit());
@@ -644,7 +810,10 @@ class SerializedProject {
 
     @Override
     public void createRoseElement(RoadSystem target) {
-      this.roseElement = (Entrance) target.createSegment(SegmentType.ENTRANCE);
+      target.createSegment(SegmentType.ENTRANCE, segment -> {
+        this.roseElement = (Entrance) segment;
+        populateRoseElement();
+      });
     }
   }
 
@@ -671,7 +840,10 @@ class SerializedProject {
 
     @Override
     public void createRoseElement(RoadSystem target) {
-      this.roseElement = (Exit) target.createSegment(SegmentType.EXIT);
+      target.createSegment(SegmentType.EXIT, segment -> {
+        this.roseElement = (Exit) segment;
+        populateRoseElement();
+      });
     }
   }
 
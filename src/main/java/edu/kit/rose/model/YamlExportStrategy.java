@@ -3,6 +3,7 @@ package edu.kit.rose.model;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
 import java.io.File;
@@ -14,6 +15,7 @@ import org.slf4j.LoggerFactory;
  * Implements the export for the {@link edu.kit.rose.model.roadsystem.RoadSystem} into the
  * YAML-Format.
  * This Format allows the Project to be reopened a Program supporting the YAML-Format.
+ * The road system is streamed into the file one segment at a time.
  */
 class YamlExportStrategy extends ExportStrategy {
   private static final Logger LOG = LoggerFactory.getLogger(YamlExportStrategy.class);
@@ -28,14 +30,14 @@ class YamlExportStrategy extends ExportStrategy {
     var factory = new YAMLFactory()
         .disable(YAMLGenerator.Feature.WRITE_DOC_START_MARKER)
         .enable(YAMLGenerator.Feature.MINIMIZE_QUOTES);
-    var mapper = new ObjectMapper(factory);
+    var mapper = new ObjectMapper(factory)
+        .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     mapper.findAndRegisterModules();
     mapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
 
-    var yamlProject = new YamlProject(project);
-
-    try {
-      mapper.writeValue(file, yamlProject);
+    try (var output = openOutputStream(file);
+         var generator = mapper.createGenerator(output)) {
+      YamlProject.write(project, mapper, generator);
       return true;
     } catch (IOException e) {
       String message = String.format("Could not export project to file %s", file.toPath());
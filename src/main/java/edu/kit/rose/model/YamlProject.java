@@ -2,6 +2,8 @@ package edu.kit.rose.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import edu.kit.rose.model.roadsystem.RoadSystem;
 import edu.kit.rose.model.roadsystem.TimeSliceSetting;
 import edu.kit.rose.model.roadsystem.attributes.SpeedLimit;
@@ -13,9 +15,11 @@ import edu.kit.rose.model.roadsystem.elements.HighwaySegment;
 import edu.kit.rose.model.roadsystem.elements.Segment;
 import edu.kit.rose.model.roadsystem.elements.SegmentType;
 import java.io.File;
-import java.util.HashMap;
+import java.io.IOException;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -23,6 +27,9 @@ import java.util.stream.Collectors;
 /**
  * This is an object model for the "Deutsches FREEVAL" YAML format.
  * Use {@link YamlExportStrategy#exportToFile(File)} to run an export with this format.
+ * The object model of one segment at a time is created and streamed to a {@link JsonGenerator}
+ * with {@link #write(Project, ObjectMapper, JsonGenerator)}, so the object model of the whole road
+ * system is never held in memory.
  *
  * @implNote {@link SuppressWarnings} "unused" is used on lots of fields that are only accessed
  *     through Jackson.
@@ -30,31 +37,26 @@ import java.util.stream.Collectors;
  *     {@link JsonProperty} annotations to match the format specification.
  */
 class YamlProject {
-  @JsonIgnore
   private final Map<SegmentType, Function<Segment, YamlSegment>> yamlSegmentCreators;
 
   /**
    * The road system is stored to access the source data model within the population process.
    */
-  @JsonIgnore
   private final RoadSystem roadSystem;
 
   /**
-   * This map stores a {@link YamlSegment} with an ID.
-   * Use {@link #getSegmentId(Segment)} to find the ID of a ROSE segment.
+   * These maps index the ROSE segments by identity, so IDs and neighbours are found in constant
+   * time within the population process.
    */
-  @JsonProperty("Segmente")
-  private Map<Integer, YamlSegment> segments;
-  @SuppressWarnings("unused")
-  @JsonProperty("Options")
-  private YamlOptions options;
+  private final Map<Segment, Integer> segmentIds = new IdentityHashMap<>();
+  private final Map<Connector, Segment> connectorSegments = new IdentityHashMap<>();
 
   /**
-   * Creates and populates the YAML data model with the data from the given {@code project}.
+   * Prepares the export of the given {@code project} by assigning an ID to each of its segments.
    *
    * @param project the data source for this export.
    */
-  YamlProject(Project project) {
+  private YamlProject(Project project) {
     this.yamlSegmentCreators = Map.of(
         SegmentType.BASE, base -> new YamlBaseSegment(this, (Base) base),
         SegmentType.ENTRANCE, entrance -> new YamlEntranceSegment(this, (Entrance) entrance),
@@ -63,40 +65,78 @@ class YamlProject {
 
     this.roadSystem = project.getRoadSystem();
 
-    this.segments = new HashMap<>();
-    this.options = new YamlOptions(this.roadSystem.getTimeSliceSetting());
+    this.indexSegments();
+  }
+
+  /**
+   * Writes the road system of the given project in the YAML format to the given generator, one
+   * segment at a time. The generator is neither flushed nor closed.
+   *
+   * @param project the data source for this export.
+   * @param mapper the mapper to serialize the object model of each segment with.
+   * @param generator the generator to write to.
+   * @throws IOException if writing to the generator fails.
+   */
+  static void write(Project project, ObjectMapper mapper, JsonGenerator generator)
+      throws IOException {
+    new YamlProject(project).write(mapper, generator);
+  }
 
-    this.populateSegments();
-    this.populateConnections();
+  private void write(ObjectMapper mapper, JsonGenerator generator) throws IOException {
+    generator.writeStartObject();
+    generator.writeObjectFieldStart("Segmente");
+    for (var segment : this.roadSystem.getSegments()) {
+      YamlSegment yamlSegment = createYamlSegment(segment);
+      yamlSegment.populateConnections();
+      generator.writeFieldName(Integer.toString(getSegmentId(segment)));
+      mapper.writeValue(generator, yamlSegment);
+    }
+    generator.writeEndObject();
+    generator.writeFieldName("Options");
+    mapper.writeValue(generator, new YamlOptions(this.roadSystem.getTimeSliceSetting()));
+    generator.writeEndObject();
   }
 
-  private void populateSegments() {
+  private void indexSegments() {
     int id = 1;
-    for (var segment : this.roadSystem.getElements()) {
-      if (!segment.isContainer()) {
-        this.segments.put(id++, createYamlSegment((Segment) segment));
+    for (var segment : this.roadSystem.getSegments()) {
+      this.segmentIds.put(segment, id++);
+      for (var connector : segment.getConnectors()) {
+        this.connectorSegments.put(connector, segment);
       }
     }
   }
 
-  private void populateConnections() {
-    segments.values().forEach(YamlSegment::populateConnections);
-  }
-
   /**
    * Finds the ID for the {@link YamlSegment} that belongs to a given {@link Segment}.
-   * Do not use this method before {@link #populateSegments()} has been completed!
+   * Do not use this method before {@link #indexSegments()} has been completed!
    *
    * @param segment the ROSE segment to find the id of.
    * @return the ID of the given segment.
    * @throws java.util.NoSuchElementException if the segment is not included in this project.
    */
   private int getSegmentId(Segment segment) {
-    return segments.entrySet().stream()
-        .filter(entry -> entry.getValue().segment == segment)
-        .map(Map.Entry::getKey)
-        .findAny()
-        .orElseThrow();
+    Integer id = segmentIds.get(segment);
+    if (id == null) {
+      throw new NoSuchElementException("segment is not included in this project");
+    }
+    return id;
+  }
+
+  /**
+   * Finds the ROSE segment that contains the given {@code connector}.
+   * Do not use this method before {@link #indexSegments()} has been completed!
+   *
+   * @param connector the connector to find the segment of.
+   * @return the segment of the given connector.
+   * @throws java.util.NoSuchElementException if the segment is not included in this project.
+   */
+  private Segment getSegmentOf(Connector connector) {
+    Segment segment = connectorSegments.get(connector);
+    if (segment == null) {
+      throw new NoSuchElementException("connector is not included in this project");
+    }
+    return segment;
   }
 
   private YamlSegment createYamlSegment(Segment segment) {
@@ -173,7 +213,7 @@ class YamlProject {
 
     /**
      * Sets up connection data.
-     * {@link YamlProject#populateSegments()} must have been called before using this method.
+     * {@link YamlProject#indexSegments()} must have been called before using this method.
      */
     public void populateConnections() {
       this.predecessorIds = segmentListToIdList(getPredecessorConnectors());
@@ -203,12 +243,7 @@ class YamlProject {
       if (connection == null) {
         return null;
       }
-      var otherConnector = connection.getOther(connector);
-
-      return this.yamlProject.roadSystem.getAdjacentSegments(this.segment).stream()
-          .filter(adjacent -> adjacent.getConnectors().contains(otherConnector))
-          .findFirst()
-          .orElseThrow();
+      return this.yamlProject.getSegmentOf(connection.getOther(connector));
     }
 
     static int convertSlope(double slope) {
@@ -0,0 +1,28 @@
+package edu.kit.rose.model.plausibility;
+
+/**
+ * The metrics {@link PlausibilityMetrics} recorded for a criterion or an operation of the
+ * plausibility system at a point in time. Latencies are in nanoseconds, percentiles are accurate
+ * to a quarter of their value.
+ *
+ * @param name the name of the criterion or operation.
+ * @param invocations the number of recorded invocations.
+ * @param totalNanos the cumulative latency of all invocations.
+ * @param medianNanos the median latency.
+ * @param p90Nanos the 90th percentile of the latency.
+ * @param p99Nanos the 99th percentile of the latency.
+ * @param maxNanos the highest latency.
+ * @param violationsAdded the number of violations of the criterion that were added.
+ * @param violationsRemoved the number of violations of the criterion that were removed.
+ */
+public record MetricsSnapshot(
+    String name,
+    long invocations,
+    long totalNanos,
+    long medianNanos,
+    long p90Nanos,
+    long p99Nanos,
+    long maxNanos,
+    long violationsAdded,
+    long violationsRemoved) {
+}
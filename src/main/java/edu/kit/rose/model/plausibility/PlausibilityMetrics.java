@@ -0,0 +1,342 @@
+package edu.kit.rose.model.plausibility;
+
+import edu.kit.rose.infrastructure.RoseSortedBox;
+import edu.kit.rose.infrastructure.SortedBox;
+import edu.kit.rose.model.plausibility.criteria.PlausibilityCriterion;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records how often and how long {@link PlausibilityCriterion}s check segments and how many
+ * violations they add and remove, as well as how long the {@link Operation}s take that check the
+ * whole road system. The recorded metrics can be queried as {@link MetricsSnapshot}s and can be
+ * logged periodically.
+ *
+ * <p>Recording is disabled by default. While it is disabled, the instrumented code only reads a
+ * volatile flag, so the metrics can stay in place in production. Metrics may be recorded from
+ * several threads at once.</p>
+ */
+public class PlausibilityMetrics implements AutoCloseable {
+  private static final Logger LOG = LoggerFactory.getLogger(PlausibilityMetrics.class);
+  private static final double MEDIAN = 0.5;
+  private static final double P90 = 0.9;
+  private static final double P99 = 0.99;
+  private static final double NANOS_PER_MILLI = 1e6;
+  private static final double NANOS_PER_MICRO = 1e3;
+
+  /**
+   * The operations of the plausibility system whose latency is recorded.
+   */
+  public enum Operation {
+    /**
+     * Setting the road system of a criteria manager, which checks all of its segments.
+     */
+    SET_ROAD_SYSTEM,
+    /**
+     * Checking all elements of the road system with every criterion.
+     */
+    CHECK_ALL
+  }
+
+  private volatile boolean enabled;
+  private final Map<PlausibilityCriterion, Stats> criterionStats = new ConcurrentHashMap<>();
+  // holds an entry for every operation from the start and is only read afterwards.
+  private final Map<Operation, Stats> operationStats = new EnumMap<>(Operation.class);
+  private ScheduledExecutorService logExecutor;
+
+  /**
+   * Creates new metrics with recording disabled.
+   */
+  public PlausibilityMetrics() {
+    for (Operation operation : Operation.values()) {
+      operationStats.put(operation, new Stats());
+    }
+  }
+
+  /**
+   * Returns whether metrics are recorded.
+   *
+   * @return {@code true} if metrics are recorded, {@code false} by default.
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Switches recording metrics on or off. Metrics recorded so far are kept.
+   *
+   * @param enabled whether metrics should be recorded.
+   */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Records a check of a segment, or a bulk check of several segments, by the given criterion.
+   * Does nothing if recording is disabled.
+   *
+   * @param criterion the criterion that checked.
+   * @param nanos the time the check took in nanoseconds.
+   */
+  public void recordCheck(PlausibilityCriterion criterion, long nanos) {
+    if (enabled) {
+      getStats(criterion).record(nanos);
+    }
+  }
+
+  /**
+   * Records that a violation of the given criterion was added.
+   * Does nothing if recording is disabled.
+   *
+   * @param criterion the violated criterion.
+   */
+  public void recordViolationAdded(PlausibilityCriterion criterion) {
+    if (enabled) {
+      getStats(criterion).violationsAdded.increment();
+    }
+  }
+
+  /**
+   * Records that a violation of the given criterion was removed.
+   * Does nothing if recording is disabled.
+   *
+   * @param criterion the violated criterion.
+   */
+  public void recordViolationRemoved(PlausibilityCriterion criterion) {
+    if (enabled) {
+      getStats(criterion).violationsRemoved.increment();
+    }
+  }
+
+  /**
+   * Records an invocation of the given operation. Does nothing if recording is disabled.
+   *
+   * @param operation the operation that was invoked, may not be {@code null}.
+   * @param nanos the time the operation took in nanoseconds.
+   */
+  public void recordOperation(Operation operation, long nanos) {
+    if (enabled) {
+      operationStats.get(Objects.requireNonNull(operation)).record(nanos);
+    }
+  }
+
+  private Stats getStats(PlausibilityCriterion criterion) {
+    return criterionStats.computeIfAbsent(Objects.requireNonNull(criterion), c -> new Stats());
+  }
+
+  /**
+   * Returns the metrics recorded for the given criterion.
+   *
+   * @param criterion the criterion to get the metrics of, may not be {@code null}.
+   * @return the metrics of the criterion, all zero if none were recorded.
+   */
+  public MetricsSnapshot getCriterionMetrics(PlausibilityCriterion criterion) {
+    Stats stats = criterionStats.get(Objects.requireNonNull(criterion));
+    return (stats == null ? new Stats() : stats).snapshot(getName(criterion));
+  }
+
+  /**
+   * Returns the metrics recorded for every criterion, starting with the criterion whose checks
+   * took the longest in total.
+   *
+   * @return a {@link SortedBox} containing the metrics of the criteria metrics were recorded for.
+   */
+  public SortedBox<MetricsSnapshot> getCriteriaMetrics() {
+    List<MetricsSnapshot> snapshots = new ArrayList<>();
+    criterionStats.forEach((criterion, stats) ->
+        snapshots.add(stats.snapshot(getName(criterion))));
+    snapshots.sort(Comparator.comparingLong(MetricsSnapshot::totalNanos).reversed());
+    return new RoseSortedBox<>(snapshots);
+  }
+
+  /**
+   * Returns the metrics recorded for the given operation.
+   *
+   * @param operation the operation to get the metrics of, may not be {@code null}.
+   * @return the metrics of the operation.
+   */
+  public MetricsSnapshot getOperationMetrics(Operation operation) {
+    return operationStats.get(Objects.requireNonNull(operation)).snapshot(operation.name());
+  }
+
+  /**
+   * Drops the metrics recorded for the given criterion, needs to be called when a criterion is
+   * removed.
+   *
+   * @param criterion the criterion to drop the metrics of.
+   */
+  public void forget(PlausibilityCriterion criterion) {
+    criterionStats.remove(criterion);
+  }
+
+  /**
+   * Drops all recorded metrics.
+   */
+  public void reset() {
+    criterionStats.clear();
+    operationStats.values().forEach(Stats::reset);
+  }
+
+  /**
+   * Logs a line with the recorded metrics with the given period, until {@link #stopLogging()} is
+   * called. Replaces a previously started periodic log.
+   *
+   * @param period the time between two log lines, must be positive.
+   * @throws IllegalArgumentException if the period is not positive.
+   */
+  public synchronized void startLogging(Duration period) {
+    if (period.isNegative() || period.isZero()) {
+      throw new IllegalArgumentException("period must be positive");
+    }
+    stopLogging();
+    logExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "plausibility-metrics");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long millis = period.toMillis();
+    logExecutor.scheduleAtFixedRate(this::log, millis, millis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Stops logging the recorded metrics periodically.
+   */
+  public synchronized void stopLogging() {
+    if (logExecutor != null) {
+      logExecutor.shutdownNow();
+      logExecutor = null;
+    }
+  }
+
+  @Override
+  public void close() {
+    stopLogging();
+  }
+
+  private void log() {
+    StringJoiner line = new StringJoiner("; ");
+    for (Operation operation : Operation.values()) {
+      MetricsSnapshot snapshot = getOperationMetrics(operation);
+      if (snapshot.invocations() > 0) {
+        line.add(format(snapshot));
+      }
+    }
+    for (MetricsSnapshot snapshot : getCriteriaMetrics()) {
+      line.add(format(snapshot));
+    }
+    if (line.length() > 0) {
+      LOG.info("plausibility metrics: {}", line);
+    }
+  }
+
+  private static String format(MetricsSnapshot snapshot) {
+    return String.format("%s n=%d total=%.1fms p50=%.1fus p99=%.1fus max=%.1fus +%d -%d",
+        snapshot.name(), snapshot.invocations(), snapshot.totalNanos() / NANOS_PER_MILLI,
+        snapshot.medianNanos() / NANOS_PER_MICRO, snapshot.p99Nanos() / NANOS_PER_MICRO,
+        snapshot.maxNanos() / NANOS_PER_MICRO, snapshot.violationsAdded(),
+        snapshot.violationsRemoved());
+  }
+
+  private static String getName(PlausibilityCriterion criterion) {
+    String name = criterion.getName();
+    return name == null || name.isEmpty()
+        ? String.valueOf(criterion.getType())
+        : criterion.getType() + " " + name;
+  }
+
+  /**
+   * The metrics of a single criterion or operation. Latencies are counted in a histogram whose
+   * buckets split every power of two into four, so a percentile is off by at most a quarter.
+   */
+  private static final class Stats {
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder violationsAdded = new LongAdder();
+    private final LongAdder violationsRemoved = new LongAdder();
+
+    private void record(long nanos) {
+      long latency = Math.max(nanos, 0);
+      invocations.increment();
+      totalNanos.add(latency);
+      maxNanos.accumulate(latency);
+      buckets.incrementAndGet(bucketOf(latency));
+    }
+
+    private static int bucketOf(long nanos) {
+      if (nanos < SUB_BUCKETS) {
+        return (int) nanos;
+      }
+      int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+      int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+      return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundOf(int bucket) {
+      if (bucket < SUB_BUCKETS) {
+        return bucket;
+      }
+      int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+      long base = 1L << exponent;
+      long width = base >>> SUB_BUCKET_BITS;
+      return base + (bucket % SUB_BUCKETS + 1) * width - 1;
+    }
+
+    private MetricsSnapshot snapshot(String name) {
+      long[] counts = new long[BUCKET_COUNT];
+      long count = 0;
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+        counts[i] = buckets.get(i);
+        count += counts[i];
+      }
+      long max = maxNanos.get();
+      return new MetricsSnapshot(name, invocations.sum(), totalNanos.sum(),
+          percentile(counts, count, MEDIAN, max), percentile(counts, count, P90, max),
+          percentile(counts, count, P99, max), max, violationsAdded.sum(),
+          violationsRemoved.sum());
+    }
+
+    private static long percentile(long[] counts, long count, double fraction, long max) {
+      long rank = (long) Math.ceil(fraction * count);
+      long seen = 0;
+      for (int i = 0; i < counts.length; i++) {
+        seen += counts[i];
+        if (seen >= rank && seen > 0) {
+          return Math.min(upperBoundOf(i), max);
+        }
+      }
+      return 0;
+    }
+
+    private void reset() {
+      invocations.reset();
+      totalNanos.reset();
+      maxNanos.reset();
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+        buckets.set(i, 0);
+      }
+      violationsAdded.reset();
+      violationsRemoved.reset();
+    }
+  }
+}
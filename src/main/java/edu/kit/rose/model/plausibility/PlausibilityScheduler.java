@@ -0,0 +1,509 @@
+package edu.kit.rose.model.plausibility;
+
+import edu.kit.rose.infrastructure.SetObserver;
+import edu.kit.rose.model.plausibility.criteria.CriteriaManager;
+import edu.kit.rose.model.plausibility.criteria.PlausibilityCriterion;
+import edu.kit.rose.model.plausibility.criteria.SnapshotCheck;
+import edu.kit.rose.model.plausibility.violation.ViolationBuffer;
+import edu.kit.rose.model.plausibility.violation.ViolationManager;
+import edu.kit.rose.model.roadsystem.attributes.AttributeType;
+import edu.kit.rose.model.roadsystem.elements.Element;
+import edu.kit.rose.model.roadsystem.elements.Segment;
+import edu.kit.rose.model.roadsystem.elements.SegmentChangeObserver;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Decides when the {@link PlausibilityCriterion}s of a {@link CriteriaManager} check a
+ * {@link Segment}.
+ * The scheduler observes the segments of a road system in place of the individual criteria. Every
+ * change of a segment is passed on to all criteria right away, unless the change happens inside
+ * {@link #defer(Runnable)}: then the segment is only marked as dirty and checked once by every
+ * criterion after the deferred changes completed, no matter how often it changed.
+ * If a segment reports which of its attributes changed, or that only its connections changed,
+ * the segment is only checked by the criteria that
+ * {@link PlausibilityCriterion#getAttributeDependencies() depend on that attribute} or
+ * {@link PlausibilityCriterion#dependsOnTopology() on the connections}.
+ * Large numbers of segments are checked in parallel by the criteria that
+ * {@link PlausibilityCriterion#supportsParallelChecks() support it}, unless this is switched off
+ * with {@link #setParallel(boolean)}. Criteria that
+ * {@link PlausibilityCriterion#supportsBulkChecks() support bulk checks} are handed all segments
+ * of a check at once instead.
+ * If a publisher is {@link #setPublisher(Executor) set}, criteria that
+ * {@link PlausibilityCriterion#snapshotSegments(List) support it} evaluate large checks on a
+ * background thread instead. Their results are applied through the publisher, leaving out the
+ * segments that changed since the check started.
+ * If its {@link PlausibilityMetrics} are enabled, the scheduler records how long every check of a
+ * criterion takes, a bulk check counts as a single check.
+ */
+public class PlausibilityScheduler
+    implements SetObserver<Element, Element>, SegmentChangeObserver {
+  private static final int PARALLEL_THRESHOLD = 512;
+  private static final int SEGMENTS_PER_TASK = 128;
+
+  private final CriteriaManager criteriaManager;
+  private final PlausibilityMetrics metrics = new PlausibilityMetrics();
+  private final Map<Segment, PendingChange> dirtySegments = new LinkedHashMap<>();
+  private int deferDepth;
+  private boolean parallel = true;
+  private Executor publisher;
+  private ExecutorService worker;
+  // counts the changes of segments, the version of the last change of a segment is only kept
+  // while background checks are pending.
+  private long changeVersion;
+  private final Map<Segment, Long> changeVersions = new HashMap<>();
+  private int pendingSnapshotChecks;
+
+  /**
+   * Creates a new scheduler that checks segments with the criteria of the given manager.
+   *
+   * @param criteriaManager the manager that holds the criteria to check with, may not be
+   *     {@code null}.
+   */
+  public PlausibilityScheduler(CriteriaManager criteriaManager) {
+    this.criteriaManager = Objects.requireNonNull(criteriaManager);
+  }
+
+  /**
+   * Runs the given changes and checks the segments they changed afterwards.
+   * Calls may be nested, the dirty segments are checked when the outermost call completes.
+   *
+   * @param changes the changes to run, may not be {@code null}.
+   */
+  public void defer(Runnable changes) {
+    Objects.requireNonNull(changes);
+    deferDepth++;
+    try {
+      changes.run();
+    } finally {
+      if (--deferDepth == 0) {
+        flush();
+      }
+    }
+  }
+
+  /**
+   * Returns whether checks are currently deferred.
+   *
+   * @return {@code true} if this is called from within {@link #defer(Runnable)}.
+   */
+  public boolean isDeferring() {
+    return deferDepth > 0;
+  }
+
+  /**
+   * Returns whether large numbers of segments are checked in parallel.
+   *
+   * @return {@code true} if parallel checks are enabled, which is the default.
+   */
+  public boolean isParallel() {
+    return parallel;
+  }
+
+  /**
+   * Switches parallel checks on or off. With parallel checks switched off, every segment is
+   * checked on the calling thread, one after the other.
+   *
+   * @param parallel whether large numbers of segments should be checked in parallel.
+   */
+  public void setParallel(boolean parallel) {
+    this.parallel = parallel;
+  }
+
+  /**
+   * Lets criteria that {@link PlausibilityCriterion#snapshotSegments(List) support it} evaluate
+   * the large checks of {@link #check(List)} and {@link #flush()} on a background thread.
+   * Their results are handed to the given publisher, which has to run them on the thread that
+   * changes the road system, like {@code Platform::runLater}. The results are applied in the
+   * order the checks started.
+   *
+   * @param publisher the executor to apply the results of background checks with, or
+   *     {@code null} to check every segment on the calling thread, which is the default.
+   */
+  public void setPublisher(Executor publisher) {
+    this.publisher = publisher;
+    if (publisher != null && worker == null) {
+      worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "plausibility-worker");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
+
+  /**
+   * Returns the metrics of the checks of this scheduler, which are disabled by default.
+   *
+   * @return the metrics of this scheduler.
+   */
+  public PlausibilityMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Checks the given segment with every criterion, or marks it as dirty if checks are deferred.
+   *
+   * @param segment the segment to check, may not be {@code null}.
+   */
+  public void schedule(Segment segment) {
+    Objects.requireNonNull(segment);
+    markChanged(segment);
+    if (isDeferring()) {
+      getPendingChange(segment).everything = true;
+    } else {
+      checkNow(segment, null);
+    }
+  }
+
+  /*
+   * Checks the segment with the criteria affected by the given change.
+   */
+  private void checkNow(Segment segment, PendingChange change) {
+    check(segment, criteriaManager.getCriteria(), change, metrics);
+  }
+
+  /*
+   * Records the change of a segment, so results of background checks that started earlier leave
+   * the segment out.
+   */
+  private void markChanged(Segment segment) {
+    changeVersion++;
+    if (pendingSnapshotChecks > 0) {
+      changeVersions.put(segment, changeVersion);
+    }
+  }
+
+  private PendingChange getPendingChange(Segment segment) {
+    return dirtySegments.computeIfAbsent(segment, s -> new PendingChange());
+  }
+
+  /**
+   * Drops a pending check of the given segment, needs to be called when a segment is removed
+   * from the road system while checks are deferred.
+   *
+   * @param segment the segment that should not be checked anymore.
+   */
+  public void cancel(Segment segment) {
+    dirtySegments.remove(segment);
+  }
+
+  /**
+   * Checks all dirty segments right away. The results of background checks are applied later.
+   */
+  public void flush() {
+    while (!dirtySegments.isEmpty()) {
+      var changes = new LinkedHashMap<>(dirtySegments);
+      dirtySegments.clear();
+      check(new ArrayList<>(changes.keySet()), changes);
+    }
+  }
+
+  /**
+   * Checks the given segments with every criterion right away.
+   * If parallel checks are enabled and there are enough segments, they are split into tasks for
+   * the common {@link ForkJoinPool}. Each task checks its segments with the criteria that support
+   * parallel checks and collects the resulting violation changes in its own buffer. The buffers
+   * are applied to the {@link ViolationManager} in one step before the remaining criteria check
+   * the segments on the calling thread. If a {@link #setPublisher(Executor) publisher} is set,
+   * the results of the criteria that support snapshot checks are applied later through it.
+   *
+   * @param segments the segments to check, may not be {@code null}.
+   */
+  public void check(List<Segment> segments) {
+    check(Objects.requireNonNull(segments), null);
+  }
+
+  /*
+   * Checks the given segments with the criteria their pending changes affect, or with every
+   * criterion if changes is null.
+   */
+  private void check(List<Segment> segments, Map<Segment, PendingChange> changes) {
+    ViolationManager violationManager = criteriaManager.getViolationManager();
+    if (!parallel || violationManager == null || segments.size() < PARALLEL_THRESHOLD) {
+      checkSerially(segments, criteriaManager.getCriteria(), changes, metrics);
+      return;
+    }
+
+    List<PlausibilityCriterion> parallelCriteria = new ArrayList<>();
+    List<PlausibilityCriterion> serialCriteria = new ArrayList<>();
+    for (PlausibilityCriterion criterion : criteriaManager.getCriteria()) {
+      if (publisher != null && checkInBackground(segments, criterion, changes)) {
+        continue;
+      }
+      if (criterion.supportsBulkChecks()) {
+        checkInBulk(segments, criterion, changes, metrics);
+      } else if (criterion.supportsParallelChecks()) {
+        parallelCriteria.add(criterion);
+      } else {
+        serialCriteria.add(criterion);
+      }
+    }
+
+    if (!parallelCriteria.isEmpty()) {
+      violationManager.apply(ForkJoinPool.commonPool().invoke(
+          new CheckTask(segments, changes, parallelCriteria, violationManager, metrics)));
+    }
+    for (Segment segment : segments) {
+      check(segment, serialCriteria, changes == null ? null : changes.get(segment), metrics);
+    }
+  }
+
+  /*
+   * Checks the segments on the calling thread, handing them to the criteria that support bulk
+   * checks all at once.
+   */
+  private static void checkSerially(List<Segment> segments,
+                                    Iterable<PlausibilityCriterion> criteria,
+                                    Map<Segment, PendingChange> changes,
+                                    PlausibilityMetrics metrics) {
+    List<PlausibilityCriterion> remainingCriteria = new ArrayList<>();
+    for (PlausibilityCriterion criterion : criteria) {
+      if (criterion.supportsBulkChecks() && segments.size() > 1) {
+        checkInBulk(segments, criterion, changes, metrics);
+      } else {
+        remainingCriteria.add(criterion);
+      }
+    }
+    for (Segment segment : segments) {
+      check(segment, remainingCriteria, changes == null ? null : changes.get(segment), metrics);
+    }
+  }
+
+  /*
+   * Reads the segments whose pending changes affect the criterion into a snapshot check and
+   * evaluates it on the worker. Returns false if the criterion does not support snapshot checks.
+   */
+  private boolean checkInBackground(List<Segment> segments, PlausibilityCriterion criterion,
+                                    Map<Segment, PendingChange> changes) {
+    List<Segment> affectedSegments = getAffectedSegments(segments, criterion, changes);
+    if (affectedSegments.isEmpty()) {
+      return true;
+    }
+    long start = metrics.isEnabled() ? System.nanoTime() : 0;
+    SnapshotCheck snapshot = criterion.snapshotSegments(affectedSegments);
+    if (snapshot == null) {
+      return false;
+    }
+    if (metrics.isEnabled()) {
+      // only the time the calling thread spends is recorded
+      metrics.recordCheck(criterion, System.nanoTime() - start);
+    }
+    long snapshotVersion = changeVersion;
+    Executor resultPublisher = publisher;
+    pendingSnapshotChecks++;
+    worker.execute(() -> {
+      RuntimeException failure = null;
+      try {
+        snapshot.evaluate();
+      } catch (RuntimeException e) {
+        failure = e;
+      }
+      RuntimeException evaluationFailure = failure;
+      resultPublisher.execute(
+          () -> publish(criterion, snapshot, snapshotVersion, evaluationFailure));
+    });
+    return true;
+  }
+
+  /*
+   * Applies the result of a background check on the thread that changes the road system, unless
+   * the criterion was removed in the meantime. A failed evaluation is thrown here, like the
+   * failure of a check on the calling thread.
+   */
+  private void publish(PlausibilityCriterion criterion, SnapshotCheck snapshot,
+                       long snapshotVersion, RuntimeException failure) {
+    try {
+      if (failure != null) {
+        throw failure;
+      }
+      if (criteriaManager.getCriteria().contains(criterion)) {
+        snapshot.apply(segment -> changeVersions.getOrDefault(segment, 0L) <= snapshotVersion);
+      }
+    } finally {
+      if (--pendingSnapshotChecks == 0) {
+        changeVersions.clear();
+      }
+    }
+  }
+
+  /*
+   * Checks the segments whose pending changes affect the criterion with a single bulk check.
+   */
+  private static void checkInBulk(List<Segment> segments, PlausibilityCriterion criterion,
+                                  Map<Segment, PendingChange> changes,
+                                  PlausibilityMetrics metrics) {
+    List<Segment> affectedSegments = getAffectedSegments(segments, criterion, changes);
+    if (affectedSegments.isEmpty()) {
+      return;
+    }
+    if (metrics.isEnabled()) {
+      long start = System.nanoTime();
+      criterion.checkSegments(affectedSegments);
+      metrics.recordCheck(criterion, System.nanoTime() - start);
+    } else {
+      criterion.checkSegments(affectedSegments);
+    }
+  }
+
+  private static List<Segment> getAffectedSegments(List<Segment> segments,
+                                                   PlausibilityCriterion criterion,
+                                                   Map<Segment, PendingChange> changes) {
+    if (changes == null) {
+      return segments;
+    }
+    List<Segment> affectedSegments = new ArrayList<>(segments.size());
+    for (Segment segment : segments) {
+      PendingChange change = changes.get(segment);
+      if (change == null || change.affects(criterion)) {
+        affectedSegments.add(segment);
+      }
+    }
+    return affectedSegments;
+  }
+
+  /*
+   * Checks the segment with the given criteria that are affected by the given change, or with all
+   * of them if the change is null.
+   */
+  private static void check(Segment segment, Iterable<PlausibilityCriterion> criteria,
+                            PendingChange change, PlausibilityMetrics metrics) {
+    boolean measured = metrics.isEnabled();
+    for (PlausibilityCriterion criterion : criteria) {
+      if (change != null && !change.affects(criterion)) {
+        continue;
+      }
+      if (measured) {
+        long start = System.nanoTime();
+        criterion.notifyChange(segment);
+        metrics.recordCheck(criterion, System.nanoTime() - start);
+      } else {
+        criterion.notifyChange(segment);
+      }
+    }
+  }
+
+  /**
+   * The changes of a dirty segment that were not checked yet.
+   */
+  private static final class PendingChange {
+    private boolean everything;
+    private boolean topology;
+    private final Set<AttributeType> attributes = EnumSet.noneOf(AttributeType.class);
+
+    private boolean affects(PlausibilityCriterion criterion) {
+      if (everything || topology && criterion.dependsOnTopology()) {
+        return true;
+      }
+      Set<AttributeType> dependencies = criterion.getAttributeDependencies();
+      for (AttributeType attribute : attributes) {
+        if (dependencies.contains(attribute)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Checks a range of segments, splitting it in halves until it is small enough.
+   */
+  private static class CheckTask extends RecursiveTask<List<ViolationBuffer>> {
+    private final List<Segment> segments;
+    private final Map<Segment, PendingChange> changes;
+    private final List<PlausibilityCriterion> criteria;
+    private final ViolationManager violationManager;
+    private final PlausibilityMetrics metrics;
+
+    CheckTask(List<Segment> segments, Map<Segment, PendingChange> changes,
+              List<PlausibilityCriterion> criteria, ViolationManager violationManager,
+              PlausibilityMetrics metrics) {
+      this.segments = segments;
+      this.changes = changes;
+      this.criteria = criteria;
+      this.violationManager = violationManager;
+      this.metrics = metrics;
+    }
+
+    @Override
+    protected List<ViolationBuffer> compute() {
+      if (segments.size() <= SEGMENTS_PER_TASK) {
+        return List.of(violationManager.collect(() -> {
+          for (Segment segment : segments) {
+            check(segment, criteria, changes == null ? null : changes.get(segment), metrics);
+          }
+        }));
+      }
+      int middle = segments.size() / 2;
+      var left = new CheckTask(segments.subList(0, middle), changes, criteria, violationManager,
+          metrics);
+      var right = new CheckTask(segments.subList(middle, segments.size()), changes, criteria,
+          violationManager, metrics);
+      left.fork();
+      List<ViolationBuffer> rightBuffers = right.compute();
+      List<ViolationBuffer> buffers = new ArrayList<>(left.join());
+      buffers.addAll(rightBuffers);
+      return buffers;
+    }
+  }
+
+  @Override
+  public void notifyChange(Element unit) {
+    if (!unit.isContainer()) {
+      schedule((Segment) unit);
+    }
+  }
+
+  @Override
+  public void notifyAttributeChange(Segment segment, AttributeType type) {
+    markChanged(segment);
+    PendingChange change = isDeferring() ? getPendingChange(segment) : new PendingChange();
+    change.attributes.add(type);
+    if (!isDeferring()) {
+      checkNow(segment, change);
+    }
+  }
+
+  @Override
+  public void notifyTopologyChange(Segment segment) {
+    markChanged(segment);
+    PendingChange change = isDeferring() ? getPendingChange(segment) : new PendingChange();
+    change.topology = true;
+    if (!isDeferring()) {
+      checkNow(segment, change);
+    }
+  }
+
+  @Override
+  public void notifyAddition(Element unit) {
+    notifyChange(unit);
+  }
+
+  /**
+   * Drops the pending check of a segment that was removed from the road system and lets every
+   * criterion remove the violations of the segment. Segments do not notify their subscribers of
+   * their removal, the road system calls this when it removes a segment.
+   *
+   * @param unit the removed element.
+   */
+  @Override
+  public void notifyRemoval(Element unit) {
+    if (!unit.isContainer()) {
+      markChanged((Segment) unit);
+      cancel((Segment) unit);
+    }
+    for (PlausibilityCriterion criterion : criteriaManager.getCriteria()) {
+      criterion.notifyRemoval(unit);
+    }
+  }
+}
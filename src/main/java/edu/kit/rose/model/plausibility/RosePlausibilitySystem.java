@@ -3,6 +3,9 @@ package edu.kit.rose.model.plausibility;
 import edu.kit.rose.model.plausibility.criteria.CriteriaManager;
 import edu.kit.rose.model.plausibility.violation.ViolationManager;
 import edu.kit.rose.model.roadsystem.RoadSystem;
+import edu.kit.rose.model.roadsystem.elements.Segment;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -39,10 +42,22 @@ public class RosePlausibilitySystem implements PlausibilitySystem {
 
   @Override
   public void checkAll() {
-    for (var criterion : criteriaManager.getCriteria()) {
-      for (var element : roadSystem.getElements()) {
-        criterion.notifyChange(element);
+    var plausibilityScheduler = criteriaManager.getPlausibilityScheduler();
+    PlausibilityMetrics metrics = plausibilityScheduler.getMetrics();
+    long start = metrics.isEnabled() ? System.nanoTime() : 0;
+    List<Segment> segments = new ArrayList<>();
+    for (var element : roadSystem.getElements()) {
+      if (element instanceof Segment segment) {
+        segments.add(segment);
+      } else {
+        for (var criterion : criteriaManager.getCriteria()) {
+          criterion.notifyChange(element);
+        }
       }
     }
+    plausibilityScheduler.check(segments);
+    if (metrics.isEnabled()) {
+      metrics.recordOperation(PlausibilityMetrics.Operation.CHECK_ALL, System.nanoTime() - start);
+    }
   }
 }
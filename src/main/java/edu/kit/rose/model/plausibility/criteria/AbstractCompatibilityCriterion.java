@@ -3,18 +3,19 @@ package edu.kit.rose.model.plausibility.criteria;
 import edu.kit.rose.infrastructure.Box;
 import edu.kit.rose.infrastructure.RoseBox;
 import edu.kit.rose.infrastructure.RoseSetObservable;
-import edu.kit.rose.infrastructure.SortedBox;
 import edu.kit.rose.model.plausibility.violation.Violation;
 import edu.kit.rose.model.plausibility.violation.ViolationManager;
 import edu.kit.rose.model.roadsystem.RoadSystem;
 import edu.kit.rose.model.roadsystem.elements.Element;
 import edu.kit.rose.model.roadsystem.elements.Segment;
 import edu.kit.rose.model.roadsystem.elements.SegmentType;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import org.apache.commons.collections4.MultiValuedMap;
-import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
 
 /**
  *  An Abstract CompatibilityCriterion holds the Methods that are needed to create a Criterion
@@ -23,7 +24,8 @@ import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
 public abstract class AbstractCompatibilityCriterion extends RoseSetObservable<SegmentType,
     PlausibilityCriterion> implements PlausibilityCriterion {
 
-  private final MultiValuedMap<Element, Violation> elementViolationMap;
+  // maps each segment to its violations, keyed by the other segment of the violating pair
+  private final Map<Segment, Map<Segment, Violation>> elementViolationMap;
   private final Set<SegmentType> segmentTypes;
   private String name;
   private RoadSystem roadSystem;
@@ -42,7 +44,7 @@ public abstract class AbstractCompatibilityCriterion extends RoseSetObservable<S
     this.name = "";
     this.roadSystem = roadSystem;
     this.violationManager = violationManager;
-    this.elementViolationMap = new HashSetValuedHashMap<>();
+    this.elementViolationMap = new HashMap<>();
     this.segmentTypes = new HashSet<>();
   }
 
@@ -78,13 +80,9 @@ public abstract class AbstractCompatibilityCriterion extends RoseSetObservable<S
   public void setViolationManager(ViolationManager violationManager) {
     if (this.violationManager != violationManager) {
       if (this.violationManager != null) {
-        SortedBox<Violation> violations = this.violationManager.getViolations();
-        for (var violation : violations) {
-          if (violation.violatedCriterion() == this) {
-            this.violationManager.removeViolation(violation);
-          }
-        }
+        this.violationManager.removeViolationsOfCriterion(this);
       }
+      this.elementViolationMap.clear();
       this.violationManager = violationManager;
       checkAll();
     }
@@ -114,16 +112,24 @@ public abstract class AbstractCompatibilityCriterion extends RoseSetObservable<S
 
   @Override
   public void notifyRemoval(Element unit) {
+    if (!unit.isContainer()) {
+      removeViolationsOfSegment((Segment) unit);
+    }
   }
 
+  /**
+   * Removes all violations the given segment is part of.
+   *
+   * @param segment the segment whose violations should be removed.
+   */
   protected void removeViolationsOfSegment(Segment segment) {
-    HashSetValuedHashMap<Element, Violation> elementViolationMapCopy =
-        new HashSetValuedHashMap<>(elementViolationMap);
-    if (elementViolationMap.containsKey(segment)) {
-      for (Violation vio : elementViolationMapCopy.get(segment)) {
-        this.violationManager.removeViolation(vio);
-        elementViolationMap.removeMapping(segment, vio);
-      }
+    Map<Segment, Violation> violations = elementViolationMap.remove(segment);
+    if (violations == null) {
+      return;
+    }
+    for (Map.Entry<Segment, Violation> entry : violations.entrySet()) {
+      removeViolationEntry(entry.getKey(), segment);
+      this.violationManager.removeViolation(entry.getValue());
     }
   }
 
@@ -138,7 +144,7 @@ public abstract class AbstractCompatibilityCriterion extends RoseSetObservable<S
     }
     Segment segment = (Segment) unit;
 
-    //The Criterion does not know when a segment gets removed.
+    //A segment may still be checked after it was removed from the RoadSystem.
     //So here we check if it is still part of the RoadSystem and remove all Violations if it is not.
     if (!this.roadSystem.getElements().contains(segment)) {
       removeViolationsOfSegment(segment);
@@ -150,35 +156,55 @@ public abstract class AbstractCompatibilityCriterion extends RoseSetObservable<S
 
   protected abstract void checkCriterion(Segment segment);
 
+  /**
+   * Updates the violations of the given segment to match the given offending segments.
+   * The violation of a pair of segments is shared by both segments, so the latest check of
+   * either segment decides whether the pair violates this criterion. Only the pairs of the given
+   * segment are looked at, pairs that still violate this criterion keep their violation.
+   *
+   * @param invalidSegments the segments the given segment is incompatible with.
+   * @param segment the checked segment.
+   */
   protected void updateViolations(List<Segment> invalidSegments, Segment segment) {
     if (this.violationManager == null) {
       return;
     }
-    HashSetValuedHashMap<Element, Violation> elementViolationMapCopy =
-        new HashSetValuedHashMap<>(elementViolationMap);
-    if (!invalidSegments.isEmpty()
-        && this.segmentTypes.contains((segment).getSegmentType())) {
-      if (elementViolationMapCopy.containsKey(segment)) {
-        for (Violation vio : elementViolationMapCopy.get(segment)) {
-          if (vio.offendingSegments().size() != invalidSegments.size()
-              || !vio.offendingSegments().containsAll(invalidSegments)) {
-
-            if (this.elementViolationMap.containsKey(segment)) {
-              this.violationManager.removeViolation(vio);
-              elementViolationMap.removeMapping(segment, vio);
-            }
-          }
-        }
+    if (invalidSegments.isEmpty() || !this.segmentTypes.contains(segment.getSegmentType())) {
+      removeViolationsOfSegment(segment);
+      return;
+    }
+
+    Set<Segment> offendingSegments = new HashSet<>(invalidSegments);
+    Map<Segment, Violation> violations =
+        elementViolationMap.computeIfAbsent(segment, s -> new LinkedHashMap<>());
+    Iterator<Map.Entry<Segment, Violation>> iterator = violations.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<Segment, Violation> entry = iterator.next();
+      if (!offendingSegments.contains(entry.getKey())) {
+        removeViolationEntry(entry.getKey(), segment);
+        this.violationManager.removeViolation(entry.getValue());
+        iterator.remove();
       }
+    }
 
-      for (Segment seg : invalidSegments) {
+    for (Segment seg : invalidSegments) {
+      if (!violations.containsKey(seg)) {
         Violation violation = new Violation(this, List.of(seg, segment));
+        violations.put(seg, violation);
+        elementViolationMap.computeIfAbsent(seg, s -> new LinkedHashMap<>())
+            .put(segment, violation);
         this.violationManager.addViolation(violation);
-        this.elementViolationMap.put(segment, violation);
       }
+    }
+  }
 
-    } else {
-      removeViolationsOfSegment(segment);
+  private void removeViolationEntry(Segment segment, Segment other) {
+    Map<Segment, Violation> violations = elementViolationMap.get(segment);
+    if (violations != null) {
+      violations.remove(other);
+      if (violations.isEmpty()) {
+        elementViolationMap.remove(segment);
+      }
     }
   }
 
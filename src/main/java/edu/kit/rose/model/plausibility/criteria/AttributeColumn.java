@@ -0,0 +1,124 @@
+package edu.kit.rose.model.plausibility.criteria;
+
+import edu.kit.rose.model.roadsystem.DataType;
+import edu.kit.rose.model.roadsystem.attributes.AttributeType;
+import edu.kit.rose.model.roadsystem.elements.Segment;
+import edu.kit.rose.model.roadsystem.elements.SegmentType;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A snapshot of a numeric attribute of a list of {@link Segment}s, read once into a primitive
+ * array so criteria can evaluate all of the segments in a tight loop without boxing.
+ * The entry of a segment is found at the index of the segment in the list. Only segments of the
+ * given segment types are read, two bitmaps record which segments were read and which of them
+ * have a value for the attribute.
+ */
+final class AttributeColumn {
+  private final double[] values;
+  private final BitSet includedSegments;
+  private final BitSet setValues;
+
+  private AttributeColumn(int size) {
+    this.values = new double[size];
+    this.includedSegments = new BitSet(size);
+    this.setValues = new BitSet(size);
+  }
+
+  /**
+   * Reads the values of the given attribute of the segments of the given types.
+   *
+   * @param segments the segments to read the attribute of, may not be {@code null}.
+   * @param type the attribute to read, must have the integer or the fractional data type.
+   * @param segmentTypes the types of the segments to read, may not be {@code null}.
+   * @return the column holding the values of the attribute.
+   * @throws IllegalArgumentException if the attribute is not numeric.
+   */
+  static AttributeColumn of(List<Segment> segments, AttributeType type,
+                            Set<SegmentType> segmentTypes) {
+    Objects.requireNonNull(segments);
+    Objects.requireNonNull(segmentTypes);
+    if (!isNumeric(type)) {
+      throw new IllegalArgumentException("only numeric attributes can be read into a column");
+    }
+    boolean integer = type.getDataType() == DataType.INTEGER;
+    AttributeColumn column = new AttributeColumn(segments.size());
+    int index = 0;
+    for (Segment segment : segments) {
+      if (segmentTypes.contains(segment.getSegmentType())) {
+        column.includedSegments.set(index);
+        if (segment.hasAttributeValue(type)) {
+          column.setValues.set(index);
+          column.values[index] = integer
+              ? segment.getIntegerValue(type)
+              : segment.getFractionalValue(type);
+        }
+      }
+      index++;
+    }
+    return column;
+  }
+
+  /**
+   * Returns whether the given attribute can be read into a column.
+   *
+   * @param type the attribute type to check, may be {@code null}.
+   * @return {@code true} if the attribute has the integer or the fractional data type.
+   */
+  static boolean isNumeric(AttributeType type) {
+    return type != null && (type.getDataType() == DataType.INTEGER
+        || type.getDataType() == DataType.FRACTIONAL);
+  }
+
+  /**
+   * Returns the values of the segments, the entries of segments without a value are zero.
+   * The array is not copied and must not be changed.
+   *
+   * @return the values of the segments.
+   */
+  double[] getValues() {
+    return values;
+  }
+
+  /**
+   * Returns whether the segment at the given index is of one of the read segment types.
+   *
+   * @param index the index of the segment.
+   * @return {@code true} if the segment was read.
+   */
+  boolean isIncluded(int index) {
+    return includedSegments.get(index);
+  }
+
+  /**
+   * Returns whether the value of the attribute is set for the segment at the given index.
+   *
+   * @param index the index of the segment.
+   * @return {@code true} if the segment was read and has a value for the attribute.
+   */
+  boolean hasValue(int index) {
+    return setValues.get(index);
+  }
+
+  /**
+   * Returns a bitmap of the segments that were read.
+   * The bitmap is not copied and must not be changed.
+   *
+   * @return the bitmap that has the bits of the read segments set.
+   */
+  BitSet getIncludedSegments() {
+    return includedSegments;
+  }
+
+  /**
+   * Returns a bitmap of the segments that have a value for the attribute, which may be changed
+   * by the caller.
+   *
+   * @return a new bitmap that has the bits of the segments with a value set.
+   */
+  BitSet getSetValues() {
+    return (BitSet) setValues.clone();
+  }
+}
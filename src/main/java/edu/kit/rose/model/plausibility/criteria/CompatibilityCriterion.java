@@ -16,10 +16,16 @@ import edu.kit.rose.model.roadsystem.RoadSystem;
 import edu.kit.rose.model.roadsystem.attributes.AttributeAccessor;
 import edu.kit.rose.model.roadsystem.attributes.AttributeType;
 import edu.kit.rose.model.roadsystem.attributes.SpeedLimit;
+import edu.kit.rose.model.roadsystem.elements.Element;
 import edu.kit.rose.model.roadsystem.elements.Segment;
+import edu.kit.rose.model.roadsystem.elements.SegmentType;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Models a compatibility criterion. See Pflichtenheft: "Kompatibilitätskriterium"
@@ -41,9 +47,12 @@ public class CompatibilityCriterion extends AbstractCompatibilityCriterion {
           ValidationType.OR, NOT_USE_DISCREPANCY,
           ValidationType.LESS_THAN, USE_DISCREPANCY,
           ValidationType.LESS_THAN_SPEED_LIMIT, USE_DISCREPANCY);
-
+  // validation types that can compare numeric values read into an attribute column.
+  private static final Set<ValidationType> COLUMN_VALIDATION_TYPES =
+      EnumSet.of(ValidationType.EQUALS, ValidationType.NOT_EQUALS, ValidationType.LESS_THAN);
 
   private AttributeType attributeType;
+  private Set<AttributeType> attributeDependencies = Set.of();
   private ValidationType validationType;
   private double discrepancy;
 
@@ -78,6 +87,7 @@ public class CompatibilityCriterion extends AbstractCompatibilityCriterion {
   public void setAttributeType(AttributeType attributeType) {
     if (this.attributeType != attributeType) {
       this.attributeType = attributeType;
+      this.attributeDependencies = attributeType == null ? Set.of() : Set.of(attributeType);
       checkAll();
       notifySubscribers();
     }
@@ -142,6 +152,11 @@ public class CompatibilityCriterion extends AbstractCompatibilityCriterion {
   }
 
 
+  @Override
+  public Set<AttributeType> getAttributeDependencies() {
+    return this.attributeDependencies;
+  }
+
   @Override
   protected void checkCriterion(Segment segment) {
     if (this.validationType != null) {
@@ -158,12 +173,12 @@ public class CompatibilityCriterion extends AbstractCompatibilityCriterion {
     ArrayList<Segment> invalidSegments = new ArrayList<>();
     Box<Segment> adjacentSegments = this.getRoadSystem().getAdjacentSegments(segment);
     AttributeAccessor<?> segmentAccessor =
-            getAccessorOfType(segment.getAttributeAccessors(), this.attributeType);
+            getAccessorOfType(segment, this.attributeType);
 
     for (Segment adjacentSegment : adjacentSegments) {
       if (this.getSegmentTypes().contains(adjacentSegment.getSegmentType())) {
         AttributeAccessor<?> adjacentAccessor =
-                getAccessorOfType(adjacentSegment.getAttributeAccessors(), this.attributeType);
+                getAccessorOfType(adjacentSegment, this.attributeType);
         if (!checkValid(strategy, segmentAccessor, adjacentAccessor, useDiscrepancy)) {
           invalidSegments.add(adjacentSegment);
         }
@@ -172,14 +187,120 @@ public class CompatibilityCriterion extends AbstractCompatibilityCriterion {
     return invalidSegments;
   }
 
-  private AttributeAccessor<?> getAccessorOfType(SortedBox<AttributeAccessor<?>> accessors,
-                                                 AttributeType type) {
-    for (AttributeAccessor<?> accessor : accessors) {
-      if (accessor.getAttributeType().equals(type)) {
-        return accessor;
+  @Override
+  public boolean supportsBulkChecks() {
+    return true;
+  }
+
+  /**
+   * Checks all the given segments at once. If the attribute of this criterion is numeric and the
+   * validation type compares numbers, the road system is read once up front: the checked
+   * segments and their adjacent segments of the types of this criterion are numbered, the
+   * adjacency is stored as ranges of an index array and the attribute values are read into an
+   * {@link AttributeColumn}. The pairs of adjacent segments are then compared on the primitive
+   * values. Otherwise, the segments are checked one after the other.
+   */
+  @Override
+  public void checkSegments(List<Segment> segments) {
+    RoadSystem roadSystem = this.getRoadSystem();
+    if (roadSystem == null || !AttributeColumn.isNumeric(this.attributeType)
+        || !COLUMN_VALIDATION_TYPES.contains(this.validationType)) {
+      segments.forEach(this::notifyChange);
+      return;
+    }
+
+    Set<SegmentType> segmentTypes = EnumSet.noneOf(SegmentType.class);
+    this.getSegmentTypes().forEach(segmentTypes::add);
+    Box<Element> elements = roadSystem.getElements();
+    int checkedCount = segments.size();
+    List<Segment> columnSegments = new ArrayList<>(segments);
+    Map<Segment, Integer> indices = new IdentityHashMap<>(checkedCount);
+    for (int i = 0; i < checkedCount; i++) {
+      indices.put(segments.get(i), i);
+    }
+
+    // the adjacent segments of the checked segment i are at adjacency[adjacencyStart[i]] up to
+    // adjacency[adjacencyStart[i + 1] - 1], removed segments have no adjacent segments.
+    boolean[] removed = new boolean[checkedCount];
+    int[] adjacencyStart = new int[checkedCount + 1];
+    int[] adjacency = new int[2 * checkedCount];
+    int adjacencyCount = 0;
+    for (int i = 0; i < checkedCount; i++) {
+      adjacencyStart[i] = adjacencyCount;
+      Segment segment = segments.get(i);
+      if (!elements.contains(segment)) {
+        removed[i] = true;
+        continue;
+      }
+      requireAccessor(segment);
+      for (Segment adjacentSegment : roadSystem.getAdjacentSegments(segment)) {
+        if (!segmentTypes.contains(adjacentSegment.getSegmentType())) {
+          continue;
+        }
+        Integer index = indices.get(adjacentSegment);
+        if (index == null) {
+          requireAccessor(adjacentSegment);
+          index = columnSegments.size();
+          columnSegments.add(adjacentSegment);
+          indices.put(adjacentSegment, index);
+        }
+        if (adjacencyCount == adjacency.length) {
+          adjacency = Arrays.copyOf(adjacency, 2 * adjacency.length + 2);
+        }
+        adjacency[adjacencyCount++] = index;
+      }
+    }
+    adjacencyStart[checkedCount] = adjacencyCount;
+
+    AttributeColumn column = AttributeColumn.of(columnSegments, this.attributeType, segmentTypes);
+    double[] values = column.getValues();
+    for (int i = 0; i < checkedCount; i++) {
+      if (removed[i]) {
+        removeViolationsOfSegment(segments.get(i));
+        continue;
       }
+      List<Segment> invalidSegments = new ArrayList<>();
+      if (column.hasValue(i)) {
+        for (int k = adjacencyStart[i]; k < adjacencyStart[i + 1]; k++) {
+          int j = adjacency[k];
+          if (column.hasValue(j) && !validate(values[i], values[j])) {
+            invalidSegments.add(columnSegments.get(j));
+          }
+        }
+      }
+      updateViolations(invalidSegments, segments.get(i));
+    }
+  }
+
+  /*
+   * Compares two numeric values like the validation strategy of this criterion.
+   */
+  private boolean validate(double first, double second) {
+    return switch (this.validationType) {
+      case EQUALS -> Double.compare(first, second) == 0;
+      case NOT_EQUALS -> Double.compare(first, second) != 0;
+      case LESS_THAN -> Math.abs(first - second) < this.discrepancy;
+      default -> throw new IllegalStateException("can not compare numbers with "
+          + this.validationType);
+    };
+  }
+
+  /*
+   * Checks that the segment has the attribute of this criterion, like a check of the single
+   * segment does. The attribute column would treat a segment without it as not configured.
+   */
+  private void requireAccessor(Segment segment) {
+    if (segment.getAttributeAccessor(this.attributeType) == null) {
+      throw new IllegalArgumentException("the segment does not have such attribute type");
+    }
+  }
+
+  private AttributeAccessor<?> getAccessorOfType(Segment segment, AttributeType type) {
+    AttributeAccessor<?> accessor = segment.getAttributeAccessor(type);
+    if (accessor == null) {
+      throw new IllegalArgumentException("the segment does not have such attribute type");
     }
-    throw new IllegalArgumentException("the segment does not have such attribute type");
+    return accessor;
   }
 
   /**
@@ -237,7 +358,7 @@ public class CompatibilityCriterion extends AbstractCompatibilityCriterion {
   @Override
   protected void checkAll() {
     if (this.getRoadSystem() != null && this.attributeType != null && this.validationType != null) {
-      this.getRoadSystem().getElements().forEach(this::notifyChange);
+      checkSegments(this.getRoadSystem().getSegments().stream().toList());
     }
   }
 
@@ -6,16 +6,18 @@ import edu.kit.rose.infrastructure.RoseSetObservable;
 import edu.kit.rose.infrastructure.SetObserver;
 import edu.kit.rose.model.plausibility.violation.Violation;
 import edu.kit.rose.model.plausibility.violation.ViolationManager;
-import edu.kit.rose.model.roadsystem.attributes.AttributeAccessor;
 import edu.kit.rose.model.roadsystem.attributes.AttributeType;
 import edu.kit.rose.model.roadsystem.elements.Element;
 import edu.kit.rose.model.roadsystem.elements.Segment;
 import edu.kit.rose.model.roadsystem.elements.SegmentType;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Models a Completeness Criteria (see Pflichtenheft: "Vollständigkeitskriterium")
@@ -28,7 +30,7 @@ class CompletenessCriterion extends RoseSetObservable<SegmentType, PlausibilityC
   private String name;
   private final Set<SegmentType> segmentTypes;
   private final Set<AttributeType> necessaryAttributeTypes;
-  private final HashMap<Element, Violation> elementViolationMap;
+  private final Map<Element, Violation> elementViolationMap;
   private ViolationManager violationManager;
 
   public CompletenessCriterion(ViolationManager violationManager) {
@@ -36,11 +38,11 @@ class CompletenessCriterion extends RoseSetObservable<SegmentType, PlausibilityC
     this.segmentTypes =
             new HashSet<>(Set.of(SegmentType.values()));
     this.violationManager = violationManager;
-    this.necessaryAttributeTypes = new HashSet<>(Set.of(AttributeType.NAME, AttributeType.SLOPE,
-            AttributeType.LENGTH, AttributeType.LANE_COUNT,
+    this.necessaryAttributeTypes = Collections.unmodifiableSet(EnumSet.of(AttributeType.NAME,
+            AttributeType.SLOPE, AttributeType.LENGTH, AttributeType.LANE_COUNT,
             AttributeType.LANE_COUNT_RAMP, AttributeType.CONURBATION,
             AttributeType.MAX_SPEED, AttributeType.MAX_SPEED_RAMP));
-    this.elementViolationMap = new HashMap<>();
+    this.elementViolationMap = new ConcurrentHashMap<>();
   }
 
   @Override
@@ -90,29 +92,27 @@ class CompletenessCriterion extends RoseSetObservable<SegmentType, PlausibilityC
 
   @Override
   public void notifyChange(Element unit) {
-    boolean violated = false;
+    if (unit.isContainer()) {
+      return;
+    }
     Segment segment = (Segment) unit;
-    if (!unit.isContainer()) {
-      Box<AttributeAccessor<?>> accessors = unit.getAttributeAccessors();
-      for (AttributeAccessor<?> accessor : accessors) {
-        if (this.necessaryAttributeTypes.contains(accessor.getAttributeType())) {
-          if (accessor.getValue() == null) {
-            violated = true;
-            if (segmentTypes.contains(segment.getSegmentType())
-                    && !this.elementViolationMap.containsKey(unit)) {
-              Violation violation = new Violation(this, List.of((Segment) unit));
-              this.violationManager.addViolation(violation);
-              this.elementViolationMap.put(unit, violation);
-            }
-          }
-        }
+    boolean violated = false;
+    for (AttributeType type : this.necessaryAttributeTypes) {
+      if (segment.getAttributeAccessor(type) != null && !segment.hasAttributeValue(type)) {
+        violated = true;
+        break;
       }
-      if (!violated) {
-        if (elementViolationMap.containsKey(unit)) {
-          violationManager.removeViolation(elementViolationMap.get(unit));
-          elementViolationMap.remove(unit);
-        }
+    }
+    if (violated) {
+      if (segmentTypes.contains(segment.getSegmentType())
+              && !this.elementViolationMap.containsKey(unit)) {
+        Violation violation = new Violation(this, List.of(segment));
+        this.violationManager.addViolation(violation);
+        this.elementViolationMap.put(unit, violation);
       }
+    } else if (elementViolationMap.containsKey(unit)) {
+      violationManager.removeViolation(elementViolationMap.get(unit));
+      elementViolationMap.remove(unit);
     }
   }
 
@@ -121,6 +121,21 @@ class CompletenessCriterion extends RoseSetObservable<SegmentType, PlausibilityC
     return this;
   }
 
+  @Override
+  public Set<AttributeType> getAttributeDependencies() {
+    return this.necessaryAttributeTypes;
+  }
+
+  @Override
+  public boolean dependsOnTopology() {
+    return false;
+  }
+
+  @Override
+  public boolean supportsParallelChecks() {
+    return true;
+  }
+
   @Override
   public void notifyAddition(Element unit) {
     notifyChange(unit);
@@ -128,7 +143,9 @@ class CompletenessCriterion extends RoseSetObservable<SegmentType, PlausibilityC
 
   @Override
   public void notifyRemoval(Element unit) {
-    this.violationManager.removeViolation(this.elementViolationMap.get(unit));
-    this.elementViolationMap.remove(unit);
+    Violation violation = this.elementViolationMap.remove(unit);
+    if (violation != null) {
+      this.violationManager.removeViolation(violation);
+    }
   }
 }
@@ -3,10 +3,10 @@ package edu.kit.rose.model.plausibility.criteria;
 import edu.kit.rose.infrastructure.Box;
 import edu.kit.rose.model.plausibility.violation.ViolationManager;
 import edu.kit.rose.model.roadsystem.RoadSystem;
+import edu.kit.rose.model.roadsystem.attributes.AttributeType;
 import edu.kit.rose.model.roadsystem.elements.Connection;
 import edu.kit.rose.model.roadsystem.elements.Connector;
 import edu.kit.rose.model.roadsystem.elements.ConnectorType;
-import edu.kit.rose.model.roadsystem.elements.Element;
 import edu.kit.rose.model.roadsystem.elements.Segment;
 import edu.kit.rose.model.roadsystem.elements.SegmentType;
 import java.util.ArrayList;
@@ -41,14 +41,22 @@ public class ConnectorCriterion extends AbstractCompatibilityCriterion {
     }
   }
 
+  @Override
+  public Set<AttributeType> getAttributeDependencies() {
+    return Set.of();
+  }
+
   @Override
   protected void checkCriterion(Segment segment) {
     Box<Connection> connections = getRoadSystem().getConnections(segment);
     List<Segment> invalidSegments = new ArrayList<>();
     for (Connection connection : connections) {
       if (!checkConnection(connection)) {
-        invalidSegments.addAll(getSegmentsOfConnection(connection));
-        invalidSegments.remove(segment);
+        for (Segment connectedSegment : getSegmentsOfConnection(connection)) {
+          if (connectedSegment != segment) {
+            invalidSegments.add(connectedSegment);
+          }
+        }
       }
 
     }
@@ -69,15 +77,8 @@ public class ConnectorCriterion extends AbstractCompatibilityCriterion {
 
   private List<Segment> getSegmentsOfConnection(Connection connection) {
     ArrayList<Segment> segments = new ArrayList<>();
-    for (Element element : getRoadSystem().getElements()) {
-      if (!element.isContainer()) {
-        var segment = (Segment) element;
-        for (Connection currentConnection : this.getRoadSystem().getConnections(segment)) {
-          if (currentConnection == connection) {
-            segments.add(segment);
-          }
-        }
-      }
+    for (Connector connector : connection.getConnectors()) {
+      segments.add(getRoadSystem().getSegment(connector));
     }
     return segments;
   }
@@ -85,7 +86,7 @@ public class ConnectorCriterion extends AbstractCompatibilityCriterion {
   @Override
   protected void checkAll() {
     if (this.getRoadSystem() != null) {
-      this.getRoadSystem().getElements().forEach(this::notifyChange);
+      this.getRoadSystem().getSegments().forEach(this::notifyChange);
     }
   }
 
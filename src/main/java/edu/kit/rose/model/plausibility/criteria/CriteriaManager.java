@@ -2,10 +2,12 @@ package edu.kit.rose.model.plausibility.criteria;
 
 import edu.kit.rose.infrastructure.RoseSetObservable;
 import edu.kit.rose.infrastructure.RoseSortedBox;
+import edu.kit.rose.infrastructure.RoseSortedBoxView;
 import edu.kit.rose.infrastructure.SetObservable;
 import edu.kit.rose.infrastructure.SortedBox;
 import edu.kit.rose.infrastructure.UnitObserver;
-import edu.kit.rose.model.plausibility.violation.Violation;
+import edu.kit.rose.model.plausibility.PlausibilityMetrics;
+import edu.kit.rose.model.plausibility.PlausibilityScheduler;
 import edu.kit.rose.model.plausibility.violation.ViolationManager;
 import edu.kit.rose.model.roadsystem.RoadSystem;
 import edu.kit.rose.model.roadsystem.elements.Segment;
@@ -17,14 +19,17 @@ import java.util.List;
 /**
  * A CriteriaManager holds {@link PlausibilityCriterion}s .
  * It provides functions to create and remove Criteria as well as getters for them.
- * Provided with a {@link edu.kit.rose.model.roadsystem.RoadSystem} it will set up created
- * Criteria to observe the appropriate {@link edu.kit.rose.model.roadsystem.elements.Segment}s.
+ * Provided with a {@link edu.kit.rose.model.roadsystem.RoadSystem} it will set up its
+ * {@link PlausibilityScheduler} to observe the
+ * {@link edu.kit.rose.model.roadsystem.elements.Segment}s and check them with the Criteria.
  */
 public class CriteriaManager extends RoseSetObservable<PlausibilityCriterion, CriteriaManager>
         implements SetObservable<PlausibilityCriterion, CriteriaManager>,
         UnitObserver<PlausibilityCriterion> {
 
   private final ArrayList<PlausibilityCriterion> criteria;
+  private SortedBox<PlausibilityCriterion> criteriaSnapshot; // null after each change.
+  private final PlausibilityScheduler plausibilityScheduler;
   private ViolationManager violationManager;
   private final CriterionFactory criterionFactory;
   private RoadSystem roadSystem;
@@ -38,47 +43,48 @@ public class CriteriaManager extends RoseSetObservable<PlausibilityCriterion, Cr
     this.criteria.addAll(this.criterionFactory.createValueCriteria());
     this.criteria.add(this.criterionFactory.createConnectorCriterion());
     this.criteria.add(this.criterionFactory.createCompletenessCriterion());
+    this.plausibilityScheduler = new PlausibilityScheduler(this);
   }
 
   /**
    * Sets only once a roadSystem to this CriteriaManager.
+   * Every segment of the road system is checked by all criteria at once.
    *
    * @param roadSystem the road system whose elements
    *     will be observed by created criteria
    */
   public void setRoadSystem(RoadSystem roadSystem) {
+    PlausibilityMetrics metrics = plausibilityScheduler.getMetrics();
+    long start = metrics.isEnabled() ? System.nanoTime() : 0;
     this.roadSystem = roadSystem;
-    if (violationManager != null && violationManager.getViolations() != null) {
-      Collection<Violation> violations =
-          this.violationManager.getViolations().stream()
-              .filter(violation
-                  -> violation.violatedCriterion().getType()
-                  == PlausibilityCriterionType.COMPLETENESS
-                      || violation.violatedCriterion().getType() == PlausibilityCriterionType.VALUE)
-              .toList();
-      for (Violation violation : violations) {
-        this.violationManager.removeViolation(violation);
-      }
-    }
     this.criterionFactory.setRoadSystem(roadSystem);
     this.criteria.stream()
         .filter(c -> c.getType() == PlausibilityCriterionType.COMPATIBILITY
             || c.getType() == PlausibilityCriterionType.CONNECTOR)
         .map(c -> (AbstractCompatibilityCriterion) c)
         .forEach(c -> c.setRoadSystem(roadSystem));
-    var elements = roadSystem.getElements();
-    var segments = elements.stream()
-        .filter(element -> !element.isContainer())
-        .map(element -> (Segment) element)
-        .toList();
+    List<Segment> segments = roadSystem.getSegments().stream().toList();
     for (Segment segment : segments) {
-      for (PlausibilityCriterion criterion : criteria) {
-        segment.addSubscriber(criterion);
-      }
-      segment.notifySubscribers();
+      segment.addSubscriber(plausibilityScheduler);
+    }
+    // one check of all segments, so bulk and parallel checks apply
+    plausibilityScheduler.check(segments);
+    if (metrics.isEnabled()) {
+      metrics.recordOperation(PlausibilityMetrics.Operation.SET_ROAD_SYSTEM,
+          System.nanoTime() - start);
     }
   }
 
+  /**
+   * Provides the {@link PlausibilityScheduler} that checks the segments of the road system with
+   * the criteria of this CriteriaManager.
+   *
+   * @return the scheduler of this CriteriaManager.
+   */
+  public PlausibilityScheduler getPlausibilityScheduler() {
+    return this.plausibilityScheduler;
+  }
+
   /**
    * Sets the {@link ViolationManager} that will receive the
    * {@link edu.kit.rose.model.plausibility.violation.Violation}s
@@ -88,19 +94,36 @@ public class CriteriaManager extends RoseSetObservable<PlausibilityCriterion, Cr
    */
   public void setViolationManager(ViolationManager violationManager) {
     this.violationManager = violationManager;
+    if (violationManager != null) {
+      violationManager.setMetrics(plausibilityScheduler.getMetrics());
+    }
     this.criterionFactory.setViolationManager(this.violationManager);
     this.criteria.forEach(c -> c.setViolationManager(this.violationManager));
   }
 
+  /**
+   * Provides the {@link ViolationManager} that receives the violations of the criteria in this
+   * CriteriaManager.
+   *
+   * @return the violationManager this CriteriaManager uses, {@code null} if none is set.
+   */
+  public ViolationManager getViolationManager() {
+    return this.violationManager;
+  }
+
   /**
    * Provides a {@link SortedBox} containing all {@link PlausibilityCriterion}
    * that this CriteriaManager contains.
+   * The box is a snapshot that is shared between calls until the criteria change.
    *
    * @return a {@link SortedBox} containing all {@link PlausibilityCriterion}
    *        that this CriteriaManager contains.
    */
   public SortedBox<PlausibilityCriterion> getCriteria() {
-    return new RoseSortedBox<>(this.criteria);
+    if (this.criteriaSnapshot == null) {
+      this.criteriaSnapshot = new RoseSortedBoxView<>(new ArrayList<>(this.criteria));
+    }
+    return this.criteriaSnapshot;
   }
 
   /**
@@ -129,6 +152,7 @@ public class CriteriaManager extends RoseSetObservable<PlausibilityCriterion, Cr
     CompatibilityCriterion newCriteria = this.criterionFactory.createCompatibilityCriterion();
 
     this.criteria.add(newCriteria);
+    this.criteriaSnapshot = null;
     notifyAdditionToSubscribers(newCriteria);
     return newCriteria;
   }
@@ -140,12 +164,10 @@ public class CriteriaManager extends RoseSetObservable<PlausibilityCriterion, Cr
    */
   public void removeCriterion(PlausibilityCriterion criterion) {
     this.criteria.remove(criterion);
-    roadSystem.getElements().forEach(element -> element.removeSubscriber(criterion));
+    this.criteriaSnapshot = null;
     notifyRemovalToSubscribers(criterion);
-    var violationsToRemove = violationManager.getViolations().stream()
-        .filter(violation -> violation.violatedCriterion() == criterion)
-        .toList();
-    violationsToRemove.forEach(violationManager::removeViolation);
+    violationManager.removeViolationsOfCriterion(criterion);
+    plausibilityScheduler.getMetrics().forget(criterion);
   }
 
   private void removeCriteria(Collection<PlausibilityCriterion> criteriaToRemove) {
@@ -3,7 +3,7 @@ package edu.kit.rose.model.plausibility.criteria;
 import edu.kit.rose.model.plausibility.violation.ViolationManager;
 import edu.kit.rose.model.roadsystem.RoadSystem;
 import edu.kit.rose.model.roadsystem.attributes.AttributeType;
-import edu.kit.rose.model.roadsystem.elements.Element;
+import edu.kit.rose.model.roadsystem.elements.Segment;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -42,7 +42,7 @@ class CriterionFactory {
    */
   public CompletenessCriterion createCompletenessCriterion() {
     var criterion = new CompletenessCriterion((this.violationManager));
-    subscribeAndCheckSegmentsIfPossible(criterion);
+    checkSegmentsIfPossible(criterion);
     return criterion;
   }
 
@@ -67,7 +67,7 @@ class CriterionFactory {
         ValueCriterion.SLOPE_RANGE));
 
     for (var criterion : valueCriteria) {
-      subscribeAndCheckSegmentsIfPossible(criterion);
+      checkSegmentsIfPossible(criterion);
     }
 
     return valueCriteria;
@@ -80,7 +80,7 @@ class CriterionFactory {
    */
   public ConnectorCriterion createConnectorCriterion() {
     var criterion = new ConnectorCriterion(roadSystem, violationManager);
-    subscribeAndCheckSegmentsIfPossible(criterion);
+    checkSegmentsIfPossible(criterion);
     return criterion;
   }
 
@@ -91,17 +91,14 @@ class CriterionFactory {
    */
   public CompatibilityCriterion createCompatibilityCriterion() {
     var criterion = new CompatibilityCriterion(this.roadSystem, this.violationManager);
-    subscribeAndCheckSegmentsIfPossible(criterion);
+    checkSegmentsIfPossible(criterion);
     return criterion;
   }
 
-  private void subscribeAndCheckSegmentsIfPossible(PlausibilityCriterion criterion) {
+  private void checkSegmentsIfPossible(PlausibilityCriterion criterion) {
     if (this.roadSystem != null) {
-      for (Element element : this.roadSystem.getElements()) {
-        if (!element.isContainer()) {
-          element.addSubscriber(criterion);
-          criterion.notifyChange(element);
-        }
+      for (Segment segment : this.roadSystem.getSegments()) {
+        criterion.notifyChange(segment);
       }
     }
   }
@@ -4,9 +4,13 @@ import edu.kit.rose.infrastructure.Box;
 import edu.kit.rose.infrastructure.SetObservable;
 import edu.kit.rose.infrastructure.SetObserver;
 import edu.kit.rose.model.plausibility.violation.ViolationManager;
+import edu.kit.rose.model.roadsystem.attributes.AttributeType;
 import edu.kit.rose.model.roadsystem.elements.Element;
 import edu.kit.rose.model.roadsystem.elements.Segment;
 import edu.kit.rose.model.roadsystem.elements.SegmentType;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * (see Pflichtenheft: "Plausibilitätskriterium")
@@ -68,4 +72,73 @@ public interface PlausibilityCriterion extends
    * @param violationManager the violationManager.
    */
   void setViolationManager(ViolationManager violationManager);
+
+  /**
+   * Returns whether different {@link Segment}s may be checked by this criterion on different
+   * threads at once. This requires the check of a segment to only read that segment and to only
+   * change the state this criterion keeps for that segment.
+   *
+   * @return {@code true} if this criterion supports parallel checks, {@code false} by default.
+   */
+  default boolean supportsParallelChecks() {
+    return false;
+  }
+
+  /**
+   * Returns the types of the attributes of a {@link Segment} this criterion reads. A change of
+   * any other attribute of a segment can not change the outcome of a check, so the segment is not
+   * checked again by this criterion.
+   *
+   * @return the attribute types this criterion depends on, all of them by default.
+   */
+  default Set<AttributeType> getAttributeDependencies() {
+    return EnumSet.allOf(AttributeType.class);
+  }
+
+  /**
+   * Returns whether this criterion reads the connections of a {@link Segment}. If it does not, a
+   * segment is not checked again by this criterion when it is connected or disconnected.
+   *
+   * @return {@code true} if this criterion depends on the connections of segments, which is the
+   *     default.
+   */
+  default boolean dependsOnTopology() {
+    return true;
+  }
+
+  /**
+   * Returns whether this criterion checks many segments at once faster than one after the other
+   * through {@link #checkSegments(List)}. Such criteria are handed all segments of a large check
+   * together.
+   *
+   * @return {@code true} if this criterion supports bulk checks, {@code false} by default.
+   */
+  default boolean supportsBulkChecks() {
+    return false;
+  }
+
+  /**
+   * Checks all the given {@link Segment}s, which has the same outcome as notifying this criterion
+   * of a change of each of them. By default, the segments are checked one after the other.
+   *
+   * @param segments the segments to check, may not be {@code null}.
+   */
+  default void checkSegments(List<Segment> segments) {
+    for (Segment segment : segments) {
+      notifyChange(segment);
+    }
+  }
+
+  /**
+   * Reads the values that a check of the given {@link Segment}s needs into a
+   * {@link SnapshotCheck}, which can be evaluated on another thread. Applying its result has the
+   * same outcome as {@link #checkSegments(List)} at the time of this call.
+   *
+   * @param segments the segments to check, may not be {@code null}.
+   * @return the prepared check, or {@code null} if this criterion can only check segments on the
+   *     thread that changes them, which is the default.
+   */
+  default SnapshotCheck snapshotSegments(List<Segment> segments) {
+    return null;
+  }
 }
@@ -0,0 +1,29 @@
+package edu.kit.rose.model.plausibility.criteria;
+
+import edu.kit.rose.model.roadsystem.elements.Segment;
+import java.util.function.Predicate;
+
+/**
+ * A check of {@link Segment}s that a {@link PlausibilityCriterion} prepared with
+ * {@link PlausibilityCriterion#snapshotSegments(java.util.List)}.
+ * It holds a copy of the values of the segments it needs, so it can be evaluated on any thread
+ * while the segments keep changing. Its result is applied on the thread that changes the
+ * segments.
+ */
+public interface SnapshotCheck {
+  /**
+   * Evaluates the check on the copied values. This may be called on any thread, it neither reads
+   * the segments nor changes the criterion.
+   */
+  void evaluate();
+
+  /**
+   * Updates the violations of the checked segments to the result of {@link #evaluate()}, which
+   * has to be called before. This has to be called on the thread that changes the segments.
+   *
+   * @param isCurrent tells whether the result is still current for a segment. The violations
+   *     of the other segments are left as they are, since they were checked again after they
+   *     changed.
+   */
+  void apply(Predicate<Segment> isCurrent);
+}
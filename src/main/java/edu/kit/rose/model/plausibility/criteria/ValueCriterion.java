@@ -6,22 +6,23 @@ import edu.kit.rose.infrastructure.Range;
 import edu.kit.rose.infrastructure.RoseBox;
 import edu.kit.rose.infrastructure.RoseSetObservable;
 import edu.kit.rose.infrastructure.SetObserver;
-import edu.kit.rose.infrastructure.SortedBox;
 import edu.kit.rose.model.plausibility.violation.Violation;
 import edu.kit.rose.model.plausibility.violation.ViolationManager;
 import edu.kit.rose.model.roadsystem.DataType;
-import edu.kit.rose.model.roadsystem.attributes.AttributeAccessor;
 import edu.kit.rose.model.roadsystem.attributes.AttributeType;
-import edu.kit.rose.model.roadsystem.attributes.SpeedLimit;
 import edu.kit.rose.model.roadsystem.elements.Element;
 import edu.kit.rose.model.roadsystem.elements.Segment;
 import edu.kit.rose.model.roadsystem.elements.SegmentType;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 /**
  * A ValueCriterion represents a Value Criterion (see Pflichtenheft: "Wertebereichkriterium")
@@ -37,10 +38,15 @@ class ValueCriterion extends RoseSetObservable<SegmentType, PlausibilityCriterio
 
   private String name;
   private final AttributeType attributeType;
-  private final Range<Double> range;
+  private final Set<AttributeType> attributeDependencies;
+  // the bounds of the legal range, unboxed once so checks compare primitive values.
+  private final double lowerBound;
+  private final double upperBound;
   private final Set<SegmentType> segmentTypes;
+  // counts the changes of the segment types, so a snapshot check can tell if they changed.
+  private int segmentTypesVersion;
   private ViolationManager violationManager;
-  private final HashMap<Element, Violation> elementViolationMap;
+  private final Map<Element, Violation> elementViolationMap;
 
 
   /**
@@ -57,11 +63,13 @@ class ValueCriterion extends RoseSetObservable<SegmentType, PlausibilityCriterio
               + "with integer, fractional, or speed limit data types");
     }
     this.name = "";
-    this.segmentTypes = new HashSet<>();
+    this.segmentTypes = EnumSet.noneOf(SegmentType.class);
     this.violationManager = violationManager;
-    this.elementViolationMap = new HashMap<>();
+    this.elementViolationMap = new ConcurrentHashMap<>();
     this.attributeType = type;
-    this.range = range;
+    this.attributeDependencies = Collections.unmodifiableSet(EnumSet.of(type));
+    this.lowerBound = range.getLowerEndPoint();
+    this.upperBound = range.getUpperEndPoint();
   }
 
   public AttributeType getAttributeType() {
@@ -96,6 +104,7 @@ class ValueCriterion extends RoseSetObservable<SegmentType, PlausibilityCriterio
   @Override
   public void addSegmentType(SegmentType type) {
     this.segmentTypes.add(type);
+    this.segmentTypesVersion++;
     Iterator<SetObserver<SegmentType, PlausibilityCriterion>> iterator = getSubscriberIterator();
     while (iterator.hasNext()) {
       iterator.next().notifyAddition(type);
@@ -105,6 +114,7 @@ class ValueCriterion extends RoseSetObservable<SegmentType, PlausibilityCriterio
   @Override
   public void removeSegmentType(SegmentType type) {
     this.segmentTypes.remove(type);
+    this.segmentTypesVersion++;
     Iterator<SetObserver<SegmentType, PlausibilityCriterion>> iterator = getSubscriberIterator();
     while (iterator.hasNext()) {
       iterator.next().notifyRemoval(type);
@@ -113,25 +123,26 @@ class ValueCriterion extends RoseSetObservable<SegmentType, PlausibilityCriterio
 
   @Override
   public void notifyChange(Element unit) {
+    if (unit.isContainer()) {
+      return;
+    }
     Segment segment = (Segment) unit;
-    if (!unit.isContainer()) {
-      if (this.segmentTypes.contains(segment.getSegmentType())) {
-        SortedBox<AttributeAccessor<?>> accessors = unit.getAttributeAccessors();
-        for (AttributeAccessor<?> accessor : accessors) {
-          if (accessor.getAttributeType().equals(this.attributeType)) {
-            if (!checkValue(accessor)) {
-              if (!this.elementViolationMap.containsKey(unit)) {
-                Violation violation = new Violation(this, List.of((Segment) unit));
-                this.violationManager.addViolation(violation);
-                this.elementViolationMap.put(unit, violation);
-              }
-            } else if (elementViolationMap.containsKey(unit)) {
-              this.violationManager.removeViolation(elementViolationMap.get(unit));
-              this.elementViolationMap.remove(unit);
-            }
-          }
-        }
+    if (this.segmentTypes.contains(segment.getSegmentType())
+        && segment.getAttributeAccessor(this.attributeType) != null) {
+      updateViolation(segment, !checkValue(segment));
+    }
+  }
+
+  private void updateViolation(Segment segment, boolean violated) {
+    if (violated) {
+      if (!this.elementViolationMap.containsKey(segment)) {
+        Violation violation = new Violation(this, List.of(segment));
+        this.violationManager.addViolation(violation);
+        this.elementViolationMap.put(segment, violation);
       }
+    } else if (elementViolationMap.containsKey(segment)) {
+      this.violationManager.removeViolation(elementViolationMap.get(segment));
+      this.elementViolationMap.remove(segment);
     }
   }
 
@@ -140,6 +151,85 @@ class ValueCriterion extends RoseSetObservable<SegmentType, PlausibilityCriterio
     return this;
   }
 
+  @Override
+  public Set<AttributeType> getAttributeDependencies() {
+    return this.attributeDependencies;
+  }
+
+  @Override
+  public boolean dependsOnTopology() {
+    return false;
+  }
+
+  @Override
+  public boolean supportsParallelChecks() {
+    return true;
+  }
+
+  @Override
+  public boolean supportsBulkChecks() {
+    return true;
+  }
+
+  /**
+   * Checks all the given segments at once. The values of the segments of the checked types are
+   * read into an {@link AttributeColumn} first and the values out of range are found in a single
+   * loop over the column. Only the violations that changed are added to or removed from the
+   * violation manager, the segments in range are not looked up at all while this criterion has no
+   * violations.
+   */
+  @Override
+  public void checkSegments(List<Segment> segments) {
+    AttributeColumn column = AttributeColumn.of(segments, this.attributeType, this.segmentTypes);
+    updateViolations(segments, column, findOutOfRange(column), segment -> true);
+  }
+
+  /**
+   * Reads the values of the segments into an {@link AttributeColumn}, the values out of range are
+   * found on the column. If the segment types of this criterion changed before the result is
+   * applied, the current segments are checked again instead.
+   */
+  @Override
+  public SnapshotCheck snapshotSegments(List<Segment> segments) {
+    List<Segment> checkedSegments = List.copyOf(segments);
+    return new ColumnCheck(checkedSegments,
+        AttributeColumn.of(checkedSegments, this.attributeType, this.segmentTypes));
+  }
+
+  /*
+   * Only reads the column and the bounds, so it can run on any thread.
+   */
+  private BitSet findOutOfRange(AttributeColumn column) {
+    double[] values = column.getValues();
+    BitSet outOfRange = column.getSetValues();
+    for (int i = outOfRange.nextSetBit(0); i >= 0; i = outOfRange.nextSetBit(i + 1)) {
+      if (this.lowerBound <= values[i] && values[i] <= this.upperBound) {
+        outOfRange.clear(i);
+      }
+    }
+    return outOfRange;
+  }
+
+  private void updateViolations(List<Segment> segments, AttributeColumn column,
+                                BitSet outOfRange, Predicate<Segment> isCurrent) {
+    boolean hadViolations = !this.elementViolationMap.isEmpty();
+    for (int i = outOfRange.nextSetBit(0); i >= 0; i = outOfRange.nextSetBit(i + 1)) {
+      if (isCurrent.test(segments.get(i))) {
+        updateViolation(segments.get(i), true);
+      }
+    }
+    if (hadViolations) {
+      // segments without the attribute are included here, they never have a violation to remove.
+      BitSet inRange = (BitSet) column.getIncludedSegments().clone();
+      inRange.andNot(outOfRange);
+      for (int i = inRange.nextSetBit(0); i >= 0; i = inRange.nextSetBit(i + 1)) {
+        if (isCurrent.test(segments.get(i))) {
+          updateViolation(segments.get(i), false);
+        }
+      }
+    }
+  }
+
   @Override
   public void notifyAddition(Element unit) {
     notifyChange(unit);
@@ -147,19 +237,53 @@ class ValueCriterion extends RoseSetObservable<SegmentType, PlausibilityCriterio
 
   @Override
   public void notifyRemoval(Element unit) {
-    this.violationManager.removeViolation(this.elementViolationMap.get(unit));
-    this.elementViolationMap.remove(unit);
-  }
-
-  private boolean checkValue(AttributeAccessor<?> accessor) {
-    var dataType = accessor.getAttributeType().getDataType();
-    if (dataType == DataType.INTEGER) {
-      return this.range.contains(((Integer) accessor.getValue()).doubleValue());
-    } else if (dataType == DataType.FRACTIONAL) {
-      return this.range.contains((Double) accessor.getValue());
-    } else {
-      SpeedLimit value = (SpeedLimit) accessor.getValue();
-      return false;
+    Violation violation = this.elementViolationMap.remove(unit);
+    if (violation != null) {
+      this.violationManager.removeViolation(violation);
+    }
+  }
+
+  /**
+   * Checks the value of the attribute of this criterion, an unconfigured value is accepted
+   * because it is the concern of the {@link CompletenessCriterion}.
+   */
+  private boolean checkValue(Segment segment) {
+    if (!segment.hasAttributeValue(this.attributeType)) {
+      return true;
+    }
+    double value = this.attributeType.getDataType() == DataType.INTEGER
+        ? segment.getIntegerValue(this.attributeType)
+        : segment.getFractionalValue(this.attributeType);
+    return this.lowerBound <= value && value <= this.upperBound;
+  }
+
+  /**
+   * Checks the values of segments that were read into a column.
+   */
+  private class ColumnCheck implements SnapshotCheck {
+    private final List<Segment> segments;
+    private final AttributeColumn column;
+    private final int segmentTypesVersion;
+    private BitSet outOfRange;
+
+    ColumnCheck(List<Segment> segments, AttributeColumn column) {
+      this.segments = segments;
+      this.column = column;
+      this.segmentTypesVersion = ValueCriterion.this.segmentTypesVersion;
+    }
+
+    @Override
+    public void evaluate() {
+      this.outOfRange = findOutOfRange(this.column);
+    }
+
+    @Override
+    public void apply(Predicate<Segment> isCurrent) {
+      if (this.segmentTypesVersion == ValueCriterion.this.segmentTypesVersion) {
+        updateViolations(this.segments, this.column, this.outOfRange, isCurrent);
+      } else {
+        checkSegments(this.segments.stream().filter(isCurrent).toList());
+      }
     }
   }
 }
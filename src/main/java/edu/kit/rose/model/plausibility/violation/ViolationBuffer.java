@@ -0,0 +1,43 @@
+package edu.kit.rose.model.plausibility.violation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A ViolationBuffer holds the additions and removals of {@link Violation}s that were collected
+ * by {@link ViolationManager#collect(Runnable)}, in the order they were made.
+ * They take effect once the buffer is passed to {@link ViolationManager#apply(Iterable)}.
+ */
+public class ViolationBuffer {
+  private final List<Change> changes = new ArrayList<>();
+
+  void add(Violation violation) {
+    changes.add(new Change(violation, true));
+  }
+
+  void remove(Violation violation) {
+    changes.add(new Change(violation, false));
+  }
+
+  void applyTo(ViolationManager violationManager) {
+    for (Change change : changes) {
+      if (change.addition()) {
+        violationManager.addViolation(change.violation());
+      } else {
+        violationManager.removeViolation(change.violation());
+      }
+    }
+  }
+
+  /**
+   * Returns the number of collected changes.
+   *
+   * @return the number of collected additions and removals.
+   */
+  public int getSize() {
+    return changes.size();
+  }
+
+  private record Change(Violation violation, boolean addition) {
+  }
+}
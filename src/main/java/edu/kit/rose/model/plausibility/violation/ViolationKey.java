@@ -0,0 +1,57 @@
+package edu.kit.rose.model.plausibility.violation;
+
+import edu.kit.rose.model.plausibility.criteria.PlausibilityCriterion;
+import edu.kit.rose.model.roadsystem.elements.Segment;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Identifies a {@link Violation} by its criterion and the set of its offending segments.
+ * The order of the offending segments does not matter, so the violations of a criterion by the
+ * segment pairs (a, b) and (b, a) have equal keys. The hash code is computed once on creation.
+ */
+final class ViolationKey {
+  private final PlausibilityCriterion criterion;
+  private final Set<Segment> segments;
+  private final int hashCode;
+
+  /**
+   * Creates the key of the given violation.
+   *
+   * @param violation the violation to create the key of, may not be {@code null}.
+   */
+  ViolationKey(Violation violation) {
+    this(violation.violatedCriterion(), violation.offendingSegments());
+  }
+
+  /**
+   * Creates the key of a violation of the given criterion by the given segments.
+   *
+   * @param criterion the violated criterion, may not be {@code null}.
+   * @param segments the offending segments in any order, may not be {@code null}.
+   */
+  ViolationKey(PlausibilityCriterion criterion, Collection<Segment> segments) {
+    this.criterion = Objects.requireNonNull(criterion);
+    this.segments = Set.copyOf(segments);
+    this.hashCode = 31 * criterion.hashCode() + this.segments.hashCode();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ViolationKey other)) {
+      return false;
+    }
+    return hashCode == other.hashCode
+        && criterion.equals(other.criterion)
+        && segments.equals(other.segments);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+}
@@ -1,56 +1,391 @@
 package edu.kit.rose.model.plausibility.violation;
 
+import edu.kit.rose.infrastructure.Box;
+import edu.kit.rose.infrastructure.RoseBox;
 import edu.kit.rose.infrastructure.RoseSetObservable;
 import edu.kit.rose.infrastructure.RoseSortedBox;
 import edu.kit.rose.infrastructure.SortedBox;
+import edu.kit.rose.model.plausibility.PlausibilityMetrics;
 import edu.kit.rose.model.plausibility.criteria.PlausibilityCriterion;
+import edu.kit.rose.model.plausibility.criteria.PlausibilityCriterionType;
 import edu.kit.rose.model.roadsystem.elements.Segment;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import org.apache.commons.collections4.MultiValuedMap;
-import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 
 /**
  * A ViolationManager provides currently active Violations, violations can be added and removed
  * (from inside this package). Violations held by this ViolationManager are mutually distinct.
+ * Two violations count as the same if they violate the same criterion through the same set of
+ * segments, regardless of the order of the segments. They are indexed by a {@link ViolationKey},
+ * so adding, looking up and removing a violation takes constant time.
+ * The violations are additionally indexed by segment and by criterion, and counted by criterion
+ * type, so these can be queried without going through all violations.
+ * At most {@link #getViolationBudget() violation budget} violations of a criterion are held.
+ * Violations of a criterion beyond its budget are only counted: they are kept by their key
+ * without the indices of the held violations. The criterion is then
+ * {@link #isSummarised(PlausibilityCriterion) summarised} and its violations are available as a
+ * {@link ViolationSummary}. When held violations of a summarised criterion are removed or the
+ * budget is raised, counted violations take their place.
+ * Counted violations are still part of the violations of their criterion and of their segments,
+ * looking up the violations of a segment takes time linear in the number of counted violations
+ * while a criterion is summarised.
+ * Subscribers are notified of the addition and removal of every violation, whether it is held or
+ * only counted, and of a change of this manager whenever a criterion starts or stops being
+ * summarised. Only {@link #removeViolationsOfCriterion(PlausibilityCriterion)} drops counted
+ * violations without notifying their removal one by one.
  */
 public class ViolationManager extends RoseSetObservable<Violation, ViolationManager>
     implements Iterable<Violation> {
+  /**
+   * The number of violations a criterion may have before they are summarised, by default.
+   */
+  public static final int DEFAULT_VIOLATION_BUDGET = 1000;
+  private static final int SUMMARY_SAMPLE_SIZE = 5;
 
-  private final MultiValuedMap<PlausibilityCriterion, Violation> criterionViolationMap;
+  private final Map<ViolationKey, Violation> criterionViolationMap;
+  private final Map<Segment, Set<Violation>> segmentViolationMap;
+  private final Map<PlausibilityCriterion, Set<Violation>> criterionIndex;
+  private final Map<PlausibilityCriterionType, Integer> typeCounts;
+  private final Map<PlausibilityCriterion, Map<ViolationKey, Violation>> countedViolations;
+  private int countedViolationCount;
+  private final ThreadLocal<ViolationBuffer> buffer = new ThreadLocal<>();
+  private int violationBudget = DEFAULT_VIOLATION_BUDGET;
+  private PlausibilityMetrics metrics;
 
   /**
    * Constructor.
    */
   public ViolationManager() {
-    criterionViolationMap = new HashSetValuedHashMap<>();
+    criterionViolationMap = new LinkedHashMap<>();
+    segmentViolationMap = new HashMap<>();
+    criterionIndex = new LinkedHashMap<>();
+    typeCounts = new EnumMap<>(PlausibilityCriterionType.class);
+    countedViolations = new LinkedHashMap<>();
   }
 
 
   /**
    * Adds a given {@link Violation} to the ViolationManager.
+   * If its criterion already has as many held violations as the violation budget allows, the
+   * violation is only counted. A violation that is already held or counted is not added again.
    *
    * @param violation The {@link Violation} to add.
    */
   public void addViolation(Violation violation) {
-    if (getViolation(violation.violatedCriterion(), violation.offendingSegments()) != null) {
+    ViolationBuffer currentBuffer = buffer.get();
+    if (currentBuffer != null) {
+      currentBuffer.add(violation);
+      return;
+    }
+    ViolationKey key = new ViolationKey(violation);
+    PlausibilityCriterion criterion = violation.violatedCriterion();
+    Map<ViolationKey, Violation> counted = countedViolations.get(criterion);
+    if (criterionViolationMap.containsKey(key) || counted != null && counted.containsKey(key)) {
       return;
     }
-    criterionViolationMap.put(violation.violatedCriterion(), violation);
+    boolean wasSummarised = counted != null;
+    if (getHeldViolationCount(criterion) < violationBudget) {
+      hold(key, violation);
+    } else {
+      count(key, violation);
+    }
+    countType(criterion, 1);
+    if (metrics != null) {
+      metrics.recordViolationAdded(criterion);
+    }
     getSubscriberIterator().forEachRemaining(sub -> sub.notifyAddition(violation));
+    if (!wasSummarised && isSummarised(criterion)) {
+      notifySubscribers();
+    }
   }
 
   /**
    * Removes a given {@link Violation} from the ones held by the violationManager.
+   * The held violation of the same criterion by the same segments is removed, even if it is a
+   * different instance or lists the segments in a different order. The same goes for counted
+   * violations. If a held violation of a summarised criterion is removed, one of its counted
+   * violations is held in its place. Violations that are neither held nor counted are ignored.
    *
    * @param violation The {@link Violation} to remove.
    */
   public void removeViolation(Violation violation) {
-    criterionViolationMap.removeMapping(violation.violatedCriterion(), violation);
-    getSubscriberIterator().forEachRemaining(sub -> sub.notifyRemoval(violation));
+    ViolationBuffer currentBuffer = buffer.get();
+    if (currentBuffer != null) {
+      currentBuffer.remove(violation);
+      return;
+    }
+    PlausibilityCriterion criterion = violation.violatedCriterion();
+    ViolationKey key = new ViolationKey(violation);
+    boolean wasSummarised = isSummarised(criterion);
+    Violation removed = criterionViolationMap.remove(key);
+    if (removed != null) {
+      unindex(removed);
+      holdCounted(criterion, 1);
+    } else {
+      removed = uncount(criterion, key);
+      if (removed == null) {
+        return;
+      }
+    }
+    countType(criterion, -1);
+    if (metrics != null) {
+      metrics.recordViolationRemoved(criterion);
+    }
+    Violation notified = removed;
+    getSubscriberIterator().forEachRemaining(sub -> sub.notifyRemoval(notified));
+    if (wasSummarised && !isSummarised(criterion)) {
+      notifySubscribers();
+    }
+  }
+
+  /**
+   * Removes all violations of the given criterion, the held ones one by one and the counted ones
+   * at once. If the criterion was summarised, subscribers are notified of a change of this manager
+   * instead of the removal of every counted violation.
+   *
+   * @param criterion the criterion to remove the violations of.
+   * @throws IllegalStateException if changes are collected on the calling thread.
+   */
+  public void removeViolationsOfCriterion(PlausibilityCriterion criterion) {
+    if (buffer.get() != null) {
+      throw new IllegalStateException("can not remove violations while changes are collected");
+    }
+    Map<ViolationKey, Violation> counted = countedViolations.remove(criterion);
+    if (counted != null) {
+      countedViolationCount -= counted.size();
+      countType(criterion, -counted.size());
+      if (metrics != null) {
+        for (int i = 0; i < counted.size(); i++) {
+          metrics.recordViolationRemoved(criterion);
+        }
+      }
+    }
+    List.copyOf(criterionIndex.getOrDefault(criterion, Set.of())).forEach(this::removeViolation);
+    if (counted != null) {
+      notifySubscribers();
+    }
+  }
+
+  /**
+   * Sets the metrics that count the violations added to and removed from this manager by
+   * criterion. Violations collected in a {@link ViolationBuffer} are counted once the buffer is
+   * applied.
+   *
+   * @param metrics the metrics to count violations in, or {@code null} to not count them.
+   */
+  public void setMetrics(PlausibilityMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * Returns the number of violations a criterion may have before they are summarised.
+   *
+   * @return the violation budget of each criterion.
+   */
+  public int getViolationBudget() {
+    return violationBudget;
+  }
+
+  /**
+   * Sets the number of violations of a criterion that are held before further ones are only
+   * counted. If the budget is lowered, the held violations of a criterion beyond the new budget
+   * are only counted from then on. If it is raised, counted violations are held again until the
+   * new budget is reached. Subscribers are notified of a change of this manager.
+   *
+   * @param violationBudget the violation budget of each criterion, must be positive.
+   * @throws IllegalArgumentException if the budget is not positive.
+   */
+  public void setViolationBudget(int violationBudget) {
+    if (violationBudget <= 0) {
+      throw new IllegalArgumentException("violation budget must be positive");
+    }
+    if (this.violationBudget != violationBudget) {
+      this.violationBudget = violationBudget;
+      for (Map.Entry<PlausibilityCriterion, Set<Violation>> entry
+          : List.copyOf(criterionIndex.entrySet())) {
+        List<Violation> excess = entry.getValue().stream().skip(violationBudget).toList();
+        for (Violation violation : excess) {
+          ViolationKey key = new ViolationKey(violation);
+          criterionViolationMap.remove(key);
+          unindex(violation);
+          count(key, violation);
+        }
+      }
+      for (PlausibilityCriterion criterion : List.copyOf(countedViolations.keySet())) {
+        holdCounted(criterion, violationBudget - getHeldViolationCount(criterion));
+      }
+      notifySubscribers();
+    }
+  }
+
+  /**
+   * Returns whether the given criterion has violations that are only counted, because it had more
+   * violations than the violation budget.
+   *
+   * @param criterion the criterion to check.
+   * @return {@code true} if some violations of the criterion are only counted.
+   */
+  public boolean isSummarised(PlausibilityCriterion criterion) {
+    return countedViolations.containsKey(criterion);
+  }
+
+  /**
+   * Returns the held {@link Violation}s of all criteria that are not summarised.
+   * This takes time linear in the number of held violations, subscribers that show the listed
+   * violations should keep them up to date with the notifications of this manager instead.
+   *
+   * @return a {@link SortedBox} containing the violations that are listed one by one.
+   */
+  public SortedBox<Violation> getListedViolations() {
+    List<Violation> listed = new ArrayList<>();
+    for (Map.Entry<PlausibilityCriterion, Set<Violation>> entry : criterionIndex.entrySet()) {
+      if (!isSummarised(entry.getKey())) {
+        listed.addAll(entry.getValue());
+      }
+    }
+    return new RoseSortedBox<>(listed);
+  }
+
+  /**
+   * Returns a {@link ViolationSummary} for every summarised criterion.
+   *
+   * @return a {@link SortedBox} containing the summaries, empty if no criterion is summarised.
+   */
+  public SortedBox<ViolationSummary> getSummaries() {
+    List<ViolationSummary> summaries = new ArrayList<>();
+    for (Map.Entry<PlausibilityCriterion, Map<ViolationKey, Violation>> entry
+        : countedViolations.entrySet()) {
+      Set<Violation> held = criterionIndex.getOrDefault(entry.getKey(), Set.of());
+      summaries.add(new ViolationSummary(entry.getKey(), held.size() + entry.getValue().size(),
+          held.stream().limit(SUMMARY_SAMPLE_SIZE).toList()));
+    }
+    return new RoseSortedBox<>(summaries);
+  }
+
+  private int getHeldViolationCount(PlausibilityCriterion criterion) {
+    Set<Violation> violations = criterionIndex.get(criterion);
+    return violations == null ? 0 : violations.size();
+  }
+
+  private void hold(ViolationKey key, Violation violation) {
+    criterionViolationMap.put(key, violation);
+    index(violation);
+  }
+
+  private void count(ViolationKey key, Violation violation) {
+    countedViolations.computeIfAbsent(violation.violatedCriterion(), c -> new LinkedHashMap<>())
+        .put(key, violation);
+    countedViolationCount++;
+  }
+
+  /*
+   * Removes the counted violation with the given key and returns it, or null if there is none.
+   */
+  private Violation uncount(PlausibilityCriterion criterion, ViolationKey key) {
+    Map<ViolationKey, Violation> counted = countedViolations.get(criterion);
+    Violation violation = counted == null ? null : counted.remove(key);
+    if (violation != null) {
+      countedViolationCount--;
+      if (counted.isEmpty()) {
+        countedViolations.remove(criterion);
+      }
+    }
+    return violation;
+  }
+
+  /*
+   * Holds up to the given number of counted violations of the criterion, in the order they were
+   * counted.
+   */
+  private void holdCounted(PlausibilityCriterion criterion, int limit) {
+    Map<ViolationKey, Violation> counted = countedViolations.get(criterion);
+    Iterator<Map.Entry<ViolationKey, Violation>> iterator =
+        counted == null ? Collections.emptyIterator() : counted.entrySet().iterator();
+    for (int i = 0; i < limit && iterator.hasNext(); i++) {
+      Map.Entry<ViolationKey, Violation> entry = iterator.next();
+      iterator.remove();
+      countedViolationCount--;
+      hold(entry.getKey(), entry.getValue());
+    }
+    if (counted != null && counted.isEmpty()) {
+      countedViolations.remove(criterion);
+    }
+  }
+
+  private void countType(PlausibilityCriterion criterion, int delta) {
+    PlausibilityCriterionType type = criterion.getType();
+    if (type != null) {
+      typeCounts.merge(type, delta, (count, change) -> count + change == 0 ? null : count + change);
+    }
+  }
+
+  private void index(Violation violation) {
+    for (Segment segment : violation.offendingSegments()) {
+      segmentViolationMap.computeIfAbsent(segment, s -> new LinkedHashSet<>()).add(violation);
+    }
+    criterionIndex.computeIfAbsent(violation.violatedCriterion(), c -> new LinkedHashSet<>())
+        .add(violation);
+  }
+
+  private void unindex(Violation violation) {
+    for (Segment segment : violation.offendingSegments()) {
+      removeFromIndex(segmentViolationMap, segment, violation);
+    }
+    removeFromIndex(criterionIndex, violation.violatedCriterion(), violation);
+  }
+
+  private static <K> void removeFromIndex(Map<K, Set<Violation>> index, K key,
+                                          Violation violation) {
+    Set<Violation> violations = index.get(key);
+    if (violations != null && violations.remove(violation) && violations.isEmpty()) {
+      index.remove(key);
+    }
+  }
+
+  /**
+   * Runs the given checks and collects the violations they add to or remove from this
+   * ViolationManager on the calling thread in a {@link ViolationBuffer} instead of applying them.
+   * This allows checks to run on several threads at once, as long as nothing else changes this
+   * ViolationManager until the buffers are applied.
+   *
+   * @param checks the checks to run, may not be {@code null}.
+   * @return the buffer holding the collected changes.
+   */
+  public ViolationBuffer collect(Runnable checks) {
+    Objects.requireNonNull(checks);
+    if (buffer.get() != null) {
+      throw new IllegalStateException("changes are already collected on this thread");
+    }
+    ViolationBuffer collected = new ViolationBuffer();
+    buffer.set(collected);
+    try {
+      checks.run();
+    } finally {
+      buffer.remove();
+    }
+    return collected;
+  }
+
+  /**
+   * Applies the changes that were collected in the given buffers, in the order of the buffers.
+   *
+   * @param buffers the buffers to apply, may not be {@code null}.
+   */
+  public void apply(Iterable<ViolationBuffer> buffers) {
+    for (ViolationBuffer collected : buffers) {
+      collected.applyTo(this);
+    }
   }
 
   /**
@@ -64,30 +399,89 @@ public class ViolationManager extends RoseSetObservable<Violation, ViolationMana
    *        Violation is not in the ViolationManager.
    */
   Violation getViolation(PlausibilityCriterion criterion, Collection<Segment> offendingSegments) {
-    Collection<Violation> violationsAgainstCriterion = criterionViolationMap.get(criterion);
-    List<Violation> matches =
-        violationsAgainstCriterion.stream().filter((violation ->
-            violation.offendingSegments().containsAll(offendingSegments)
-        && offendingSegments.containsAll(violation.offendingSegments()))).toList();
-
-    if (matches.size() > 1) {
-      throw new IllegalStateException("Multiple entries for the same criterion and segments");
-    } else if (matches.size() == 1) {
-      return matches.get(0);
-    } else {
-      return null;
+    ViolationKey key = new ViolationKey(criterion, offendingSegments);
+    Violation held = criterionViolationMap.get(key);
+    if (held != null) {
+      return held;
     }
+    return countedViolations.getOrDefault(criterion, Map.of()).get(key);
   }
 
   /**
-   * Returns all {@link Violation}s currently held by the ViolationManager.
+   * Returns all {@link Violation}s currently held by the ViolationManager, violations that are
+   * only counted are not included.
    *
-   * @return A {@link SortedBox} containing all {@link Violation}s.
+   * @return A {@link SortedBox} containing all held {@link Violation}s.
    */
   public SortedBox<Violation> getViolations() {
     return new RoseSortedBox<>(criterionViolationMap.values().stream().toList());
   }
 
+  /**
+   * Returns all {@link Violation}s the given {@link Segment} is one of the offending segments of,
+   * including the ones that are only counted.
+   *
+   * @param segment the segment to get the violations of.
+   * @return a {@link Box} containing the violations of the segment, empty if it has none.
+   */
+  public Box<Violation> getViolationsOfSegment(Segment segment) {
+    List<Violation> violations =
+        new ArrayList<>(segmentViolationMap.getOrDefault(segment, Set.of()));
+    for (Map<ViolationKey, Violation> counted : countedViolations.values()) {
+      for (Violation violation : counted.values()) {
+        if (violation.offendingSegments().contains(segment)) {
+          violations.add(violation);
+        }
+      }
+    }
+    return new RoseBox<>(violations);
+  }
+
+  /**
+   * Returns all {@link Violation}s of the given {@link PlausibilityCriterion}, the held ones
+   * followed by the ones that are only counted.
+   *
+   * @param criterion the criterion to get the violations of.
+   * @return a {@link Box} containing the violations of the criterion, empty if it has none.
+   */
+  public Box<Violation> getViolationsOfCriterion(PlausibilityCriterion criterion) {
+    List<Violation> violations = new ArrayList<>(criterionIndex.getOrDefault(criterion, Set.of()));
+    violations.addAll(countedViolations.getOrDefault(criterion, Map.of()).values());
+    return new RoseBox<>(violations);
+  }
+
+  /**
+   * Returns the number of {@link Violation}s currently held or counted by the ViolationManager.
+   *
+   * @return the number of violations.
+   */
+  public int getViolationCount() {
+    return criterionViolationMap.size() + countedViolationCount;
+  }
+
+  /**
+   * Returns the number of {@link Violation}s of the given {@link PlausibilityCriterion}, including
+   * the ones that are only counted.
+   *
+   * @param criterion the criterion to count the violations of.
+   * @return the number of violations of the criterion.
+   */
+  public int getViolationCount(PlausibilityCriterion criterion) {
+    return getHeldViolationCount(criterion)
+        + countedViolations.getOrDefault(criterion, Map.of()).size();
+  }
+
+  /**
+   * Returns the number of {@link Violation}s of criteria of the given
+   * {@link PlausibilityCriterionType}.
+   *
+   * @param type the criterion type to count the violations of.
+   * @return the number of violations of criteria of that type.
+   */
+  public int getViolationCount(PlausibilityCriterionType type) {
+    return typeCounts.getOrDefault(type, 0);
+  }
+
   @Override
   public Iterator<Violation> iterator() {
     return Collections.unmodifiableCollection(criterionViolationMap.values()).iterator();
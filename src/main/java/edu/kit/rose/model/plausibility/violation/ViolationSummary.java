@@ -0,0 +1,37 @@
+package edu.kit.rose.model.plausibility.violation;
+
+import edu.kit.rose.model.plausibility.criteria.PlausibilityCriterion;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A ViolationSummary stands in for the {@link Violation}s of a {@link PlausibilityCriterion} that
+ * has more violations than the violation budget of the {@link ViolationManager} allows to hold.
+ * It only holds the number of violations and a few of them as a sample. All violations of the
+ * criterion can be requested with
+ * {@link ViolationManager#getViolationsOfCriterion(PlausibilityCriterion)}.
+ *
+ * @param violatedCriterion the criterion whose violations are summarised, may not be null.
+ * @param violationCount the number of violations of the criterion.
+ * @param sample some of the violations of the criterion, may not be null.
+ */
+public record ViolationSummary(
+    PlausibilityCriterion violatedCriterion,
+    int violationCount,
+    List<Violation> sample) {
+
+  /**
+   * Creates a new summary of the violations of the given criterion.
+   *
+   * @param violatedCriterion the criterion whose violations are summarised.
+   * @param violationCount the number of violations of the criterion.
+   * @param sample some of the violations of the criterion.
+   */
+  public ViolationSummary(PlausibilityCriterion violatedCriterion, int violationCount,
+                          List<Violation> sample) {
+    this.violatedCriterion =
+        Objects.requireNonNull(violatedCriterion, "violated criterion may not be null");
+    this.violationCount = violationCount;
+    this.sample = List.copyOf(Objects.requireNonNull(sample, "sample may not be null"));
+  }
+}
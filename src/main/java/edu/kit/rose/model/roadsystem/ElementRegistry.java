@@ -0,0 +1,115 @@
+package edu.kit.rose.model.roadsystem;
+
+import edu.kit.rose.infrastructure.Box;
+import edu.kit.rose.infrastructure.RoseBoxView;
+import edu.kit.rose.model.roadsystem.elements.Element;
+import edu.kit.rose.model.roadsystem.elements.Group;
+import edu.kit.rose.model.roadsystem.elements.Segment;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Stores the {@link Element}s of a {@link GraphRoadSystem} in insertion order.
+ * Membership tests, insertion and removal run in constant time, iteration follows the order in
+ * which the elements were added.
+ * {@link Segment}s and {@link Group}s are additionally indexed on their own, so callers that only
+ * need one kind of element do not have to filter by {@link Element#isContainer()}.
+ * Snapshots of the registered elements are copied on the first request after a change and shared
+ * until the next change, they keep constant time membership tests.
+ *
+ * @implNote {@link Element}s do not override {@link Object#equals(Object)}, the hashed sets
+ *     therefore compare elements by identity.
+ */
+class ElementRegistry {
+  private final Set<Element> elements = new LinkedHashSet<>();
+  private final Set<Segment> segments = new LinkedHashSet<>();
+  private final Set<Group> groups = new LinkedHashSet<>();
+
+  private Box<Element> elementsSnapshot;
+  private Box<Segment> segmentsSnapshot;
+  private Box<Group> groupsSnapshot;
+
+  /**
+   * Adds an element to this registry.
+   *
+   * @param element the element to add, may not be {@code null}.
+   * @return {@code true} if the element was not yet registered.
+   */
+  boolean add(Element element) {
+    Objects.requireNonNull(element);
+    if (!elements.add(element)) {
+      return false;
+    }
+    if (element.isContainer()) {
+      groups.add((Group) element);
+      groupsSnapshot = null;
+    } else {
+      segments.add((Segment) element);
+      segmentsSnapshot = null;
+    }
+    elementsSnapshot = null;
+    return true;
+  }
+
+  /**
+   * Removes an element from this registry.
+   *
+   * @param element the element to remove.
+   * @return {@code true} if the element was registered before.
+   */
+  boolean remove(Element element) {
+    if (!elements.remove(element)) {
+      return false;
+    }
+    if (element.isContainer()) {
+      groups.remove(element);
+      groupsSnapshot = null;
+    } else {
+      segments.remove(element);
+      segmentsSnapshot = null;
+    }
+    elementsSnapshot = null;
+    return true;
+  }
+
+  /**
+   * Checks whether the given element is registered.
+   *
+   * @param element the element to look up, may be {@code null}.
+   * @return {@code true} if the element is registered.
+   */
+  boolean contains(Element element) {
+    return element != null && elements.contains(element);
+  }
+
+  /**
+   * Returns a snapshot of all registered elements that is not affected by later changes.
+   */
+  Box<Element> getElementsSnapshot() {
+    if (elementsSnapshot == null) {
+      elementsSnapshot = new RoseBoxView<>(new LinkedHashSet<>(elements));
+    }
+    return elementsSnapshot;
+  }
+
+  /**
+   * Returns a snapshot of all registered segments that is not affected by later changes.
+   */
+  Box<Segment> getSegmentsSnapshot() {
+    if (segmentsSnapshot == null) {
+      segmentsSnapshot = new RoseBoxView<>(new LinkedHashSet<>(segments));
+    }
+    return segmentsSnapshot;
+  }
+
+  /**
+   * Returns a snapshot of all registered groups that is not affected by later changes.
+   */
+  Box<Group> getGroupsSnapshot() {
+    if (groupsSnapshot == null) {
+      groupsSnapshot = new RoseBoxView<>(new LinkedHashSet<>(groups));
+    }
+    return groupsSnapshot;
+  }
+}
@@ -4,7 +4,9 @@ import edu.kit.rose.infrastructure.Box;
 import edu.kit.rose.infrastructure.Movement;
 import edu.kit.rose.infrastructure.Position;
 import edu.kit.rose.infrastructure.RoseBox;
+import edu.kit.rose.infrastructure.RoseBoxView;
 import edu.kit.rose.infrastructure.RoseDualSetObservable;
+import edu.kit.rose.infrastructure.SetObserver;
 import edu.kit.rose.model.plausibility.criteria.CriteriaManager;
 import edu.kit.rose.model.roadsystem.elements.Connection;
 import edu.kit.rose.model.roadsystem.elements.Connector;
@@ -13,12 +15,17 @@ import edu.kit.rose.model.roadsystem.elements.Group;
 import edu.kit.rose.model.roadsystem.elements.Segment;
 import edu.kit.rose.model.roadsystem.elements.SegmentFactory;
 import edu.kit.rose.model.roadsystem.elements.SegmentType;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 import org.jgrapht.Graph;
 import org.jgrapht.Graphs;
 import org.jgrapht.graph.Pseudograph;
@@ -30,21 +37,41 @@ import org.jgrapht.graph.Pseudograph;
  */
 public class GraphRoadSystem extends RoseDualSetObservable<Element, Connection, RoadSystem>
     implements RoadSystem {
+  private static final double SPATIAL_INDEX_CELL_SIZE = 100;
 
   private final CriteriaManager criteriaManager;
   private final TimeSliceSetting timeSliceSetting;
   private final Graph<Segment, Connection> segmentConnectionGraph;
-  private final List<Group> groups; //all groups.
   private final Group rootGroup;
 
   // stored for easy and performant access.
-  private final List<Element> elements; //all elements (including groups).
+  private final ElementRegistry elements; //all elements (including groups).
   private final Map<Connector, Segment> connectorSegmentMap;
   private final Map<Connector, Connection> connectorConnectionMap;
+  // the group each element is in, elements that are only in the root group have no entry.
+  private final Map<Element, Group> parentGroups;
+  private final Map<Group, GroupMembershipObserver> groupObservers;
 
   //weather or not to break connections when connectors are moved.
   private boolean breakOnMove = true;
 
+  // incremented whenever a connection is added or removed.
+  private long topologyVersion;
+  // connections of the segments that were moved last, see classifyConnections.
+  private ConnectionClassification connectionClassification;
+
+  // absolute connector positions and segment centers, see updateSpatialIndex.
+  private final SpatialIndex<Connector> connectorIndex;
+  private final SpatialIndex<Segment> segmentCenterIndex;
+  private final Set<Segment> spatiallyOutdatedSegments;
+  private final SegmentPositionObserver segmentPositionObserver;
+  // receives absolute connector positions, see Segment#getAbsoluteConnectorPosition.
+  private final double[] positionBuffer = new double[2];
+
+  // changes of the currently running batch, null if no batch is running.
+  private RoadSystemChangeSet batchChanges;
+  private int batchDepth;
+
   /**
    * Constructor.
    * The {@link CriteriaManager} is needed for the subscription of
@@ -59,45 +86,75 @@ public class GraphRoadSystem extends RoseDualSetObservable<Element, Connection,
     this.criteriaManager = criteriaManager;
     this.timeSliceSetting = timeSliceSetting;
     this.segmentConnectionGraph = new Pseudograph<>(Connection.class);
-    this.groups = new LinkedList<>();
-    this.elements = new LinkedList<>();
+    this.elements = new ElementRegistry();
     this.connectorSegmentMap = new HashMap<>();
     this.connectorConnectionMap = new HashMap<>();
+    this.parentGroups = new HashMap<>();
+    this.groupObservers = new HashMap<>();
     this.rootGroup = new Group();
+    this.connectorIndex = new SpatialIndex<>(SPATIAL_INDEX_CELL_SIZE);
+    this.segmentCenterIndex = new SpatialIndex<>(SPATIAL_INDEX_CELL_SIZE);
+    this.spatiallyOutdatedSegments = new LinkedHashSet<>();
+    this.segmentPositionObserver = new SegmentPositionObserver();
   }
 
   @Override
   public Box<Element> getElements() {
-    return new RoseBox<>(elements);
+    return elements.getElementsSnapshot();
+  }
+
+  @Override
+  public Box<Segment> getSegments() {
+    return elements.getSegmentsSnapshot();
+  }
+
+  @Override
+  public Box<Group> getGroups() {
+    return elements.getGroupsSnapshot();
   }
 
   @Override
   public Segment createSegment(SegmentType segmentType) {
+    return createSegment(segmentType, segment -> { });
+  }
+
+  @Override
+  public Segment createSegment(SegmentType segmentType, Consumer<Segment> initializer) {
+    Objects.requireNonNull(initializer);
     var segment = SegmentFactory.createSegment(segmentType);
+    initializer.accept(segment);
     elements.add(segment);
     segment.getConnectors().forEach(c -> connectorSegmentMap.put(c, segment));
     segmentConnectionGraph.addVertex(segment);
-    subscribers.forEach(s -> s.notifyAddition(segment));
-    criteriaManager.getCriteria().forEach(segment::addSubscriber);
-    segment.notifySubscribers(); //get segment checked by criteria
+    notifyElementAdded(segment);
+    var plausibilityScheduler = criteriaManager.getPlausibilityScheduler();
+    if (plausibilityScheduler != null) {
+      segment.addSubscriber(plausibilityScheduler);
+    }
+    notifySegmentChanged(segment); //get segment checked by criteria
     segment.getConnectors().forEach(c -> {
       connectorConnectionMap.put(c, null);
       c.addSubscriber(this);
     });
+    segment.addSubscriber(segmentPositionObserver);
+    spatiallyOutdatedSegments.add(segment);
     this.rootGroup.addElement(segment);
     return segment;
   }
 
   @Override
   public Group createGroup(Set<Element> includedElements) {
-    if (includedElements.stream().anyMatch(e -> !elements.contains(e))) {
+    if (!includedElements.stream().allMatch(elements::contains)) {
       throw new IllegalArgumentException(
           "can not create group from elements outside this roadSystem");
     }
     var group = new Group(new LinkedList<>(includedElements));
     elements.add(group);
-    groups.add(group);
-    subscribers.forEach(s -> s.notifyAddition(group));
+    includedElements.forEach(element -> parentGroups.put(element, group));
+    var groupObserver = new GroupMembershipObserver(group);
+    group.addSubscriber(groupObserver);
+    groupObservers.put(group, groupObserver);
+    notifyElementAdded(group);
     this.rootGroup.addElement(group);
     return group;
   }
@@ -115,17 +172,27 @@ public class GraphRoadSystem extends RoseDualSetObservable<Element, Connection,
   }
 
   private void removeSegment(Segment segment) {
+    this.connectionClassification = null;
     disconnectFromAll(segment);
     elements.remove(segment);
+    parentGroups.remove(segment);
     segment.getConnectors().forEach(connectorSegmentMap::remove);
     segmentConnectionGraph.removeVertex(segment);
-    criteriaManager.setRoadSystem(this);
-    criteriaManager.getCriteria().forEach(segment::removeSubscriber);
-    subscribers.forEach(s -> s.notifyRemoval(segment));
+    topologyVersion++;
+    var plausibilityScheduler = criteriaManager.getPlausibilityScheduler();
+    if (plausibilityScheduler != null) {
+      segment.removeSubscriber(plausibilityScheduler);
+      plausibilityScheduler.notifyRemoval(segment);
+    }
+    notifyElementRemoved(segment);
     segment.getConnectors().forEach(c -> {
       connectorConnectionMap.remove(c);
       c.removeSubscriber(this);
+      connectorIndex.remove(c);
     });
+    segment.removeSubscriber(segmentPositionObserver);
+    spatiallyOutdatedSegments.remove(segment);
+    segmentCenterIndex.remove(segment);
   }
 
   private void removeGroup(Group group) {
@@ -134,8 +201,9 @@ public class GraphRoadSystem extends RoseDualSetObservable<Element, Connection,
     }
     group.getElements().forEach(this::removeElement);
     elements.remove(group);
-    groups.remove(group);
-    subscribers.forEach(s -> s.notifyRemoval(group));
+    parentGroups.remove(group);
+    group.removeSubscriber(groupObservers.remove(group));
+    notifyElementRemoved(group);
   }
 
   @Override
@@ -151,39 +219,43 @@ public class GraphRoadSystem extends RoseDualSetObservable<Element, Connection,
     var segment1 = connectorSegmentMap.get(segment1Connector);
     var segment2 = connectorSegmentMap.get(segment2Connector);
     segmentConnectionGraph.addEdge(segment1, segment2, connection);
+    topologyVersion++;
     connectorConnectionMap.put(segment1Connector, connection);
     connectorConnectionMap.put(segment2Connector, connection);
-    subscribers.forEach(s -> s.notifyAdditionSecond(connection));
-    segment1.notifySubscribers();
-    segment2.notifySubscribers();
+    notifyConnectionAdded(connection);
+    notifyTopologyChanged(segment1);
+    notifyTopologyChanged(segment2);
     return connection;
   }
 
   private Position getConnectionCenter(Connector connector1, Connector connector2) {
-    var connector1Pos = connectorSegmentMap.get(connector1)
-        .getAbsoluteConnectorPosition(connector1);
-    var connector2Pos = connectorSegmentMap.get(connector2)
-        .getAbsoluteConnectorPosition(connector2);
+    connectorSegmentMap.get(connector1).getAbsoluteConnectorPosition(connector1, positionBuffer);
+    double connector1X = positionBuffer[0];
+    double connector1Y = positionBuffer[1];
+    connectorSegmentMap.get(connector2).getAbsoluteConnectorPosition(connector2, positionBuffer);
     return new Position(
-        (connector1Pos.getX() + connector2Pos.getX()) / 2,
-        (connector1Pos.getY() + connector2Pos.getY()) / 2
+        (connector1X + positionBuffer[0]) / 2,
+        (connector1Y + positionBuffer[1]) / 2
     );
   }
 
   @Override
   public void disconnectConnection(Connection connection) {
-    if (!connectorConnectionMap.containsValue(connection)) {
-      throw new IllegalArgumentException("unknown connection");
+    if (connection == null) {
+      return;
     }
-    if (connection != null) {
-      var segment1 = connectorSegmentMap.get(connection.getConnectors().get(0));
-      var segment2 = connectorSegmentMap.get(connection.getConnectors().get(1));
-      segmentConnectionGraph.removeEdge(connection);
-      segment1.notifySubscribers();
-      segment2.notifySubscribers();
-      connection.getConnectors().forEach(c -> connectorConnectionMap.put(c, null));
-      subscribers.forEach(s -> s.notifyRemovalSecond(connection));
+    // the graph keeps its edges hashed, this avoids scanning all connector mappings
+    if (!segmentConnectionGraph.containsEdge(connection)) {
+      throw new IllegalArgumentException("unknown connection");
     }
+    var segment1 = segmentConnectionGraph.getEdgeSource(connection);
+    var segment2 = segmentConnectionGraph.getEdgeTarget(connection);
+    segmentConnectionGraph.removeEdge(connection);
+    topologyVersion++;
+    notifyTopologyChanged(segment1);
+    notifyTopologyChanged(segment2);
+    connection.getConnectors().forEach(c -> connectorConnectionMap.put(c, null));
+    notifyConnectionRemoved(connection);
   }
 
   @Override
@@ -199,7 +271,7 @@ public class GraphRoadSystem extends RoseDualSetObservable<Element, Connection,
     if (!elements.contains(segment)) {
       throw new IllegalArgumentException("unknown segment");
     }
-    return new RoseBox<>(Graphs.neighborListOf(segmentConnectionGraph, segment));
+    return new RoseBoxView<>(Graphs.neighborListOf(segmentConnectionGraph, segment));
   }
 
   @Override
@@ -216,7 +288,7 @@ public class GraphRoadSystem extends RoseDualSetObservable<Element, Connection,
     if (!elements.contains(segment1) || !elements.contains(segment2)) {
       throw new IllegalArgumentException("unknown segment");
     }
-    return new RoseBox<>(segmentConnectionGraph.getAllEdges(segment1, segment2));
+    return new RoseBoxView<>(segmentConnectionGraph.getAllEdges(segment1, segment2));
   }
 
   private Set<Connection> getConnectionsSet(Segment segment) {
@@ -237,14 +309,20 @@ public class GraphRoadSystem extends RoseDualSetObservable<Element, Connection,
 
   @Override
   public void moveSegments(Collection<Segment> segments, Movement movement) {
-    if (segments.stream().anyMatch(e -> !elements.contains(e))) {
+    if (!segments.stream().allMatch(elements::contains)) {
       throw new IllegalArgumentException("can not move unknown segments");
     }
-    var outSideConnections = getOutSideConnections(segments);
-    var inSideConnections = getInsideConnections(segments);
+    var classification = classifyConnections(segments);
     inNoBreakMode(() -> segments.forEach(s -> s.move(movement)));
-    inSideConnections.forEach(connection -> connection.move(movement));
-    outSideConnections.forEach(this::disconnectConnection);
+    classification.inside().forEach(connection -> connection.move(movement));
+    classification.outside().forEach(this::disconnectConnection);
+    // the outside connections are gone now, the next step of the drag can reuse the result
+    this.connectionClassification = classification.withoutOutside(topologyVersion);
+  }
+
+  @Override
+  public void endMoveSegments() {
+    this.connectionClassification = null;
   }
 
 
@@ -272,31 +350,110 @@ public class GraphRoadSystem extends RoseDualSetObservable<Element, Connection,
     breakOnMove = true;
   }
 
-  //returns all connections that connect the given segments to segments outside the collection
-  private List<Connection> getOutSideConnections(Collection<Segment> segments) {
-    var connectors = getConnectors(segments);
+  /*
+   * Sorts the connections of the given segments into connections between two of the segments and
+   * connections to segments outside the collection. Only the edges incident to the given segments
+   * are visited, so the cost depends on the selection instead of the whole road system.
+   * The result is reused as long as the same segments are moved and no connection was added or
+   * removed in the meantime, which is the case for every step of a drag gesture. It is dropped
+   * when the movement ends, a segment is removed or a batch completes, so it never keeps removed
+   * segments alive.
+   */
+  private ConnectionClassification classifyConnections(Collection<Segment> segments) {
+    var cached = this.connectionClassification;
+    if (cached != null && cached.isValidFor(segments, topologyVersion)) {
+      return cached;
+    }
+    var segmentSet = new HashSet<Segment>(segments);
+    var inside = new LinkedHashSet<Connection>();
+    var outside = new LinkedHashSet<Connection>();
+    for (var segment : segmentSet) {
+      for (var connection : segmentConnectionGraph.edgesOf(segment)) {
+        var other = Graphs.getOppositeVertex(segmentConnectionGraph, connection, segment);
+        if (segmentSet.contains(other)) {
+          inside.add(connection);
+        } else {
+          outside.add(connection);
+        }
+      }
+    }
+    return new ConnectionClassification(segmentSet, topologyVersion,
+        List.copyOf(inside), List.copyOf(outside));
+  }
 
-    return segments.stream()
-        .flatMap(s -> Graphs.neighborListOf(segmentConnectionGraph, s).stream())
-        .distinct()
-        .filter(s -> !segments.contains(s))
-        .flatMap(s -> getConnectionsSet(s).stream()
-            .filter(c -> c.getConnectors().stream().anyMatch(connectors::contains)))
-        .toList();
+  /**
+   * Stores the connections of a set of moved segments along with the topology version they
+   * were computed at.
+   */
+  private record ConnectionClassification(Set<Segment> segments, long topologyVersion,
+                                          List<Connection> inside, List<Connection> outside) {
+    boolean isValidFor(Collection<Segment> otherSegments, long currentVersion) {
+      return topologyVersion == currentVersion
+          && segments.size() == otherSegments.size()
+          && segments.containsAll(otherSegments);
+    }
+
+    ConnectionClassification withoutOutside(long newVersion) {
+      return new ConnectionClassification(segments, newVersion, inside, List.of());
+    }
+  }
+
+  @Override
+  public Group getParentGroup(Element element) {
+    if (!elements.contains(element)) {
+      throw new IllegalArgumentException("unknown element");
+    }
+    return parentGroups.getOrDefault(element, rootGroup);
+  }
+
+  @Override
+  public Segment getSegment(Connector connector) {
+    var segment = connectorSegmentMap.get(connector);
+    if (segment == null) {
+      throw new IllegalArgumentException("unknown connector");
+    }
+    return segment;
   }
 
-  //returns all connections that connect the given segments
-  private List<Connection> getInsideConnections(Collection<Segment> segments) {
-    var connectors = getConnectors(segments);
+  @Override
+  public Box<Connector> getConnectorsInRadius(Position center, double radius) {
+    updateSpatialIndex();
+    var connectors = new ArrayList<Connector>();
+    connectorIndex.findInRadius(center.getX(), center.getY(), radius, connectors::add);
+    return new RoseBoxView<>(connectors);
+  }
 
-    return segmentConnectionGraph.edgeSet().stream()
-        .filter(connection -> connectors.containsAll(connection.getConnectors().stream().toList()))
-        .toList();
+  @Override
+  public Box<Segment> getSegmentsInRectangle(Position firstCorner, Position secondCorner) {
+    updateSpatialIndex();
+    double minX = Math.min(firstCorner.getX(), secondCorner.getX());
+    double maxX = Math.max(firstCorner.getX(), secondCorner.getX());
+    double minY = Math.min(firstCorner.getY(), secondCorner.getY());
+    double maxY = Math.max(firstCorner.getY(), secondCorner.getY());
+
+    var segments = new LinkedHashSet<Segment>();
+    segmentCenterIndex.findInRectangle(minX, minY, maxX, maxY, segments::add);
+    connectorIndex.findInRectangle(minX, minY, maxX, maxY,
+        connector -> segments.add(connectorSegmentMap.get(connector)));
+    return new RoseBoxView<>(segments);
   }
 
-  private List<Connector> getConnectors(Collection<Segment> segments) {
-    return segments.stream()
-        .flatMap(segment -> segment.getConnectors().stream()).toList();
+  /*
+   * Re-indexes the segments that were moved, rotated or otherwise changed since the last query.
+   * Positions are only computed when they are needed, so a drag gesture that moves a segment many
+   * times only pays for one update, and the order in which a segment and the road system are
+   * notified about a connector movement does not matter.
+   */
+  private void updateSpatialIndex() {
+    for (var segment : spatiallyOutdatedSegments) {
+      var center = segment.getCenter();
+      segmentCenterIndex.put(segment, center.getX(), center.getY());
+      for (var connector : segment.getConnectors()) {
+        segment.getAbsoluteConnectorPosition(connector, positionBuffer);
+        connectorIndex.put(connector, positionBuffer[0], positionBuffer[1]);
+      }
+    }
+    spatiallyOutdatedSegments.clear();
   }
 
   @Override
@@ -306,13 +463,103 @@ public class GraphRoadSystem extends RoseDualSetObservable<Element, Connection,
 
   @Override
   public void clear() {
-    var roots = new LinkedList<Element>();
-    this.rootGroup.getElements().forEach(roots::add);
-    roots.forEach(this.rootGroup::removeElement);
-    roots.forEach(this::removeElement);
+    batch(() -> {
+      var roots = new LinkedList<Element>();
+      this.rootGroup.getElements().forEach(roots::add);
+      roots.forEach(this.rootGroup::removeElement);
+      roots.forEach(this::removeElement);
+    });
     this.timeSliceSetting.reset();
   }
 
+  @Override
+  public void batch(Runnable changes) {
+    Objects.requireNonNull(changes);
+    var plausibilityScheduler = criteriaManager.getPlausibilityScheduler();
+    if (plausibilityScheduler != null) {
+      plausibilityScheduler.defer(() -> runBatch(changes));
+    } else {
+      runBatch(changes);
+    }
+  }
+
+  private void runBatch(Runnable changes) {
+    if (batchDepth++ == 0) {
+      batchChanges = new RoadSystemChangeSet();
+    }
+    try {
+      changes.run();
+    } finally {
+      if (--batchDepth == 0) {
+        var committedChanges = batchChanges;
+        batchChanges = null;
+        commitBatch(committedChanges);
+      }
+    }
+  }
+
+  /*
+   * Hands the net changes of a batch to the subscribers in a single notification, so they can
+   * update once per batch instead of once per unit.
+   */
+  private void commitBatch(RoadSystemChangeSet changes) {
+    this.connectionClassification = null;
+    subscribers.forEach(s -> s.notifyChanges(changes));
+    changes.getChangedSegments().stream()
+        .filter(elements::contains)
+        .forEach(Segment::notifySubscribers);
+  }
+
+  private void notifyElementAdded(Element element) {
+    if (batchChanges != null) {
+      batchChanges.addElement(element);
+    } else {
+      subscribers.forEach(s -> s.notifyAddition(element));
+    }
+  }
+
+  private void notifyElementRemoved(Element element) {
+    if (batchChanges != null) {
+      batchChanges.removeElement(element);
+    } else {
+      subscribers.forEach(s -> s.notifyRemoval(element));
+    }
+  }
+
+  private void notifyConnectionAdded(Connection connection) {
+    if (batchChanges != null) {
+      batchChanges.addConnection(connection);
+    } else {
+      subscribers.forEach(s -> s.notifyAdditionSecond(connection));
+    }
+  }
+
+  private void notifyConnectionRemoved(Connection connection) {
+    if (batchChanges != null) {
+      batchChanges.removeConnection(connection);
+    } else {
+      subscribers.forEach(s -> s.notifyRemovalSecond(connection));
+    }
+  }
+
+  // lets the subscribers of the segment, mainly the plausibility criteria, re-evaluate it.
+  private void notifySegmentChanged(Segment segment) {
+    if (batchChanges != null) {
+      batchChanges.changeSegment(segment);
+    } else {
+      segment.notifySubscribers();
+    }
+  }
+
+  // lets the subscribers of the segment that depend on its connections re-evaluate it.
+  private void notifyTopologyChanged(Segment segment) {
+    if (batchChanges != null) {
+      batchChanges.changeSegment(segment);
+    } else {
+      segment.notifyTopologyChange();
+    }
+  }
+
   @Override
   public Group getRootGroup() {
     return rootGroup;
@@ -328,9 +575,56 @@ public class GraphRoadSystem extends RoseDualSetObservable<Element, Connection,
     if (!connectorConnectionMap.containsKey(unit)) {
       throw new IllegalArgumentException("unknown connector");
     }
+    spatiallyOutdatedSegments.add(connectorSegmentMap.get(unit));
     var connection = connectorConnectionMap.get(unit);
     if (breakOnMove && connection != null) {
       disconnectConnection(connection);
     }
   }
+
+  /**
+   * Marks segments for re-indexing whenever they notify their subscribers, this covers
+   * movements, rotations and attribute changes that alter the shape of a segment.
+   */
+  private class SegmentPositionObserver implements SetObserver<Element, Element> {
+    @Override
+    public void notifyChange(Element unit) {
+      spatiallyOutdatedSegments.add((Segment) unit);
+    }
+
+    @Override
+    public void notifyAddition(Element unit) {
+    }
+
+    @Override
+    public void notifyRemoval(Element unit) {
+    }
+  }
+
+  /**
+   * Keeps the parent group of the elements of a group up to date.
+   */
+  private class GroupMembershipObserver implements SetObserver<Element, Element> {
+    private final Group group;
+
+    private GroupMembershipObserver(Group group) {
+      this.group = group;
+    }
+
+    @Override
+    public void notifyAddition(Element unit) {
+      if (elements.contains(unit)) {
+        parentGroups.put(unit, group);
+      }
+    }
+
+    @Override
+    public void notifyRemoval(Element unit) {
+      parentGroups.remove(unit, group);
+    }
+
+    @Override
+    public void notifyChange(Element unit) {
+    }
+  }
 }
@@ -3,6 +3,7 @@ package edu.kit.rose.model.roadsystem;
 import edu.kit.rose.infrastructure.Box;
 import edu.kit.rose.infrastructure.DualSetObservable;
 import edu.kit.rose.infrastructure.Movement;
+import edu.kit.rose.infrastructure.Position;
 import edu.kit.rose.infrastructure.UnitObserver;
 import edu.kit.rose.model.roadsystem.elements.Connection;
 import edu.kit.rose.model.roadsystem.elements.Connector;
@@ -12,6 +13,7 @@ import edu.kit.rose.model.roadsystem.elements.Segment;
 import edu.kit.rose.model.roadsystem.elements.SegmentType;
 import java.util.Collection;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * A RoadSystem models a set of {@link Element}s that can be
@@ -30,6 +32,22 @@ public interface RoadSystem
    */
   Box<Element> getElements();
 
+  /**
+   * Returns a Box containing all {@link Segment}s of the RoadSystem.
+   * The segments are in the same order as in {@link #getElements()}.
+   *
+   * @return A {@link edu.kit.rose.infrastructure.Box} of all {@link Segment}s.
+   */
+  Box<Segment> getSegments();
+
+  /**
+   * Returns a Box containing all {@link Group}s of the RoadSystem.
+   * The root group is not included.
+   *
+   * @return A {@link edu.kit.rose.infrastructure.Box} of all {@link Group}s.
+   */
+  Box<Group> getGroups();
+
   /**
    * Creates a {@link Segment} with the given {@link SegmentType}.
    *
@@ -37,6 +55,19 @@ public interface RoadSystem
    */
   Segment createSegment(SegmentType segmentType);
 
+  /**
+   * Creates a {@link Segment} with the given {@link SegmentType} and lets the given initializer
+   * set it up before it is added to the RoadSystem.
+   * Nobody observes the segment during the initialization, so its subscribers and the plausibility
+   * checks only see the initialized segment. If the initializer throws, the segment is not added.
+   *
+   * @param segmentType The {@link SegmentType} the {@link Segment} shall have.
+   * @param initializer sets the attributes and the position of the new segment, may not be
+   *     {@code null}.
+   * @return the created segment.
+   */
+  Segment createSegment(SegmentType segmentType, Consumer<Segment> initializer);
+
   /**
    * Creates a {@link Group} containing the given {@link Element}s.
    *
@@ -63,8 +94,10 @@ public interface RoadSystem
   /**
    * Disconnects a given {@link Connection} this means the {@link Connector}s are no
    * longer connected (same for their respective {@link Segment}s).
+   * Passing {@code null} does nothing.
    *
    * @param connection The {@link Connection} to disconnect.
+   * @throws IllegalArgumentException if the connection is not part of this road system.
    */
   void disconnectConnection(Connection connection);
 
@@ -93,6 +126,45 @@ public interface RoadSystem
    */
   Connection getConnection(Connector connector);
 
+  /**
+   * Returns the {@link Group} that contains the given {@link Element}.
+   * Elements that are not in any other group belong to the root group.
+   *
+   * @param element the {@link Element} to look up.
+   * @return the parent {@link Group} of the given {@link Element}.
+   * @throws IllegalArgumentException if the element is not part of this road system.
+   */
+  Group getParentGroup(Element element);
+
+  /**
+   * Returns the {@link Segment} a given {@link Connector} belongs to.
+   *
+   * @param connector the {@link Connector} to look up.
+   * @return the {@link Segment} that owns the given {@link Connector}.
+   * @throws IllegalArgumentException if the connector is not part of this road system.
+   */
+  Segment getSegment(Connector connector);
+
+  /**
+   * Returns all {@link Connector}s whose absolute {@link Position} is within the given distance
+   * of the given {@link Position}.
+   *
+   * @param center the {@link Position} to search around.
+   * @param radius the maximum distance of the connectors, inclusive.
+   * @return a {@link Box} of the {@link Connector}s near the given position.
+   */
+  Box<Connector> getConnectorsInRadius(Position center, double radius);
+
+  /**
+   * Returns all {@link Segment}s whose center or one of whose {@link Connector}s lies within the
+   * rectangle spanned by the two given corners. Positions on the border are included.
+   *
+   * @param firstCorner one corner of the rectangle.
+   * @param secondCorner the opposite corner of the rectangle.
+   * @return a {@link Box} of the {@link Segment}s inside the rectangle.
+   */
+  Box<Segment> getSegmentsInRectangle(Position firstCorner, Position secondCorner);
+
   /**
    * Returns all {@link Connection}s the given {@link Segment} is currently involved in.
    * (Which means one of the {@link Segment}s {@link Connector}s is part of)
@@ -123,6 +195,13 @@ public interface RoadSystem
    */
   void moveSegments(Collection<Segment> segments, Movement movement);
 
+  /**
+   * Tells this RoadSystem that the {@link Segment}s moved through
+   * {@link #moveSegments(Collection, Movement)} are not moved any further for now, e.g. because a
+   * drag gesture ended. Data that was kept to speed up repeated movements is released.
+   */
+  void endMoveSegments();
+
   /**
    * Rotates the given {@link Segment} on its current {@link edu.kit.rose.infrastructure.Position}
    * by a given amount of degrees.
@@ -143,6 +222,19 @@ public interface RoadSystem
    */
   void clear();
 
+  /**
+   * Runs the given changes as one batch.
+   * While the batch runs, subscribers of this RoadSystem are not notified about added or removed
+   * {@link Element}s and {@link Connection}s, and {@link Segment}s are not re-checked after
+   * connection changes. Once the batch completes, every subscriber receives the net changes in a
+   * single {@link edu.kit.rose.infrastructure.DualSetObserver#notifyChanges} call. Units that were
+   * added and removed within the same batch are not reported.
+   * Batches may be nested, notifications are sent when the outermost batch completes.
+   *
+   * @param changes the changes to run, may not be {@code null}.
+   */
+  void batch(Runnable changes);
+
   /**
    * Returns the root {@link Group} that contains
    * all {@link Group}s and {@link Segment}s indirectly.
@@ -0,0 +1,77 @@
+package edu.kit.rose.model.roadsystem;
+
+import edu.kit.rose.infrastructure.Box;
+import edu.kit.rose.infrastructure.DualSetChange;
+import edu.kit.rose.infrastructure.RoseBoxView;
+import edu.kit.rose.model.roadsystem.elements.Connection;
+import edu.kit.rose.model.roadsystem.elements.Element;
+import edu.kit.rose.model.roadsystem.elements.Segment;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Collects the changes made to a {@link GraphRoadSystem} during a batch, see
+ * {@link RoadSystem#batch(Runnable)}, and is handed to the subscribers of the road system at the
+ * end of the batch.
+ * Additions and removals of the same unit cancel each other out, so only the net changes are
+ * kept. Changed segments are stored once, no matter how often they changed.
+ */
+class RoadSystemChangeSet implements DualSetChange<Element, Connection> {
+  private final Set<Element> addedElements = new LinkedHashSet<>();
+  private final Set<Element> removedElements = new LinkedHashSet<>();
+  private final Set<Connection> addedConnections = new LinkedHashSet<>();
+  private final Set<Connection> removedConnections = new LinkedHashSet<>();
+  private final Set<Segment> changedSegments = new LinkedHashSet<>();
+
+  void addElement(Element element) {
+    if (!removedElements.remove(element)) {
+      addedElements.add(element);
+    }
+  }
+
+  void removeElement(Element element) {
+    if (!addedElements.remove(element)) {
+      removedElements.add(element);
+    }
+  }
+
+  void addConnection(Connection connection) {
+    if (!removedConnections.remove(connection)) {
+      addedConnections.add(connection);
+    }
+  }
+
+  void removeConnection(Connection connection) {
+    if (!addedConnections.remove(connection)) {
+      removedConnections.add(connection);
+    }
+  }
+
+  void changeSegment(Segment segment) {
+    changedSegments.add(segment);
+  }
+
+  @Override
+  public Box<Element> getAdditions() {
+    return new RoseBoxView<>(addedElements);
+  }
+
+  @Override
+  public Box<Element> getRemovals() {
+    return new RoseBoxView<>(removedElements);
+  }
+
+  @Override
+  public Box<Connection> getAdditionsSecond() {
+    return new RoseBoxView<>(addedConnections);
+  }
+
+  @Override
+  public Box<Connection> getRemovalsSecond() {
+    return new RoseBoxView<>(removedConnections);
+  }
+
+  Box<Segment> getChangedSegments() {
+    return new RoseBoxView<>(changedSegments);
+  }
+}
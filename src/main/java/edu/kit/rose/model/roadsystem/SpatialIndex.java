@@ -0,0 +1,162 @@
+package edu.kit.rose.model.roadsystem;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * A uniform grid that stores items at two-dimensional coordinates and answers radius and
+ * rectangle queries.
+ * Each item is kept in the grid cell its coordinates fall into, a query therefore only has to
+ * look at the cells overlapping the queried area instead of at every item.
+ *
+ * @param <T> the type of the indexed items. Items are looked up with their
+ *     {@link Object#hashCode()} and {@link Object#equals(Object)} methods.
+ */
+class SpatialIndex<T> {
+  private final double cellSize;
+  private final Map<Long, Set<T>> cells = new HashMap<>();
+  private final Map<T, Entry> entries = new HashMap<>();
+
+  /**
+   * Creates an empty spatial index.
+   *
+   * @param cellSize the edge length of a grid cell, must be positive.
+   */
+  SpatialIndex(double cellSize) {
+    if (!(cellSize > 0)) {
+      throw new IllegalArgumentException("cell size must be positive");
+    }
+    this.cellSize = cellSize;
+  }
+
+  /**
+   * Stores the given item at the given coordinates, replacing its previous coordinates.
+   *
+   * @param item the item to store.
+   * @param x the x coordinate of the item.
+   * @param y the y coordinate of the item.
+   */
+  void put(T item, double x, double y) {
+    long key = cellKey(cellOf(x), cellOf(y));
+    var entry = entries.get(item);
+    if (entry == null) {
+      entry = new Entry();
+      entries.put(item, entry);
+    } else if (entry.cellKey != key) {
+      removeFromCell(item, entry.cellKey);
+    } else {
+      entry.x = x;
+      entry.y = y;
+      return;
+    }
+    entry.x = x;
+    entry.y = y;
+    entry.cellKey = key;
+    cells.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(item);
+  }
+
+  /**
+   * Removes the given item from this index, does nothing if the item is not indexed.
+   *
+   * @param item the item to remove.
+   */
+  void remove(T item) {
+    var entry = entries.remove(item);
+    if (entry != null) {
+      removeFromCell(item, entry.cellKey);
+    }
+  }
+
+  /**
+   * Passes every item within the given distance of the given coordinates to the consumer.
+   *
+   * @param x the x coordinate of the center of the search area.
+   * @param y the y coordinate of the center of the search area.
+   * @param radius the maximum distance of the items, inclusive.
+   * @param consumer receives the found items.
+   */
+  void findInRadius(double x, double y, double radius, Consumer<T> consumer) {
+    double squaredRadius = radius * radius;
+    findInRectangle(x - radius, y - radius, x + radius, y + radius, item -> {
+      var entry = entries.get(item);
+      double diffX = entry.x - x;
+      double diffY = entry.y - y;
+      if (diffX * diffX + diffY * diffY <= squaredRadius) {
+        consumer.accept(item);
+      }
+    });
+  }
+
+  /**
+   * Passes every item inside the given axis-aligned rectangle to the consumer.
+   * Items on the border of the rectangle are included.
+   *
+   * @param minX the lower x bound of the rectangle.
+   * @param minY the lower y bound of the rectangle.
+   * @param maxX the upper x bound of the rectangle.
+   * @param maxY the upper y bound of the rectangle.
+   * @param consumer receives the found items.
+   */
+  void findInRectangle(double minX, double minY, double maxX, double maxY, Consumer<T> consumer) {
+    long minCellX = cellOf(minX);
+    long maxCellX = cellOf(maxX);
+    long minCellY = cellOf(minY);
+    long maxCellY = cellOf(maxY);
+    double queriedCellCount = (double) (maxCellX - minCellX + 1) * (maxCellY - minCellY + 1);
+
+    if (queriedCellCount > cells.size()) {
+      // the area covers more cells than are occupied, visiting the occupied cells is cheaper
+      cells.values().forEach(cell -> cell.forEach(item ->
+          acceptIfInRectangle(item, minX, minY, maxX, maxY, consumer)));
+      return;
+    }
+    for (long cellX = minCellX; cellX <= maxCellX; cellX++) {
+      for (long cellY = minCellY; cellY <= maxCellY; cellY++) {
+        var cell = cells.get(cellKey(cellX, cellY));
+        if (cell != null) {
+          cell.forEach(item -> acceptIfInRectangle(item, minX, minY, maxX, maxY, consumer));
+        }
+      }
+    }
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  private void acceptIfInRectangle(T item, double minX, double minY, double maxX, double maxY,
+                                   Consumer<T> consumer) {
+    var entry = entries.get(item);
+    if (minX <= entry.x && entry.x <= maxX && minY <= entry.y && entry.y <= maxY) {
+      consumer.accept(item);
+    }
+  }
+
+  private void removeFromCell(T item, long key) {
+    var cell = cells.get(key);
+    cell.remove(item);
+    if (cell.isEmpty()) {
+      cells.remove(key);
+    }
+  }
+
+  private long cellOf(double coordinate) {
+    return (long) Math.floor(coordinate / cellSize);
+  }
+
+  private static long cellKey(long cellX, long cellY) {
+    return (cellX << 32) ^ (cellY & 0xFFFFFFFFL);
+  }
+
+  /**
+   * Stores the coordinates of an item and the key of the cell it is kept in.
+   */
+  private static final class Entry {
+    private double x;
+    private double y;
+    private long cellKey;
+  }
+}
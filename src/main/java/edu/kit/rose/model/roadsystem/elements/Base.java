@@ -69,6 +69,7 @@ public class Base extends HighwaySegment implements UnitObserver<Connector> {
 
     getExit().setPosition(newRelativeExitConnectorPosition);
     getEntry().setPosition(newRelativeEntryConnectorPosition);
+    invalidateAbsoluteConnectorPositions();
   }
 
   private Position getCenterBetweenPositions(Position position1, Position position2) {
@@ -15,6 +15,7 @@ public class Connection extends RoseUnitObservable<Connection> {
 
   private final Connector connector1;
   private final Connector connector2;
+  private final SortedBox<Connector> connectors;
   private Position center;
 
   /**
@@ -35,6 +36,7 @@ public class Connection extends RoseUnitObservable<Connection> {
 
     this.connector1 = connector1;
     this.connector2 = connector2;
+    this.connectors = new RoseSortedBox<>(connector1, connector2);
     this.center = new Position(center.getX(), center.getY());
   }
 
@@ -49,7 +51,7 @@ public class Connection extends RoseUnitObservable<Connection> {
    * @return The {@link Connector}s that are connected with this Connection.
    */
   public SortedBox<Connector> getConnectors() {
-    return new RoseSortedBox<>(connector1, connector2);
+    return connectors;
   }
 
   /**
@@ -2,7 +2,7 @@ package edu.kit.rose.model.roadsystem.elements;
 
 import edu.kit.rose.infrastructure.Movement;
 import edu.kit.rose.infrastructure.Position;
-import edu.kit.rose.infrastructure.RoseSortedBox;
+import edu.kit.rose.infrastructure.RoseSortedBoxView;
 import edu.kit.rose.infrastructure.RoseUnitObservable;
 import edu.kit.rose.infrastructure.SortedBox;
 import edu.kit.rose.infrastructure.UnitObservable;
@@ -19,7 +19,7 @@ public class Connector extends RoseUnitObservable<Connector>
           implements UnitObservable<Connector> {
   private final ConnectorType type;
   private final Position position;
-  private final List<AttributeAccessor<?>> accessors;
+  private final SortedBox<AttributeAccessor<?>> accessors;
 
   /**
    * Constructor.
@@ -31,7 +31,7 @@ public class Connector extends RoseUnitObservable<Connector>
   Connector(ConnectorType type, Position position, List<AttributeAccessor<?>> accessors) {
     this.type = type;
     this.position = position;
-    this.accessors = accessors;
+    this.accessors = new RoseSortedBoxView<>(accessors);
   }
 
   /**
@@ -59,7 +59,7 @@ public class Connector extends RoseUnitObservable<Connector>
    *      Connector.
    */
   public SortedBox<AttributeAccessor<?>> getAttributeAccessors() {
-    return new RoseSortedBox<>(this.accessors);
+    return this.accessors;
   }
 
   /**
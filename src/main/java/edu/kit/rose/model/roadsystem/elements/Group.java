@@ -3,13 +3,15 @@ package edu.kit.rose.model.roadsystem.elements;
 import edu.kit.rose.infrastructure.Box;
 import edu.kit.rose.infrastructure.RoseSetObservable;
 import edu.kit.rose.infrastructure.RoseSortedBox;
+import edu.kit.rose.infrastructure.RoseSortedBoxView;
 import edu.kit.rose.infrastructure.SortedBox;
 import edu.kit.rose.model.roadsystem.attributes.AttributeAccessor;
 import edu.kit.rose.model.roadsystem.attributes.AttributeType;
 import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * A container tha holds multiple {@link Element}s.
@@ -20,7 +22,8 @@ public class Group
     extends RoseSetObservable<Element, Element>
     implements Element, Iterable<Element> {
 
-  private final List<Element> elements;
+  private final Set<Element> elements; // insertion ordered, hashed for membership checks.
+  private SortedBox<Element> elementsSnapshot; // copy of elements, null after each change.
   private final SortedBox<AttributeAccessor<?>> accessors;
   private String name;
   private final AttributeAccessor<String> nameAccessor;
@@ -31,14 +34,15 @@ public class Group
    * Creates a new instance of the {@link Group} class.
    */
   public Group() {
-    this(new LinkedList<>());
+    this(List.of());
   }
 
   /**
-   * Creates a new instance of the {@link Group} class.
+   * Creates a new instance of the {@link Group} class that contains the given elements.
+   * The elements are copied, later changes to the given list do not affect the group.
    */
   public Group(List<Element> elements) {
-    this.elements = elements;
+    this.elements = new LinkedHashSet<>(elements);
 
     this.nameAccessor = new AttributeAccessor<>(AttributeType.NAME, this::getName, this::setName);
     this.commentAccessor = new AttributeAccessor<>(
@@ -63,9 +67,8 @@ public class Group
           "The parameter element may not be null on Group.addElement");
     }
 
-    if (!elements.contains(element)) {
-      elements.add(element);
-
+    if (elements.add(element)) {
+      elementsSnapshot = null;
       subscribers.forEach(subscriber -> subscriber.notifyAddition(element));
     }
   }
@@ -77,17 +80,23 @@ public class Group
    */
   public void removeElement(Element element) {
     if (elements.remove(element)) {
+      elementsSnapshot = null;
       subscribers.forEach(subscriber -> subscriber.notifyRemoval(element));
     }
   }
 
   /**
    * Returns a {@link Box} of all {@link Element}s in the Group.
+   * The box is a snapshot that is shared between calls until the Group changes, so it can be
+   * iterated while elements are added to or removed from the Group.
    *
    * @return a {@link Box} of all {@link Element}s in the Group.
    */
   public SortedBox<Element> getElements() {
-    return new RoseSortedBox<>(new ArrayList<>(elements));
+    if (elementsSnapshot == null) {
+      elementsSnapshot = new RoseSortedBoxView<>(new ArrayList<>(elements));
+    }
+    return elementsSnapshot;
   }
 
   /**
@@ -97,7 +106,7 @@ public class Group
    * @return True if the given element is in the Group.
    */
   public boolean contains(Element element) {
-    return getElements().contains(element);
+    return elements.contains(element);
   }
 
   @Override
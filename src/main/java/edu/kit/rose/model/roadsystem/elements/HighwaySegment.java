@@ -3,17 +3,20 @@ package edu.kit.rose.model.roadsystem.elements;
 import edu.kit.rose.infrastructure.Box;
 import edu.kit.rose.infrastructure.Movement;
 import edu.kit.rose.infrastructure.Position;
-import edu.kit.rose.infrastructure.RoseBox;
+import edu.kit.rose.infrastructure.RoseBoxView;
 import edu.kit.rose.infrastructure.RoseSetObservable;
-import edu.kit.rose.infrastructure.RoseSortedBox;
+import edu.kit.rose.infrastructure.RoseSortedBoxView;
 import edu.kit.rose.infrastructure.SortedBox;
 import edu.kit.rose.model.roadsystem.attributes.AttributeAccessor;
 import edu.kit.rose.model.roadsystem.attributes.AttributeType;
 import edu.kit.rose.model.roadsystem.attributes.SpeedLimit;
 import edu.kit.rose.model.roadsystem.measurements.Measurement;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -27,9 +30,18 @@ public abstract class HighwaySegment
   protected static final int INITIAL_ENTRY_DISTANCE_TO_CENTER = 27;
 
   protected final List<AttributeAccessor<?>> attributeAccessors = new ArrayList<>();
+  // the attribute accessors indexed by their attribute type, see addAttributeAccessors.
+  private final Map<AttributeType, AttributeAccessor<?>> attributeSlots =
+      new EnumMap<>(AttributeType.class);
   protected final Set<Connector> connectors = new HashSet<>();
   protected final Set<Measurement<?>> measurements = new HashSet<>();
 
+  // read-only views handed out by the getters, so they do not allocate on every call.
+  private final SortedBox<AttributeAccessor<?>> attributeAccessorsView =
+      new RoseSortedBoxView<>(attributeAccessors);
+  private final Box<Connector> connectorsView = new RoseBoxView<>(connectors);
+  private final Box<Measurement<?>> measurementsView = new RoseBoxView<>(measurements);
+
   private final SegmentType segmentType;
   private final Position center = new Position(0, 0);
   private final Long creationTime;
@@ -53,6 +65,11 @@ public abstract class HighwaySegment
   private final AttributeAccessor<SpeedLimit> speedLimitAccessor;
 
   private int rotation = 0;
+  // rotation matrix of the current rotation, updated in rotate.
+  private double rotationSin = 0;
+  private double rotationCos = 1;
+  // absolute positions of the connectors, computed on demand.
+  private final Map<Connector, AbsolutePosition> absoluteConnectorPositions = new HashMap<>();
 
   HighwaySegment(SegmentType segmentType) {
     this(segmentType, segmentType.name());
@@ -81,7 +98,7 @@ public abstract class HighwaySegment
   }
 
   private void init() {
-    this.attributeAccessors.addAll(List.of(
+    addAttributeAccessors(List.of(
         this.nameAccessor,
         this.commentAccessor,
         this.lengthAccessor,
@@ -98,6 +115,20 @@ public abstract class HighwaySegment
     initConnectors(entryAttributesList, exitAttributesList);
   }
 
+  /**
+   * Adds the given attribute accessors to the accessors of this segment, in the given order.
+   * Subclasses need to add their accessors through this method, so they can be looked up with
+   * {@link #getAttributeAccessor(AttributeType)}.
+   *
+   * @param accessors the accessors to add.
+   */
+  protected void addAttributeAccessors(List<AttributeAccessor<?>> accessors) {
+    for (AttributeAccessor<?> accessor : accessors) {
+      this.attributeAccessors.add(accessor);
+      this.attributeSlots.put(accessor.getAttributeType(), accessor);
+    }
+  }
+
   protected abstract void initConnectors(
       List<AttributeAccessor<?>> entryAttributesList,
       List<AttributeAccessor<?>> exitAttributesList);
@@ -122,7 +153,88 @@ public abstract class HighwaySegment
 
   @Override
   public SortedBox<AttributeAccessor<?>> getAttributeAccessors() {
-    return new RoseSortedBox<>(this.attributeAccessors);
+    return this.attributeAccessorsView;
+  }
+
+  /**
+   * Notifies the subscribers of the given accessor and of this segment that the value of the
+   * accessed attribute changed. Subscribers of this segment that are
+   * {@link SegmentChangeObserver}s are told which attribute changed.
+   *
+   * @param accessor the accessor of the changed attribute.
+   */
+  protected void notifyAttributeChange(AttributeAccessor<?> accessor) {
+    accessor.notifySubscribers();
+    AttributeType type = accessor.getAttributeType();
+    this.subscribers.forEach(subscriber -> {
+      if (subscriber instanceof SegmentChangeObserver observer) {
+        observer.notifyAttributeChange(this, type);
+      } else {
+        subscriber.notifyChange(this);
+      }
+    });
+  }
+
+  @Override
+  public void notifyTopologyChange() {
+    this.subscribers.forEach(subscriber -> {
+      if (subscriber instanceof SegmentChangeObserver observer) {
+        observer.notifyTopologyChange(this);
+      } else {
+        subscriber.notifyChange(this);
+      }
+    });
+  }
+
+  @Override
+  public AttributeAccessor<?> getAttributeAccessor(AttributeType type) {
+    return this.attributeSlots.get(type);
+  }
+
+  @Override
+  public boolean hasAttributeValue(AttributeType type) {
+    return switch (type) {
+      case NAME -> this.name != null;
+      case COMMENT -> this.comment != null;
+      case LENGTH -> this.length != null;
+      case SLOPE -> this.slope != null;
+      case LANE_COUNT -> this.laneCount != null;
+      case CONURBATION -> this.conurbation != null;
+      case MAX_SPEED -> this.speedLimit != null;
+      default -> false;
+    };
+  }
+
+  @Override
+  public int getIntegerValue(AttributeType type) {
+    return switch (type) {
+      case LENGTH -> requireValue(this.length, type);
+      case LANE_COUNT -> requireValue(this.laneCount, type);
+      default -> throw new IllegalArgumentException("segment has no integer attribute " + type);
+    };
+  }
+
+  @Override
+  public double getFractionalValue(AttributeType type) {
+    if (type != AttributeType.SLOPE) {
+      throw new IllegalArgumentException("segment has no fractional attribute " + type);
+    }
+    return requireValue(this.slope, type);
+  }
+
+  /**
+   * Returns the given attribute value if it is configured.
+   *
+   * @param value the value of the attribute.
+   * @param type the type of the attribute, used in the exception message.
+   * @return the given value.
+   * @throws IllegalStateException if the given value is {@code null}.
+   */
+  protected static <T> T requireValue(T value, AttributeType type) {
+    if (value == null) {
+      throw new IllegalStateException("value of attribute " + type + " is not configured");
+    }
+    return value;
   }
 
   @Override
@@ -137,12 +249,12 @@ public abstract class HighwaySegment
 
   @Override
   public Box<Measurement<?>> getMeasurements() {
-    return new RoseBox<>(this.measurements);
+    return this.measurementsView;
   }
 
   @Override
   public Box<Connector> getConnectors() {
-    return new RoseBox<>(this.connectors);
+    return this.connectorsView;
   }
 
   @Override
@@ -154,6 +266,7 @@ public abstract class HighwaySegment
   public void move(Movement movement) {
     center.setX(center.getX() + movement.getX());
     center.setY(center.getY() + movement.getY());
+    invalidateAbsoluteConnectorPositions();
     notifySubscribers();
   }
 
@@ -175,6 +288,9 @@ public abstract class HighwaySegment
   @Override
   public void rotate(int degrees) {
     this.rotation = Math.floorMod(this.rotation + degrees, 360);
+    this.rotationSin = Math.sin(Math.toRadians(this.rotation));
+    this.rotationCos = Math.cos(Math.toRadians(this.rotation));
+    invalidateAbsoluteConnectorPositions();
     this.subscribers.forEach(s -> s.notifyChange(this));
   }
 
@@ -185,23 +301,37 @@ public abstract class HighwaySegment
 
   @Override
   public Position getAbsoluteConnectorPosition(Connector connector) {
+    var position = getAbsoluteConnectorPosition(connector, new double[2]);
+    return new Position(position[0], position[1]);
+  }
+
+  @Override
+  public double[] getAbsoluteConnectorPosition(Connector connector, double[] target) {
     if (!this.connectors.contains(connector)) {
       throw new IllegalArgumentException("connector is not part of this segment");
     }
 
-    var s = Math.sin(Math.toRadians(rotation));
-    var c = Math.cos(Math.toRadians(rotation));
-
-    var x = connector.getPosition().getX();
-    var y = connector.getPosition().getY();
+    var absolutePosition = absoluteConnectorPositions.get(connector);
+    if (absolutePosition == null) {
+      absolutePosition = new AbsolutePosition();
+      absoluteConnectorPositions.put(connector, absolutePosition);
+    }
+    var relativePosition = connector.getPositionInstance();
+    if (!absolutePosition.isValidFor(relativePosition)) {
+      absolutePosition.update(relativePosition);
+    }
 
-    // rotate point
-    double newX = x * c - y * s;
-    double newY = x * s + y * c;
+    target[0] = absolutePosition.coordinateX;
+    target[1] = absolutePosition.coordinateY;
+    return target;
+  }
 
-    // translate point back:
-    return new Position((int) Math.round(newX + center.getX()),
-        (int) Math.round(newY + center.getY()));
+  /**
+   * Marks the cached absolute connector positions as outdated, needs to be called whenever the
+   * center or the rotation of this segment change.
+   */
+  protected void invalidateAbsoluteConnectorPositions() {
+    absoluteConnectorPositions.values().forEach(position -> position.valid = false);
   }
 
   @Override
@@ -213,8 +343,7 @@ public abstract class HighwaySegment
   public void setName(String name) {
     this.name = name;
 
-    this.nameAccessor.notifySubscribers();
-    this.notifySubscribers();
+    notifyAttributeChange(this.nameAccessor);
   }
 
   @Override
@@ -226,8 +355,7 @@ public abstract class HighwaySegment
   public void setComment(String comment) {
     this.comment = comment;
 
-    this.commentAccessor.notifySubscribers();
-    this.notifySubscribers();
+    notifyAttributeChange(this.commentAccessor);
   }
 
   /**
@@ -243,8 +371,7 @@ public abstract class HighwaySegment
   public void setLength(Integer length) {
     this.length = length;
 
-    this.lengthAccessor.notifySubscribers();
-    this.notifySubscribers();
+    notifyAttributeChange(this.lengthAccessor);
   }
 
   /**
@@ -260,8 +387,7 @@ public abstract class HighwaySegment
   public void setSlope(Double slope) {
     this.slope = slope;
 
-    this.slopeAccessor.notifySubscribers();
-    this.notifySubscribers();
+    notifyAttributeChange(this.slopeAccessor);
   }
 
   /**
@@ -277,8 +403,7 @@ public abstract class HighwaySegment
   public void setLaneCount(Integer laneCount) {
     this.laneCount = laneCount;
 
-    this.laneCountAccessor.notifySubscribers();
-    this.notifySubscribers();
+    notifyAttributeChange(this.laneCountAccessor);
   }
 
   /**
@@ -294,8 +419,7 @@ public abstract class HighwaySegment
   public void setConurbation(Boolean conurbation) {
     this.conurbation = conurbation;
 
-    this.conurbationAccessor.notifySubscribers();
-    this.notifySubscribers();
+    notifyAttributeChange(this.conurbationAccessor);
   }
 
   /**
@@ -311,7 +435,37 @@ public abstract class HighwaySegment
   public void setMaxSpeed(SpeedLimit maxSpeed) {
     this.speedLimit = maxSpeed;
 
-    this.speedLimitAccessor.notifySubscribers();
-    this.notifySubscribers();
+    notifyAttributeChange(this.speedLimitAccessor);
+  }
+
+  /**
+   * The absolute position of a connector together with the relative position it was computed
+   * from. Connectors may be moved without notifying this segment first, comparing the relative
+   * position keeps the cached value correct regardless of the notification order.
+   */
+  private final class AbsolutePosition {
+    private boolean valid;
+    private double relativeX;
+    private double relativeY;
+    private double coordinateX;
+    private double coordinateY;
+
+    private boolean isValidFor(Position relativePosition) {
+      return valid && relativeX == relativePosition.getX() && relativeY == relativePosition.getY();
+    }
+
+    private void update(Position relativePosition) {
+      relativeX = relativePosition.getX();
+      relativeY = relativePosition.getY();
+
+      // rotate point
+      double rotatedX = relativeX * rotationCos - relativeY * rotationSin;
+      double rotatedY = relativeX * rotationSin + relativeY * rotationCos;
+
+      // translate point back:
+      coordinateX = (int) Math.round(rotatedX + center.getX());
+      coordinateY = (int) Math.round(rotatedY + center.getY());
+      valid = true;
+    }
   }
 }
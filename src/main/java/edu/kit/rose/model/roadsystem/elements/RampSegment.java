@@ -46,7 +46,7 @@ public abstract class RampSegment extends HighwaySegment {
         AttributeType.MAX_SPEED_RAMP, this::getMaxSpeedRamp, this::setMaxSpeedRamp);
     this.junctionNameAccessor = new AttributeAccessor<>(
         AttributeType.JUNCTION, this::getJunctionName, this::setJunctionName);
-    super.attributeAccessors.addAll(
+    addAttributeAccessors(
         List.of(this.laneCountRampAccessor, this.junctionNameAccessor, this.maxSpeedRampAccessor));
 
     initRamp();
@@ -86,6 +86,24 @@ public abstract class RampSegment extends HighwaySegment {
     return this.rampConnector;
   }
 
+  @Override
+  public boolean hasAttributeValue(AttributeType type) {
+    return switch (type) {
+      case LANE_COUNT_RAMP -> this.laneCountRamp != null;
+      case MAX_SPEED_RAMP -> this.rampSpeedLimit != null;
+      case JUNCTION -> this.junctionName != null;
+      default -> super.hasAttributeValue(type);
+    };
+  }
+
+  @Override
+  public int getIntegerValue(AttributeType type) {
+    if (type == AttributeType.LANE_COUNT_RAMP) {
+      return requireValue(this.laneCountRamp, type);
+    }
+    return super.getIntegerValue(type);
+  }
+
   /**
    * Returns the {@link AttributeType#LANE_COUNT} for the ramp connector.
    */
@@ -99,8 +117,7 @@ public abstract class RampSegment extends HighwaySegment {
   public void setLaneCountRamp(Integer laneCountRamp) {
     this.laneCountRamp = laneCountRamp;
 
-    this.laneCountRampAccessor.notifySubscribers();
-    this.notifySubscribers();
+    notifyAttributeChange(this.laneCountRampAccessor);
   }
 
   /**
@@ -116,8 +133,7 @@ public abstract class RampSegment extends HighwaySegment {
   public void setJunctionName(String junctionName) {
     this.junctionName = junctionName;
 
-    this.junctionNameAccessor.notifySubscribers();
-    this.notifySubscribers();
+    notifyAttributeChange(this.junctionNameAccessor);
   }
 
   /**
@@ -133,7 +149,6 @@ public abstract class RampSegment extends HighwaySegment {
   public void setMaxSpeedRamp(SpeedLimit maxSpeedRamp) {
     this.rampSpeedLimit = maxSpeedRamp;
 
-    this.maxSpeedRampAccessor.notifySubscribers();
-    this.notifySubscribers();
+    notifyAttributeChange(this.maxSpeedRampAccessor);
   }
 }
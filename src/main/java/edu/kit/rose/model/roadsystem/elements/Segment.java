@@ -3,6 +3,8 @@ package edu.kit.rose.model.roadsystem.elements;
 import edu.kit.rose.infrastructure.Box;
 import edu.kit.rose.infrastructure.Movement;
 import edu.kit.rose.infrastructure.Position;
+import edu.kit.rose.model.roadsystem.attributes.AttributeAccessor;
+import edu.kit.rose.model.roadsystem.attributes.AttributeType;
 import edu.kit.rose.model.roadsystem.measurements.Measurement;
 
 /**
@@ -70,4 +72,66 @@ public interface Segment extends Element, Comparable<Segment> {
    * @throws IllegalArgumentException if {@code connector} isn't a connector from this segment.
    */
   Position getAbsoluteConnectorPosition(Connector connector);
+
+  /**
+   * Writes the position of a {@link Connector} of this Segment when factoring in the current
+   * rotation of this segment into the given array, without allocating a {@link Position}.
+   * Meant for callers that look up many connector positions at once.
+   *
+   * @param connector the connector, must be of this segment!
+   * @param target an array of at least two elements, receives the x coordinate at index 0 and the
+   *     y coordinate at index 1.
+   * @return the given target array.
+   * @throws IllegalArgumentException if {@code connector} isn't a connector from this segment.
+   */
+  double[] getAbsoluteConnectorPosition(Connector connector, double[] target);
+
+  /**
+   * Notifies the subscribers of this segment that it was connected to or disconnected from
+   * another segment. Subscribers that are {@link SegmentChangeObserver}s are notified through
+   * {@link SegmentChangeObserver#notifyTopologyChange(Segment)}, all others through
+   * {@link edu.kit.rose.infrastructure.UnitObserver#notifyChange(Object)}.
+   */
+  void notifyTopologyChange();
+
+  /**
+   * Returns the {@link AttributeAccessor} of the attribute of the given type, looked up in a table
+   * indexed by the attribute type instead of searching {@link #getAttributeAccessors()}.
+   *
+   * @param type the type of the attribute.
+   * @return the accessor of the attribute, or {@code null} if this segment has no attribute of the
+   *     given type.
+   */
+  AttributeAccessor<?> getAttributeAccessor(AttributeType type);
+
+  /**
+   * Returns whether this segment has an attribute of the given type and its value is configured.
+   *
+   * @param type the type of the attribute.
+   * @return {@code true} if the attribute exists and its value is not {@code null}.
+   */
+  boolean hasAttributeValue(AttributeType type);
+
+  /**
+   * Returns the value of an attribute with the
+   * {@link edu.kit.rose.model.roadsystem.DataType#INTEGER} data type without boxing it.
+   *
+   * @param type the type of the attribute.
+   * @return the value of the attribute.
+   * @throws IllegalArgumentException if this segment has no integer attribute of the given type.
+   * @throws IllegalStateException if the value of the attribute is not configured.
+   */
+  int getIntegerValue(AttributeType type);
+
+  /**
+   * Returns the value of an attribute with the
+   * {@link edu.kit.rose.model.roadsystem.DataType#FRACTIONAL} data type without boxing it.
+   *
+   * @param type the type of the attribute.
+   * @return the value of the attribute.
+   * @throws IllegalArgumentException if this segment has no fractional attribute of the given
+   *     type.
+   * @throws IllegalStateException if the value of the attribute is not configured.
+   */
+  double getFractionalValue(AttributeType type);
 }
@@ -0,0 +1,28 @@
+package edu.kit.rose.model.roadsystem.elements;
+
+import edu.kit.rose.model.roadsystem.attributes.AttributeType;
+
+/**
+ * A subscriber of {@link Segment}s that wants to know what kind of change happened.
+ * Segments notify subscribers that implement this interface through these methods instead of
+ * {@link edu.kit.rose.infrastructure.UnitObserver#notifyChange(Object)} when only a single
+ * attribute or only the connections of the segment changed. Every other change is still
+ * reported through notifyChange.
+ */
+public interface SegmentChangeObserver {
+  /**
+   * Notifies this observer that the value of an attribute of the given segment changed.
+   *
+   * @param segment the segment whose attribute changed.
+   * @param type the type of the changed attribute.
+   */
+  void notifyAttributeChange(Segment segment, AttributeType type);
+
+  /**
+   * Notifies this observer that the given segment was connected to or disconnected from another
+   * segment.
+   *
+   * @param segment the segment whose connections changed.
+   */
+  void notifyTopologyChange(Segment segment);
+}
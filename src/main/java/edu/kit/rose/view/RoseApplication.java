@@ -22,17 +22,22 @@ import edu.kit.rose.infrastructure.language.RoseLocalizedTextProvider;
 import edu.kit.rose.model.ApplicationDataSystem;
 import edu.kit.rose.model.ModelFactory;
 import edu.kit.rose.model.Project;
+import edu.kit.rose.model.plausibility.PlausibilityMetrics;
+import edu.kit.rose.model.plausibility.violation.ViolationManager;
 import edu.kit.rose.view.window.CriteriaWindow;
 import edu.kit.rose.view.window.MainWindow;
 import edu.kit.rose.view.window.MeasurementsWindow;
+import edu.kit.rose.view.window.ProgressWindow;
 import edu.kit.rose.view.window.RoseWindow;
 import edu.kit.rose.view.window.ShortCutHelpWindow;
 import edu.kit.rose.view.window.WindowState;
 import java.io.File;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.scene.control.Alert;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
@@ -49,8 +54,29 @@ import org.slf4j.LoggerFactory;
 public class RoseApplication extends Application implements Navigator {
   private static final Logger LOG = LoggerFactory.getLogger(RoseApplication.class);
   private static final Path CONFIG_PATH = Path.of("./rose-config.json");
+  /**
+   * Name of the system property that sets the number of violations a criterion may have before
+   * they are summarised.
+   */
+  private static final String VIOLATION_BUDGET_PROPERTY = "rose.plausibility.violationBudget";
+  /**
+   * Name of the system property that enables recording the metrics of the plausibility checks.
+   */
+  private static final String PLAUSIBILITY_METRICS_PROPERTY = "rose.plausibility.metrics";
+  /**
+   * Name of the system property that sets the period in seconds in which the metrics of the
+   * plausibility checks are logged, they are not logged if it is not set.
+   */
+  private static final String PLAUSIBILITY_METRICS_LOG_PROPERTY =
+      "rose.plausibility.metrics.logPeriod";
+  /**
+   * Name of the system property that enables evaluating large plausibility checks in the
+   * background.
+   */
+  private static final String BACKGROUND_PLAUSIBILITY_PROPERTY = "rose.plausibility.background";
 
   private static final String ROSE_EXTENSION_FILTER_NAME = "ROSE";
+  private static final String ROSE_BINARY_EXTENSION_FILTER_NAME = "ROSE (binary)";
   private static final String SUMO_EXTENSION_FILTER_NAME = "SUMO";
   private static final String YAML_EXTENSION_FILTER_NAME = "YAML";
   private static final String CRITERIA_EXTENSION_FILTER_NAME = "CRITERIA";
@@ -71,6 +97,10 @@ public class RoseApplication extends Application implements Navigator {
    * Contains information on available shortcuts.
    */
   private ShortCutHelpWindow shortCutHelpWindow;
+  /**
+   * Contains the progress window instance, while a project is loaded.
+   */
+  private ProgressWindow progressWindow;
 
   /**
    * The project that is currently opened in the application or an empty project.
@@ -186,10 +216,29 @@ public class RoseApplication extends Application implements Navigator {
     alertDialog.show();
   }
 
+  @Override
+  public void showProgress(double progress) {
+    if (this.progressWindow == null) {
+      this.progressWindow = new ProgressWindow(this.injector);
+      this.progressWindow.show();
+    }
+    this.progressWindow.setProgress(progress);
+  }
+
+  @Override
+  public void hideProgress() {
+    if (this.progressWindow != null) {
+      this.progressWindow.close();
+      this.progressWindow = null;
+    }
+  }
+
   private FileChooser.ExtensionFilter getExtensionFilter(FileFormat format) {
     return switch (format) {
       case ROSE -> new FileChooser.ExtensionFilter(ROSE_EXTENSION_FILTER_NAME,
           convertBoxToList(format.getFileExtensions()));
+      case ROSE_BINARY -> new FileChooser.ExtensionFilter(ROSE_BINARY_EXTENSION_FILTER_NAME,
+          convertBoxToList(format.getFileExtensions()));
       case SUMO -> new FileChooser.ExtensionFilter(SUMO_EXTENSION_FILTER_NAME,
           convertBoxToList(format.getFileExtensions()));
       case YAML -> new FileChooser.ExtensionFilter(YAML_EXTENSION_FILTER_NAME,
@@ -246,9 +295,46 @@ public class RoseApplication extends Application implements Navigator {
 
       applicationData = factory.createApplicationDataSystem();
       bind(ApplicationDataSystem.class).toInstance(applicationData);
+      if (Boolean.getBoolean(PLAUSIBILITY_METRICS_PROPERTY)) {
+        PlausibilityMetrics metrics =
+            applicationData.getCriteriaManager().getPlausibilityScheduler().getMetrics();
+        metrics.setEnabled(true);
+        Integer logPeriod = Integer.getInteger(PLAUSIBILITY_METRICS_LOG_PROPERTY);
+        if (logPeriod != null && logPeriod > 0) {
+          metrics.startLogging(Duration.ofSeconds(logPeriod));
+        }
+      }
+      if (Boolean.getBoolean(BACKGROUND_PLAUSIBILITY_PROPERTY)) {
+        applicationData.getCriteriaManager().getPlausibilityScheduler()
+            .setPublisher(Platform::runLater);
+      }
 
       project = factory.createProject();
       bind(Project.class).toInstance(project);
+      project.getPlausibilitySystem().getViolationManager().setViolationBudget(
+          getViolationBudget());
+    }
+
+    /*
+     * Reads the violation budget from its system property, an invalid value is logged and
+     * replaced by the default budget so the application still starts.
+     */
+    private int getViolationBudget() {
+      String value = System.getProperty(VIOLATION_BUDGET_PROPERTY);
+      if (value == null) {
+        return ViolationManager.DEFAULT_VIOLATION_BUDGET;
+      }
+      try {
+        int budget = Integer.parseInt(value.trim());
+        if (budget > 0) {
+          return budget;
+        }
+      } catch (NumberFormatException e) {
+        // logged below like a budget that is not positive
+      }
+      LOG.warn("Ignoring invalid violation budget {}={}, it must be a positive integer. Using {}.",
+          VIOLATION_BUDGET_PROPERTY, value, ViolationManager.DEFAULT_VIOLATION_BUDGET);
+      return ViolationManager.DEFAULT_VIOLATION_BUDGET;
     }
 
     private void configureControllers() {
@@ -6,6 +6,7 @@ import edu.kit.rose.controller.application.ApplicationController;
 import edu.kit.rose.controller.attribute.AttributeController;
 import edu.kit.rose.controller.measurement.MeasurementController;
 import edu.kit.rose.controller.roadsystem.RoadSystemController;
+import edu.kit.rose.infrastructure.DualSetChange;
 import edu.kit.rose.infrastructure.DualSetObserver;
 import edu.kit.rose.infrastructure.language.Language;
 import edu.kit.rose.model.Project;
@@ -19,10 +20,14 @@ import edu.kit.rose.view.commons.ConnectionView;
 import edu.kit.rose.view.commons.FxmlContainer;
 import edu.kit.rose.view.commons.SegmentView;
 import edu.kit.rose.view.commons.SegmentViewFactory;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.geometry.Point2D;
@@ -129,24 +134,33 @@ public class RoadSystemPanel extends FxmlContainer
 
   @Override
   public void notifyAdditionSecond(Connection unit) {
-    var connector1 = unit.getConnectors().get(0);
-    var connector2 = unit.getOther(connector1);
     var segmentViews = segmentViewMap.values();
+    var connectionView = createConnectionView(unit,
+        connector -> getSegmentViewByConnector(segmentViews, connector));
+    if (connectionView != null) {
+      roadSystemGrid.getChildren().add(connectionView);
+    }
+  }
+
+  private ConnectionView createConnectionView(Connection connection,
+      Function<Connector, SegmentView<?>> segmentViewByConnector) {
+    var connector1 = connection.getConnectors().get(0);
+    var connector2 = connection.getOther(connector1);
 
-    var segment1 = getSegmentViewByConnector(segmentViews, connector1);
-    var segment2 = getSegmentViewByConnector(segmentViews, connector2);
+    var segment1 = segmentViewByConnector.apply(connector1);
+    var segment2 = segmentViewByConnector.apply(connector2);
 
     if (segment1 == null || segment2 == null) {
-      return;
+      return null;
     }
 
     var connector1Pos = segment1.getSegment().getAbsoluteConnectorPosition(connector1);
     var connector2Pos = segment2.getSegment().getAbsoluteConnectorPosition(connector2);
 
     var connectionView = new ConnectionView(new Point2D(connector1Pos.getX(), connector1Pos.getY()),
-        new Point2D(connector2Pos.getX(), connector2Pos.getY()), unit);
-    connectionViewMap.put(unit, connectionView);
-    roadSystemGrid.getChildren().add(connectionView);
+        new Point2D(connector2Pos.getX(), connector2Pos.getY()), connection);
+    connectionViewMap.put(connection, connectionView);
+    return connectionView;
   }
 
   private SegmentView<?> getSegmentViewByConnector(
@@ -184,6 +198,43 @@ public class RoadSystemPanel extends FxmlContainer
     }
   }
 
+  /**
+   * Updates the grid once for all changes of a batch: connection views are removed and added
+   * together, and the segment view of each connector is looked up in a map that is built once
+   * instead of searching all segment views for every connection.
+   *
+   * @param changes the net changes that were made to the road system.
+   */
+  @Override
+  public void notifyChanges(DualSetChange<Element, Connection> changes) {
+    Set<ConnectionView> removedConnectionViews = new HashSet<>();
+    for (Connection connection : changes.getRemovalsSecond()) {
+      removedConnectionViews.add(connectionViewMap.remove(connection));
+    }
+    removedConnectionViews.remove(null);
+    roadSystemGrid.getChildren().removeAll(removedConnectionViews);
+
+    changes.getRemovals().forEach(this::notifyRemoval);
+    changes.getAdditions().forEach(this::notifyAddition);
+
+    if (changes.getAdditionsSecond().getSize() == 0) {
+      return;
+    }
+    Map<Connector, SegmentView<?>> segmentViewByConnector = new HashMap<>();
+    for (SegmentView<?> segmentView : segmentViewMap.values()) {
+      segmentView.getSegment().getConnectors()
+          .forEach(connector -> segmentViewByConnector.put(connector, segmentView));
+    }
+    List<ConnectionView> addedConnectionViews = new ArrayList<>();
+    for (Connection connection : changes.getAdditionsSecond()) {
+      var connectionView = createConnectionView(connection, segmentViewByConnector::get);
+      if (connectionView != null) {
+        addedConnectionViews.add(connectionView);
+      }
+    }
+    roadSystemGrid.getChildren().addAll(addedConnectionViews);
+  }
+
   @Override
   public void notifyChange(RoadSystem unit) {
 
@@ -6,24 +6,41 @@ import edu.kit.rose.controller.plausibility.PlausibilityController;
 import edu.kit.rose.infrastructure.SetObserver;
 import edu.kit.rose.infrastructure.language.Language;
 import edu.kit.rose.model.Project;
+import edu.kit.rose.model.plausibility.criteria.PlausibilityCriterion;
 import edu.kit.rose.model.plausibility.violation.Violation;
 import edu.kit.rose.model.plausibility.violation.ViolationManager;
+import edu.kit.rose.model.plausibility.violation.ViolationSummary;
 import edu.kit.rose.view.commons.FxmlContainer;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListView;
+import javafx.scene.control.Tooltip;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.VBox;
 
 /**
  * The problem overview panel provides an overview over
  * all current violations of the current road system against any plausibility criteria.
  * This realizes the problem overview part of specification PF11.1.2.
+ * Criteria with more violations than the violation budget of the {@link ViolationManager} are
+ * shown as a single summary above the list, which lists all violations of the criterion when it
+ * is double-clicked. The list is filled once and then kept up to date with the notifications of
+ * the manager, only the entries of criteria that start or stop being summarised are rebuilt.
  */
 public class ViolationOverviewPanel extends FxmlContainer
     implements SetObserver<Violation, ViolationManager> {
   private static final String VIOLATION_CSS_FILE = "/edu/kit/rose/view/panel/violation/Violation"
       + ".css";
+  private static final String SUMMARY_STYLE_CLASS = "summaryLabel";
+  private static final int DOUBLE_CLICK = 2;
 
   @Inject
   private PlausibilityController controller;
@@ -39,11 +56,23 @@ public class ViolationOverviewPanel extends FxmlContainer
   private Label violationLabel;
   @FXML
   private Label segmentLabel;
+  @FXML
+  private VBox summaryBox;
 
   private MessageFactory messageFactory;
 
   private Collection<ViolationHandle> violationHandles;
 
+  /**
+   * The criteria whose summarised violations were expanded by the user.
+   */
+  private final Set<PlausibilityCriterion> expandedCriteria = new HashSet<>();
+  /**
+   * The criteria that are shown as a summary, including the expanded ones.
+   */
+  private Set<PlausibilityCriterion> summarisedCriteria = new HashSet<>();
+  private boolean refreshPending;
+
   /**
    * Creates a new problem overview panel.
    */
@@ -69,26 +98,114 @@ public class ViolationOverviewPanel extends FxmlContainer
   private void initViolationBox() {
     violationList.setCellFactory(
         violation -> new ViolationListCell(this.controller, this.messageFactory));
+    List<Violation> violations = new ArrayList<>();
+    getViolationManager().getListedViolations().forEach(violations::add);
+    violationList.getItems().setAll(violations);
+    refresh();
+  }
+
+  private ViolationManager getViolationManager() {
+    return project.getPlausibilitySystem().getViolationManager();
+  }
+
+  /*
+   * Replaces the summaries with the current ones and rebuilds the listed violations of the
+   * criteria that started or stopped being summarised and of the expanded criteria.
+   */
+  private void refresh() {
+    refreshPending = false;
+    ViolationManager violationManager = getViolationManager();
+    Set<PlausibilityCriterion> summarised = new HashSet<>();
+    summaryBox.getChildren().clear();
+    for (ViolationSummary summary : violationManager.getSummaries()) {
+      summarised.add(summary.violatedCriterion());
+      if (!expandedCriteria.contains(summary.violatedCriterion())) {
+        summaryBox.getChildren().add(createSummaryLabel(summary));
+      }
+    }
+
+    Set<PlausibilityCriterion> rebuilt = new HashSet<>(summarisedCriteria);
+    rebuilt.addAll(summarised);
+    rebuilt.removeIf(criterion -> summarisedCriteria.contains(criterion)
+        && summarised.contains(criterion) && !expandedCriteria.contains(criterion));
+    expandedCriteria.retainAll(summarised);
+    summarisedCriteria = summarised;
+    if (rebuilt.isEmpty()) {
+      return;
+    }
+    violationList.getItems().removeIf(violation -> rebuilt.contains(violation.violatedCriterion()));
+    for (PlausibilityCriterion criterion : rebuilt) {
+      if (!summarised.contains(criterion) || expandedCriteria.contains(criterion)) {
+        violationManager.getViolationsOfCriterion(criterion)
+            .forEach(violationList.getItems()::add);
+      }
+    }
+  }
 
-    for (Violation violation : project.getPlausibilitySystem().getViolationManager()
-        .getViolations()) {
-      violationList.getItems().add(violation);
+  private void scheduleRefresh() {
+    if (!refreshPending) {
+      refreshPending = true;
+      Platform.runLater(this::refresh);
     }
   }
 
+  private Label createSummaryLabel(ViolationSummary summary) {
+    Label label = new Label(String.format(getTranslator()
+            .getLocalizedText("view.panel.violation.violationOverviewPanel.summary"),
+        summary.violatedCriterion().getName(), summary.violationCount()));
+    label.getStyleClass().add(SUMMARY_STYLE_CLASS);
+    label.setTooltip(new Tooltip(summary.sample().stream()
+        .map(messageFactory::generateShortDescription)
+        .collect(Collectors.joining(System.lineSeparator()))));
+    label.setOnMouseClicked(event -> expand(event, summary.violatedCriterion()));
+    return label;
+  }
+
+  private void expand(MouseEvent event, PlausibilityCriterion criterion) {
+    if (event.getClickCount() == DOUBLE_CLICK && !event.isConsumed()) {
+      event.consume();
+      expandedCriteria.add(criterion);
+      refresh();
+    }
+  }
+
+  /**
+   * Lists the violation, unless its criterion is summarised. Then only the summary is refreshed
+   * once the current changes are done, as the violations of a summarised criterion may change
+   * many times in a row.
+   */
   @Override
   public void notifyAddition(Violation unit) {
-    violationList.getItems().add(unit);
+    if (isSummarised(unit.violatedCriterion())) {
+      scheduleRefresh();
+    } else {
+      violationList.getItems().add(unit);
+    }
   }
 
   @Override
   public void notifyRemoval(Violation unit) {
     violationList.getItems().removeIf(item -> item == unit);
+    if (isSummarised(unit.violatedCriterion())) {
+      scheduleRefresh();
+    }
+  }
+
+  /*
+   * Returns whether the criterion is summarised by the panel or by the violation manager, the two
+   * differ until the next refresh.
+   */
+  private boolean isSummarised(PlausibilityCriterion criterion) {
+    return summarisedCriteria.contains(criterion) || getViolationManager().isSummarised(criterion);
   }
 
+  /**
+   * Refreshes the summaries once the current changes are done, a criterion may have started or
+   * stopped being summarised.
+   */
   @Override
   public void notifyChange(ViolationManager unit) {
-    initViolationBox();
+    scheduleRefresh();
   }
 
   @Override
@@ -97,6 +214,9 @@ public class ViolationOverviewPanel extends FxmlContainer
         .getLocalizedText("view.panel.violation.violationOverviewPanel.violationLabel"));
     segmentLabel.setText(getTranslator()
         .getLocalizedText("view.panel.violation.violationOverviewPanel.segmentLabel"));
+    if (messageFactory != null) {
+      refresh();
+    }
   }
 
   @Override
@@ -0,0 +1,87 @@
+package edu.kit.rose.view.window;
+
+import com.google.inject.Injector;
+import javafx.application.Platform;
+import javafx.event.Event;
+import javafx.geometry.Insets;
+import javafx.scene.Scene;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Modality;
+import javafx.stage.Stage;
+
+/**
+ * Shows the progress of loading a project.
+ * Projects are loaded on the JavaFX application thread, so this window runs the event loop until
+ * it was drawn whenever its progress changes. That loop also runs other queued tasks and redraws
+ * the other windows, which is safe because a {@link edu.kit.rose.model.Project} only reports the
+ * progress of loading between its batches, when every observer was notified of the elements read
+ * so far.
+ * The window can not be closed by the user, since the loop only ends once it was drawn.
+ */
+public class ProgressWindow extends RoseWindow {
+  private static final int WIDTH = 320;
+  private static final int PADDING = 20;
+  /**
+   * The minimal time between two redraws, so drawing does not slow the loading down.
+   */
+  private static final long REDRAW_INTERVAL_NANOS = 200_000_000L;
+
+  private Stage stage;
+  private ProgressBar progressBar;
+  private long lastRedraw;
+
+  /**
+   * Creates a new progress window.
+   *
+   * @param injector the dependency injector.
+   */
+  public ProgressWindow(Injector injector) {
+    super(injector);
+  }
+
+  @Override
+  protected void configureStage(Stage stage, Injector injector) {
+    this.stage = stage;
+    this.progressBar = new ProgressBar(0);
+    this.progressBar.setPrefWidth(WIDTH);
+    StackPane root = new StackPane(this.progressBar);
+    root.setPadding(new Insets(PADDING));
+    stage.setScene(new Scene(root));
+    stage.setTitle(getTranslator().getLocalizedText("view.window.progress.title"));
+    stage.initModality(Modality.APPLICATION_MODAL);
+    stage.setResizable(false);
+    stage.setOnCloseRequest(Event::consume);
+  }
+
+  /**
+   * Sets the progress that is shown and redraws the window if it was not redrawn recently.
+   *
+   * @param progress the progress between 0 and 1.
+   */
+  public void setProgress(double progress) {
+    this.progressBar.setProgress(progress);
+    long now = System.nanoTime();
+    if (now - this.lastRedraw >= REDRAW_INTERVAL_NANOS) {
+      this.lastRedraw = now;
+      redraw();
+    }
+  }
+
+  /*
+   * Runs the event loop until the next pulse laid this window out, so it is drawn although the
+   * application thread is busy loading.
+   */
+  private void redraw() {
+    if (!this.stage.isShowing() || !Platform.isNestedLoopSupported()) {
+      return;
+    }
+    Object key = new Object();
+    Runnable exit = () -> Platform.exitNestedEventLoop(key, null);
+    Scene scene = this.stage.getScene();
+    scene.addPostLayoutPulseListener(exit);
+    Platform.requestNextPulse();
+    Platform.enterNestedEventLoop(key);
+    scene.removePostLayoutPulseListener(exit);
+  }
+}
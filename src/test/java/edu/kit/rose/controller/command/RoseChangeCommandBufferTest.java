@@ -1,11 +1,14 @@
 package edu.kit.rose.controller.command;
 
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -96,4 +99,23 @@ class RoseChangeCommandBufferTest {
     verify(command3, times(1)).execute();
     verify(command4, times(1)).execute();
   }
+
+  @Test
+  void testCommandScope() {
+    var command4 = mock(ChangeCommand.class);
+    var scopedCommands = new ArrayList<Runnable>();
+    var scopedBuffer = new RoseChangeCommandBuffer(command -> {
+      scopedCommands.add(command);
+      command.run();
+    });
+
+    scopedBuffer.addAndExecuteCommand(command4);
+    scopedBuffer.undo();
+    scopedBuffer.redo();
+
+    assertEquals(3, scopedCommands.size());
+    verify(command4, times(2)).execute();
+    verify(command4, times(1)).unexecute();
+    assertThrows(NullPointerException.class, () -> new RoseChangeCommandBuffer(null));
+  }
 }
@@ -2,6 +2,7 @@ package edu.kit.rose.controller.hierarchy;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -45,6 +46,10 @@ class AddElementToGroupCommandTest {
     RoadSystem mockRoadSystem = mock(RoadSystem.class);
     when(this.mockProject.getRoadSystem()).thenReturn(mockRoadSystem);
     when(mockRoadSystem.getElements()).thenAnswer(stub -> new RoseBox<>(this.roadSystemElements));
+    when(mockRoadSystem.getParentGroup(any())).thenAnswer(stub -> this.roadSystemElements.stream()
+        .filter(element -> element.isContainer() && ((Group) element).contains(stub.getArgument(0)))
+        .findFirst()
+        .orElse(null));
 
     this.fromGroup.addElement(this.element);
 
@@ -202,6 +202,7 @@ class RoseProjectControllerTest {
     verifyStorageLockWasUsed(1);
     verify(this.navigator, times(1)).showFileDialog(FileDialogType.LOAD_FILE, FileFormat.ROSE);
     verify(this.navigator, never()).showErrorDialog(any());
+    verify(this.navigator, times(1)).hideProgress();
 
     assertEquals(1, this.project.getRoadSystem().getElements().getSize());
   }
@@ -214,6 +215,7 @@ class RoseProjectControllerTest {
     this.controller.loadProject();
     verifyStorageLockWasUsed(1);
     verify(this.navigator, times(1)).showErrorDialog(ErrorType.LOAD_ERROR);
+    verify(this.navigator, times(1)).hideProgress();
   }
 
   @Test
@@ -0,0 +1,79 @@
+package edu.kit.rose.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Test for the {@link RoseBoxView} and {@link RoseSortedBoxView} classes.
+ */
+class RoseSortedBoxViewTest {
+  private static final int NUMBER_OF_ELEMENTS = 10;
+
+  private List<Integer> content;
+  private RoseSortedBoxView<Integer> sortedBoxView;
+
+  @BeforeEach
+  void setUp() {
+    content = new ArrayList<>();
+    for (int i = 0; i < NUMBER_OF_ELEMENTS; i++) {
+      content.add(i);
+    }
+
+    sortedBoxView = new RoseSortedBoxView<>(content);
+  }
+
+  @Test
+  void testGet() {
+    for (int i = 0; i < NUMBER_OF_ELEMENTS; i++) {
+      Assertions.assertEquals(i, sortedBoxView.get(i));
+    }
+  }
+
+  @Test
+  void testShowsChanges() {
+    content.add(NUMBER_OF_ELEMENTS);
+    content.remove(Integer.valueOf(0));
+
+    Assertions.assertEquals(NUMBER_OF_ELEMENTS, sortedBoxView.getSize());
+    Assertions.assertTrue(sortedBoxView.contains(NUMBER_OF_ELEMENTS));
+    Assertions.assertFalse(sortedBoxView.contains(0));
+    Assertions.assertEquals(1, sortedBoxView.get(0));
+  }
+
+  @Test
+  void testIteratorDoesNotSupportRemove() {
+    Iterator<Integer> iterator = sortedBoxView.iterator();
+    iterator.next();
+
+    assertThrows(UnsupportedOperationException.class, iterator::remove);
+  }
+
+  @Test
+  void testSnapshot() {
+    SortedBox<Integer> snapshot = sortedBoxView.snapshot();
+    content.clear();
+
+    Assertions.assertEquals(0, sortedBoxView.getSize());
+    Assertions.assertEquals(NUMBER_OF_ELEMENTS, snapshot.getSize());
+    Assertions.assertEquals(NUMBER_OF_ELEMENTS - 1, snapshot.get(NUMBER_OF_ELEMENTS - 1));
+  }
+
+  @Test
+  void testBoxView() {
+    var boxView = new RoseBoxView<>(content);
+    var snapshot = boxView.snapshot();
+    content.add(NUMBER_OF_ELEMENTS);
+
+    Assertions.assertEquals(NUMBER_OF_ELEMENTS + 1, boxView.getSize());
+    Assertions.assertTrue(boxView.contains(NUMBER_OF_ELEMENTS));
+    Assertions.assertEquals(NUMBER_OF_ELEMENTS, snapshot.getSize());
+    Assertions.assertFalse(snapshot.contains(NUMBER_OF_ELEMENTS));
+    assertThrows(NullPointerException.class, () -> new RoseBoxView<Integer>(null));
+  }
+}
@@ -0,0 +1,173 @@
+package edu.kit.rose.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.kit.rose.infrastructure.Movement;
+import edu.kit.rose.infrastructure.Position;
+import edu.kit.rose.model.plausibility.criteria.CriteriaManager;
+import edu.kit.rose.model.roadsystem.RoadSystem;
+import edu.kit.rose.model.roadsystem.attributes.SpeedLimit;
+import edu.kit.rose.model.roadsystem.elements.Base;
+import edu.kit.rose.model.roadsystem.elements.Element;
+import edu.kit.rose.model.roadsystem.elements.Entrance;
+import edu.kit.rose.model.roadsystem.elements.Exit;
+import edu.kit.rose.model.roadsystem.elements.Group;
+import edu.kit.rose.model.roadsystem.elements.SegmentType;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RoseBinaryExportStrategy}.
+ */
+class RoseBinaryExportStrategyTest {
+  private static final double THRESHOLD = 0.0001;
+  private static final Path EXPORT_PATH =
+      Path.of("build", "tmp", "rose-binary-export-strategy-test.rose.bin");
+  private static final Path JSON_EXPORT_PATH =
+      Path.of("build", "tmp", "rose-binary-export-strategy-test.rose.json");
+
+  private RoseProject project;
+  private Base base;
+  private Exit exit;
+
+  @BeforeEach
+  void beforeEach() throws IOException {
+    Files.createDirectories(EXPORT_PATH.getParent());
+    this.project = createProject();
+    RoadSystem roadSystem = this.project.getRoadSystem();
+
+    this.base = (Base) roadSystem.createSegment(SegmentType.BASE);
+    this.base.setName("GWBFRStuttgart");
+    this.base.setLength(3000);
+    this.base.setSlope(-1.5);
+    this.base.setMaxSpeed(SpeedLimit.T120);
+    this.base.move(new Movement(12.25, -34));
+    this.base.getExit().move(new Movement(-40, 15.5));
+
+    this.exit = (Exit) roadSystem.createSegment(SegmentType.EXIT);
+    this.exit.setName("AusfahrtKarlsbad");
+    this.exit.setComment("Kommentar");
+    this.exit.setConurbation(true);
+    this.exit.setLaneCountRamp(1);
+    this.exit.setMaxSpeedRamp(SpeedLimit.SBA);
+    this.exit.setJunctionName("Karlsbad");
+    this.exit.move(new Movement(500, 600));
+    this.exit.rotate(93);
+
+    Entrance entrance = (Entrance) roadSystem.createSegment(SegmentType.ENTRANCE);
+    entrance.setName("AusfahrtKarlsbad");
+    Group group = roadSystem.createGroup(Set.of(this.exit, entrance));
+    group.setName("Autobahnkreuz");
+
+    roadSystem.connectConnectors(this.base.getExit(), this.exit.getEntry());
+    roadSystem.connectConnectors(this.exit.getRamp(), entrance.getRamp());
+    roadSystem.getTimeSliceSetting().setTimeSliceLength(20);
+    roadSystem.getTimeSliceSetting().setNumberOfTimeSlices(7);
+    this.project.getZoomSetting().setZoomLevel(2.5);
+  }
+
+  @Test
+  void testReImportProject() {
+    assertTrue(this.project.save(EXPORT_PATH));
+    RoseProject imported = createProject();
+    assertTrue(imported.load(EXPORT_PATH));
+    RoadSystem roadSystem = imported.getRoadSystem();
+
+    assertEquals(4, roadSystem.getElements().getSize());
+    Base importedBase = null;
+    Exit importedExit = null;
+    Group importedGroup = null;
+    for (Element element : roadSystem.getElements()) {
+      if (element instanceof Base segment) {
+        importedBase = segment;
+      } else if (element instanceof Exit segment) {
+        importedExit = segment;
+      } else if (element instanceof Group container) {
+        importedGroup = container;
+      }
+    }
+
+    assertNotNull(importedBase);
+    assertEquals("GWBFRStuttgart", importedBase.getName());
+    assertEquals(3000, importedBase.getLength());
+    assertEquals(-1.5, importedBase.getSlope(), THRESHOLD);
+    assertEquals(SpeedLimit.T120, importedBase.getMaxSpeed());
+    assertEqualPositions(this.base.getCenter(), importedBase.getCenter());
+    assertEqualPositions(this.base.getEntry().getPosition(),
+        importedBase.getEntry().getPosition());
+    assertEqualPositions(this.base.getExit().getPosition(), importedBase.getExit().getPosition());
+
+    assertNotNull(importedExit);
+    assertEquals("Kommentar", importedExit.getComment());
+    assertEquals(true, importedExit.getConurbation());
+    assertNull(importedExit.getSlope());
+    assertEquals(1, importedExit.getLaneCountRamp());
+    assertEquals(SpeedLimit.SBA, importedExit.getMaxSpeedRamp());
+    assertEquals("Karlsbad", importedExit.getJunctionName());
+    assertEquals(93, importedExit.getRotation());
+    assertEqualPositions(this.exit.getCenter(), importedExit.getCenter());
+    assertSame(importedExit.getEntry(),
+        roadSystem.getConnection(importedBase.getExit()).getOther(importedBase.getExit()));
+    assertNotNull(roadSystem.getConnection(importedExit.getRamp()));
+    assertNull(roadSystem.getConnection(importedExit.getExit()));
+
+    assertNotNull(importedGroup);
+    assertEquals("Autobahnkreuz", importedGroup.getName());
+    assertEquals(2, importedGroup.getElements().getSize());
+    assertTrue(importedGroup.contains(importedExit));
+
+    assertEquals(20, roadSystem.getTimeSliceSetting().getTimeSliceLength());
+    assertEquals(7, roadSystem.getTimeSliceSetting().getNumberOfTimeSlices());
+    assertEquals(2.5, imported.getZoomSetting().getZoomLevel(), THRESHOLD);
+  }
+
+  @Test
+  void testSmallerThanJson() throws IOException {
+    assertTrue(this.project.save(EXPORT_PATH));
+    assertTrue(this.project.save(JSON_EXPORT_PATH));
+
+    assertTrue(Files.size(EXPORT_PATH) * 4 < Files.size(JSON_EXPORT_PATH));
+  }
+
+  @Test
+  void testSpeedLimitsStoredByName() throws IOException {
+    assertTrue(this.project.save(EXPORT_PATH));
+    String data = new String(Files.readAllBytes(EXPORT_PATH), StandardCharsets.ISO_8859_1);
+
+    assertTrue(data.contains(SpeedLimit.T120.name()));
+    assertTrue(data.contains(SpeedLimit.SBA.name()));
+  }
+
+  @Test
+  void testImportTruncatedFile() throws IOException {
+    assertTrue(this.project.save(EXPORT_PATH));
+    byte[] data = Files.readAllBytes(EXPORT_PATH);
+    Files.write(EXPORT_PATH, Arrays.copyOf(data, data.length / 2));
+
+    assertFalse(createProject().load(EXPORT_PATH));
+  }
+
+  private static RoseProject createProject() {
+    var criteriaManager = new CriteriaManager();
+    var project = new RoseProject(criteriaManager);
+    criteriaManager.setRoadSystem(project.getRoadSystem());
+    criteriaManager.setViolationManager(project.getPlausibilitySystem().getViolationManager());
+    return project;
+  }
+
+  private static void assertEqualPositions(Position expected, Position actual) {
+    assertEquals(expected.getX(), actual.getX(), THRESHOLD);
+    assertEquals(expected.getY(), actual.getY(), THRESHOLD);
+  }
+}
@@ -190,6 +190,28 @@ class RoseExportStrategyTest {
     assertEquals(ZOOM_LEVEL, imported.getZoomSetting().getZoomLevel(), THRESHOLD);
   }
 
+  @Test
+  void testReImportGroupsAndConnections() {
+    var exportStrategy = new RoseExportStrategy(project);
+    assertTrue(exportStrategy.exportToFile(EXPORT_FILE.toFile()));
+
+    Project imported = mock(Project.class);
+    var roadSystem = new GraphRoadSystem(
+        MockingUtility.mockCriteriaManager(), new TimeSliceSetting());
+    when(imported.getRoadSystem()).thenReturn(roadSystem);
+    when(imported.getZoomSetting()).thenReturn(new ZoomSetting(new Position(0, 0)));
+
+    assertTrue(RoseExportStrategy.importToProject(imported, EXPORT_FILE.toFile()));
+    assertEquals(4, roadSystem.getElements().getSize());
+    for (var element : roadSystem.getElements()) {
+      if (element.isContainer()) {
+        assertEquals(2, ((Group) element).getElements().getSize());
+      } else if (((Segment) element).getSegmentType() == SegmentType.BASE) {
+        assertEquals(2, roadSystem.getConnections((Segment) element).getSize());
+      }
+    }
+  }
+
   @Test
   void testImportInvalidPath() {
     assertFalse(RoseExportStrategy.importToProject(this.project, INVALID_PATH.toFile()));
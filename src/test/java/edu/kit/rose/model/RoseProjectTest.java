@@ -8,11 +8,17 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeFalse;
 
+import edu.kit.rose.infrastructure.DualSetObserver;
 import edu.kit.rose.model.plausibility.criteria.CriteriaManager;
+import edu.kit.rose.model.roadsystem.RoadSystem;
+import edu.kit.rose.model.roadsystem.elements.Connection;
+import edu.kit.rose.model.roadsystem.elements.Element;
 import edu.kit.rose.model.roadsystem.elements.SegmentType;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -23,6 +29,8 @@ import org.junit.jupiter.api.Test;
 class RoseProjectTest {
   private static final Path EXPORT_PATH =
       Path.of("build/tmp/RoseProjectTest");
+  private static final Path BINARY_EXPORT_PATH =
+      Path.of("build/tmp/RoseProjectTest" + RoseBinaryExportStrategy.FILE_EXTENSION);
   private static final Path INVALID_EXPORT_PATH =
       Path.of("build/tmp/invalid-directory/invalid-export-file");
   private static final Path LOAD_PATH =
@@ -30,6 +38,7 @@ class RoseProjectTest {
 
   private static final double LOAD_SAMPLE_ZOOM_LEVEL = 10.0d;
   private static final int LOAD_SAMPLE_ELEMENT_COUNT = 4;
+  private static final int LARGE_PROJECT_SEGMENT_COUNT = 2500;
 
   CriteriaManager criteriaManager;
   RoseProject project;
@@ -83,6 +92,59 @@ class RoseProjectTest {
     assertEquals(LOAD_SAMPLE_ELEMENT_COUNT, this.project.getRoadSystem().getElements().getSize());
   }
 
+  @Test
+  void testLoadReportsProgress() {
+    List<Double> progress = new ArrayList<>();
+    assertTrue(this.project.load(LOAD_PATH, progress::add));
+
+    assertEquals(LOAD_SAMPLE_ELEMENT_COUNT, this.project.getRoadSystem().getElements().getSize());
+    assertFalse(progress.isEmpty());
+    assertEquals(1, progress.get(progress.size() - 1));
+    for (int i = 1; i < progress.size(); i++) {
+      assertTrue(progress.get(i - 1) <= progress.get(i));
+    }
+  }
+
+  @Test
+  void testLoadReportsProgressBetweenBatches() {
+    assertLoadReportsProgressBetweenBatches(EXPORT_PATH);
+    assertLoadReportsProgressBetweenBatches(BINARY_EXPORT_PATH);
+  }
+
+  private void assertLoadReportsProgressBetweenBatches(Path path) {
+    RoadSystem roadSystem = this.project.getRoadSystem();
+    this.project.reset();
+    for (int i = 0; i < LARGE_PROJECT_SEGMENT_COUNT; i++) {
+      roadSystem.createSegment(SegmentType.BASE);
+    }
+    assertTrue(this.project.save(path));
+
+    var observer = new ElementCountObserver(roadSystem.getElements().getSize());
+    roadSystem.addSubscriber(observer);
+    List<Integer> elementCounts = new ArrayList<>();
+    List<Integer> observedElementCounts = new ArrayList<>();
+    assertTrue(this.project.load(path, progress -> {
+      elementCounts.add(roadSystem.getElements().getSize());
+      observedElementCounts.add(observer.elementCount);
+    }));
+    roadSystem.removeSubscriber(observer);
+
+    assertEquals(LARGE_PROJECT_SEGMENT_COUNT, roadSystem.getElements().getSize());
+    assertEquals(elementCounts, observedElementCounts);
+    assertTrue(elementCounts.stream()
+        .anyMatch(count -> count > 0 && count < LARGE_PROJECT_SEGMENT_COUNT));
+  }
+
+  @Test
+  void testLoadInvalidFileLeavesProjectEmpty() throws IOException {
+    Files.createDirectories(EXPORT_PATH.getParent());
+    Files.writeString(EXPORT_PATH, "{\"roadSystem\": {\"elements\": [");
+    this.project.getRoadSystem().createSegment(SegmentType.BASE);
+
+    assertFalse(this.project.load(EXPORT_PATH));
+    assertEquals(0, this.project.getRoadSystem().getElements().getSize());
+  }
+
   @Test
   void testExportRose() throws IOException {
     this.project.exportToFile(ProjectFormat.ROSE, EXPORT_PATH);
@@ -112,10 +174,47 @@ class RoseProjectTest {
     assertFalse(this.project.exportToFile(ProjectFormat.ROSE, INVALID_EXPORT_PATH));
     assertFalse(Files.exists(INVALID_EXPORT_PATH));
 
+    assertFalse(this.project.exportToFile(ProjectFormat.ROSE_BINARY, INVALID_EXPORT_PATH));
+    assertFalse(Files.exists(INVALID_EXPORT_PATH));
+
     assertFalse(this.project.exportToFile(ProjectFormat.YAML, INVALID_EXPORT_PATH));
     assertFalse(Files.exists(INVALID_EXPORT_PATH));
 
     assertFalse(this.project.exportToFile(ProjectFormat.SUMO, INVALID_EXPORT_PATH));
     assertFalse(Files.exists(INVALID_EXPORT_PATH));
   }
+
+  /**
+   * Counts the elements that a road system notified its observers of.
+   */
+  private static class ElementCountObserver
+      implements DualSetObserver<Element, Connection, RoadSystem> {
+    private int elementCount;
+
+    ElementCountObserver(int elementCount) {
+      this.elementCount = elementCount;
+    }
+
+    @Override
+    public void notifyAddition(Element unit) {
+      this.elementCount++;
+    }
+
+    @Override
+    public void notifyRemoval(Element unit) {
+      this.elementCount--;
+    }
+
+    @Override
+    public void notifyAdditionSecond(Connection unit) {
+    }
+
+    @Override
+    public void notifyRemovalSecond(Connection unit) {
+    }
+
+    @Override
+    public void notifyChange(RoadSystem unit) {
+    }
+  }
 }
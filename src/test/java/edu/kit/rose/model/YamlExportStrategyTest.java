@@ -1,9 +1,13 @@
 package edu.kit.rose.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import edu.kit.rose.model.roadsystem.GraphRoadSystem;
 import edu.kit.rose.model.roadsystem.RoadSystem;
 import edu.kit.rose.model.roadsystem.TimeSliceSetting;
@@ -17,6 +21,10 @@ import edu.kit.rose.util.MockingUtility;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,10 +36,13 @@ class YamlExportStrategyTest {
   private static final Path EXPORT_FILE = Path.of("build/tmp/yaml-export.yml");
 
   Project project;
+  RoadSystem rs;
+  Exit exit;
+  Entrance entrance;
 
   @BeforeEach
   void beforeEach() {
-    RoadSystem rs = new GraphRoadSystem(
+    rs = new GraphRoadSystem(
         MockingUtility.mockCriteriaManager(),
         new TimeSliceSetting(15, 10)
     );
@@ -89,6 +100,8 @@ class YamlExportStrategyTest {
 
     project = mock(Project.class);
     when(project.getRoadSystem()).thenReturn(rs);
+    exit = segment2;
+    entrance = segment4;
   }
 
   @Test
@@ -105,4 +118,53 @@ class YamlExportStrategyTest {
     assertTrue(contents.contains("\n    Name: AusfahrtKarlsbadFRStuttgart"));
     assertTrue(contents.contains("\n  Zeitintervall: 10"));
   }
+
+  @Test
+  void testExportRampConnections() throws IOException {
+    Base exitRamp = createRamp("RampeAusfahrtKarlsbad");
+    Base entranceRamp = createRamp("RampeEinfahrtKarlsbad");
+    rs.connectConnectors(exit.getRamp(), exitRamp.getEntry());
+    rs.connectConnectors(entranceRamp.getExit(), entrance.getRamp());
+
+    var exportStrategy = new YamlExportStrategy(project);
+    assertTrue(exportStrategy.exportToFile(EXPORT_FILE.toFile()));
+
+    JsonNode segments = new ObjectMapper(new YAMLFactory()).readTree(EXPORT_FILE.toFile())
+        .get("Segmente");
+    Map<String, Integer> ids = new HashMap<>();
+    segments.fields().forEachRemaining(
+        entry -> ids.put(entry.getValue().path("Name").asText(), Integer.valueOf(entry.getKey())));
+
+    JsonNode exitNode = segments.get(ids.get("AusfahrtKarlsbadFRStuttgart").toString());
+    assertEquals(List.of(ids.get("GWBFRStuttgart")), getIds(exitNode.get("Vorgaenger")));
+    assertEquals(List.of(ids.get("KarlsbadFRStuttgart"), ids.get("RampeAusfahrtKarlsbad")),
+        getIds(exitNode.get("Nachfolger")));
+    JsonNode entranceNode = segments.get(ids.get("EinfahrtKarlsbadFRStuttgart").toString());
+    assertEquals(List.of(ids.get("KarlsbadFRStuttgart"), ids.get("RampeEinfahrtKarlsbad")),
+        getIds(entranceNode.get("Vorgaenger")));
+
+    JsonNode exitRampNode = segments.get(ids.get("RampeAusfahrtKarlsbad").toString());
+    assertEquals(List.of(ids.get("AusfahrtKarlsbadFRStuttgart")),
+        getIds(exitRampNode.get("Vorgaenger")));
+    JsonNode entranceRampNode = segments.get(ids.get("RampeEinfahrtKarlsbad").toString());
+    assertEquals(List.of(ids.get("EinfahrtKarlsbadFRStuttgart")),
+        getIds(entranceRampNode.get("Nachfolger")));
+  }
+
+  private Base createRamp(String name) {
+    Base ramp = (Base) rs.createSegment(SegmentType.BASE);
+    ramp.setName(name);
+    ramp.setLength(400);
+    ramp.setLaneCount(1);
+    ramp.setSlope(0.0);
+    ramp.setConurbation(true);
+    ramp.setMaxSpeed(SpeedLimit.T80);
+    return ramp;
+  }
+
+  private static List<Integer> getIds(JsonNode idList) {
+    List<Integer> ids = new ArrayList<>();
+    idList.forEach(id -> ids.add(id.asInt()));
+    return ids;
+  }
 }
@@ -0,0 +1,125 @@
+package edu.kit.rose.model.plausibility;
+
+import edu.kit.rose.model.plausibility.criteria.CriteriaManager;
+import edu.kit.rose.model.plausibility.criteria.PlausibilityCriterion;
+import edu.kit.rose.model.plausibility.criteria.PlausibilityCriterionType;
+import edu.kit.rose.model.plausibility.violation.ViolationManager;
+import edu.kit.rose.model.roadsystem.GraphRoadSystem;
+import edu.kit.rose.model.roadsystem.TimeSliceSetting;
+import edu.kit.rose.model.roadsystem.attributes.AttributeType;
+import edu.kit.rose.model.roadsystem.elements.Base;
+import edu.kit.rose.model.roadsystem.elements.SegmentType;
+import java.time.Duration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PlausibilityMetrics}.
+ */
+class PlausibilityMetricsTest {
+  private CriteriaManager criteriaManager;
+  private GraphRoadSystem roadSystem;
+  private PlausibilityMetrics metrics;
+  private PlausibilityCriterion laneCountCriterion;
+
+  @BeforeEach
+  void beforeEach() {
+    this.criteriaManager = new CriteriaManager();
+    this.criteriaManager.setViolationManager(new ViolationManager());
+    this.roadSystem = new GraphRoadSystem(this.criteriaManager, new TimeSliceSetting());
+    this.metrics = this.criteriaManager.getPlausibilityScheduler().getMetrics();
+    for (var criterion : this.criteriaManager.getCriteriaOfType(PlausibilityCriterionType.VALUE)) {
+      criterion.addSegmentType(SegmentType.BASE);
+      if (criterion.getAttributeDependencies().contains(AttributeType.LANE_COUNT)) {
+        this.laneCountCriterion = criterion;
+      }
+    }
+  }
+
+  /**
+   * Tests that nothing is recorded while the metrics are disabled, which is the default.
+   */
+  @Test
+  void testDisabledByDefault() {
+    Assertions.assertFalse(this.metrics.isEnabled());
+    this.criteriaManager.setRoadSystem(this.roadSystem);
+    Base segment = (Base) this.roadSystem.createSegment(SegmentType.BASE);
+    segment.setLaneCount(20);
+
+    Assertions.assertEquals(0, this.metrics.getCriteriaMetrics().getSize());
+    Assertions.assertEquals(0, this.metrics.getOperationMetrics(
+        PlausibilityMetrics.Operation.SET_ROAD_SYSTEM).invocations());
+  }
+
+  /**
+   * Tests that the checks of criteria and the violations they add and remove are recorded.
+   */
+  @Test
+  void testRecordsChecksAndViolations() {
+    this.metrics.setEnabled(true);
+    this.criteriaManager.setRoadSystem(this.roadSystem);
+    Assertions.assertEquals(1, this.metrics.getOperationMetrics(
+        PlausibilityMetrics.Operation.SET_ROAD_SYSTEM).invocations());
+
+    Base segment = (Base) this.roadSystem.createSegment(SegmentType.BASE);
+    segment.setLaneCount(20);
+    segment.setLaneCount(2);
+
+    MetricsSnapshot snapshot = this.metrics.getCriterionMetrics(this.laneCountCriterion);
+    Assertions.assertTrue(snapshot.invocations() >= 2);
+    Assertions.assertEquals(1, snapshot.violationsAdded());
+    Assertions.assertEquals(1, snapshot.violationsRemoved());
+    Assertions.assertTrue(snapshot.maxNanos() <= snapshot.totalNanos());
+
+    this.criteriaManager.removeCriterion(this.laneCountCriterion);
+    Assertions.assertEquals(0,
+        this.metrics.getCriterionMetrics(this.laneCountCriterion).invocations());
+  }
+
+  /**
+   * Tests that percentiles are accurate to a quarter of their value and that the metrics of
+   * criteria are sorted by their total latency.
+   */
+  @Test
+  void testPercentiles() {
+    this.metrics.setEnabled(true);
+    PlausibilityCriterion otherCriterion = this.criteriaManager.createCompatibilityCriterion();
+    for (int i = 1; i <= 1000; i++) {
+      this.metrics.recordCheck(this.laneCountCriterion, i * 1000L);
+    }
+    this.metrics.recordCheck(otherCriterion, 1_000_000_000L);
+
+    MetricsSnapshot snapshot = this.metrics.getCriterionMetrics(this.laneCountCriterion);
+    Assertions.assertEquals(1000, snapshot.invocations());
+    Assertions.assertEquals(500_500_000L, snapshot.totalNanos());
+    Assertions.assertEquals(1_000_000L, snapshot.maxNanos());
+    assertWithinQuarter(500_000L, snapshot.medianNanos());
+    assertWithinQuarter(900_000L, snapshot.p90Nanos());
+    assertWithinQuarter(990_000L, snapshot.p99Nanos());
+    Assertions.assertTrue(snapshot.p99Nanos() <= snapshot.maxNanos());
+
+    var criteriaMetrics = this.metrics.getCriteriaMetrics();
+    Assertions.assertEquals(2, criteriaMetrics.getSize());
+    Assertions.assertEquals(1_000_000_000L, criteriaMetrics.get(0).totalNanos());
+
+    this.metrics.reset();
+    Assertions.assertEquals(0, this.metrics.getCriteriaMetrics().getSize());
+  }
+
+  /**
+   * Tests that logging periodically requires a positive period.
+   */
+  @Test
+  void testStartLoggingThrowsException() {
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> this.metrics.startLogging(Duration.ZERO));
+    this.metrics.startLogging(Duration.ofMinutes(1));
+    this.metrics.close();
+  }
+
+  private static void assertWithinQuarter(long expected, long actual) {
+    Assertions.assertTrue(actual >= expected && actual <= expected * 5 / 4,
+        "expected about " + expected + " but was " + actual);
+  }
+}
@@ -0,0 +1,321 @@
+package edu.kit.rose.model.plausibility;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import edu.kit.rose.infrastructure.RoseSortedBox;
+import edu.kit.rose.model.plausibility.criteria.CriteriaManager;
+import edu.kit.rose.model.plausibility.criteria.PlausibilityCriterion;
+import edu.kit.rose.model.plausibility.criteria.PlausibilityCriterionType;
+import edu.kit.rose.model.plausibility.violation.ViolationManager;
+import edu.kit.rose.model.roadsystem.GraphRoadSystem;
+import edu.kit.rose.model.roadsystem.TimeSliceSetting;
+import edu.kit.rose.model.roadsystem.attributes.AttributeType;
+import edu.kit.rose.model.roadsystem.elements.Base;
+import edu.kit.rose.model.roadsystem.elements.Segment;
+import edu.kit.rose.model.roadsystem.elements.SegmentType;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Unit tests for {@link PlausibilityScheduler}.
+ */
+class PlausibilitySchedulerTest {
+  private PlausibilityCriterion criterion1;
+  private PlausibilityCriterion criterion2;
+  private PlausibilityScheduler scheduler;
+  private Base segment;
+
+  @BeforeEach
+  void beforeEach() {
+    this.criterion1 = Mockito.mock(PlausibilityCriterion.class);
+    this.criterion2 = Mockito.mock(PlausibilityCriterion.class);
+    Mockito.when(this.criterion1.getAttributeDependencies())
+        .thenReturn(EnumSet.allOf(AttributeType.class));
+    Mockito.when(this.criterion2.getAttributeDependencies())
+        .thenReturn(EnumSet.allOf(AttributeType.class));
+    var criteriaManager = Mockito.mock(CriteriaManager.class);
+    Mockito.when(criteriaManager.getCriteria())
+        .thenReturn(new RoseSortedBox<>(this.criterion1, this.criterion2));
+    this.scheduler = new PlausibilityScheduler(criteriaManager);
+    this.segment = new Base();
+    this.segment.addSubscriber(this.scheduler);
+  }
+
+  @Test
+  void testConstructor() {
+    Assertions.assertThrows(NullPointerException.class, () -> new PlausibilityScheduler(null));
+  }
+
+  /**
+   * Tests whether segment changes are checked right away if checks are not deferred.
+   */
+  @Test
+  void testChecksImmediately() {
+    this.segment.setLength(10);
+    this.segment.setSlope(1.0);
+
+    verify(this.criterion1, times(2)).notifyChange(this.segment);
+    verify(this.criterion2, times(2)).notifyChange(this.segment);
+  }
+
+  /**
+   * Tests whether deferred changes of a segment are checked once by every criterion.
+   */
+  @Test
+  void testDeferDeduplicatesChecks() {
+    Segment other = new Base();
+    other.addSubscriber(this.scheduler);
+
+    this.scheduler.defer(() -> {
+      this.segment.setLength(10);
+      this.scheduler.defer(() -> this.segment.setSlope(1.0));
+      other.notifySubscribers();
+      this.segment.setLaneCount(2);
+
+      Assertions.assertTrue(this.scheduler.isDeferring());
+      verify(this.criterion1, never()).notifyChange(Mockito.any());
+    });
+
+    Assertions.assertFalse(this.scheduler.isDeferring());
+    verify(this.criterion1, times(1)).notifyChange(this.segment);
+    verify(this.criterion2, times(1)).notifyChange(this.segment);
+    verify(this.criterion1, times(1)).notifyChange(other);
+  }
+
+  /**
+   * Tests whether a cancelled segment is not checked when the deferred changes complete.
+   */
+  @Test
+  void testCancel() {
+    this.scheduler.defer(() -> {
+      this.segment.setLength(10);
+      this.scheduler.cancel(this.segment);
+    });
+
+    verify(this.criterion1, never()).notifyChange(Mockito.any());
+  }
+
+  /**
+   * Tests whether a removed segment is handed to every criterion and not checked anymore.
+   */
+  @Test
+  void testNotifyRemoval() {
+    this.scheduler.defer(() -> {
+      this.segment.setLength(10);
+      this.scheduler.notifyRemoval(this.segment);
+    });
+
+    verify(this.criterion1, times(1)).notifyRemoval(this.segment);
+    verify(this.criterion2, times(1)).notifyRemoval(this.segment);
+    verify(this.criterion1, never()).notifyChange(Mockito.any());
+  }
+
+  /**
+   * Tests whether removing a segment from the road system removes its violations, whether it is
+   * removed on its own or within a batch, and whether the criteria keep checking the remaining
+   * segments afterwards.
+   */
+  @Test
+  void testRemovedSegmentsLoseTheirViolations() {
+    var criteriaManager = new CriteriaManager();
+    var violationManager = new ViolationManager();
+    criteriaManager.setViolationManager(violationManager);
+    var roadSystem = new GraphRoadSystem(criteriaManager, new TimeSliceSetting());
+    criteriaManager.setRoadSystem(roadSystem);
+    for (var criterion : criteriaManager.getCriteriaOfType(PlausibilityCriterionType.VALUE)) {
+      criterion.addSegmentType(SegmentType.BASE);
+    }
+    Base first = (Base) roadSystem.createSegment(SegmentType.BASE);
+    Base second = (Base) roadSystem.createSegment(SegmentType.BASE);
+    Base third = (Base) roadSystem.createSegment(SegmentType.BASE);
+    for (Base base : List.of(first, second, third)) {
+      base.setLength(0);
+    }
+    int violationsPerSegment = violationManager.getViolationsOfSegment(first).getSize();
+    Assertions.assertTrue(violationsPerSegment > 0);
+
+    roadSystem.removeElement(first);
+    roadSystem.batch(() -> roadSystem.removeElement(second));
+
+    Assertions.assertEquals(0, violationManager.getViolationsOfSegment(first).getSize());
+    Assertions.assertEquals(0, violationManager.getViolationsOfSegment(second).getSize());
+    Assertions.assertEquals(violationsPerSegment, violationManager.getViolationCount());
+    third.setLength(100);
+    Assertions.assertEquals(violationsPerSegment - 1, violationManager.getViolationCount());
+  }
+
+  /**
+   * Tests whether dirty segments are checked even if the deferred changes throw.
+   */
+  @Test
+  void testDeferFlushesOnException() {
+    Assertions.assertThrows(IllegalStateException.class, () -> this.scheduler.defer(() -> {
+      this.segment.setLength(10);
+      throw new IllegalStateException();
+    }));
+
+    verify(this.criterion1, times(1)).notifyChange(this.segment);
+    Assertions.assertFalse(this.scheduler.isDeferring());
+  }
+
+  /**
+   * Tests whether attribute changes are only checked by the criteria that depend on the changed
+   * attribute, both right away and when deferred.
+   */
+  @Test
+  void testSkipsUnrelatedAttributeChanges() {
+    Mockito.when(this.criterion2.getAttributeDependencies())
+        .thenReturn(Set.of(AttributeType.LENGTH));
+
+    this.segment.setComment("comment");
+    verify(this.criterion1, times(1)).notifyChange(this.segment);
+    verify(this.criterion2, never()).notifyChange(Mockito.any());
+
+    this.scheduler.defer(() -> {
+      this.segment.setName("name");
+      this.segment.setComment("another comment");
+    });
+    verify(this.criterion1, times(2)).notifyChange(this.segment);
+    verify(this.criterion2, never()).notifyChange(Mockito.any());
+
+    this.segment.setLength(10);
+    verify(this.criterion2, times(1)).notifyChange(this.segment);
+  }
+
+  /**
+   * Tests whether connection changes are only checked by the criteria that depend on the
+   * topology, while other changes are checked by every criterion.
+   */
+  @Test
+  void testTopologyChanges() {
+    Mockito.when(this.criterion2.dependsOnTopology()).thenReturn(true);
+
+    this.segment.notifyTopologyChange();
+    verify(this.criterion1, never()).notifyChange(Mockito.any());
+    verify(this.criterion2, times(1)).notifyChange(this.segment);
+
+    this.segment.notifySubscribers();
+    verify(this.criterion1, times(1)).notifyChange(this.segment);
+  }
+
+  /**
+   * Tests whether a parallel check of many segments finds the same violations as a serial one.
+   */
+  @Test
+  void testParallelCheckMatchesSerial() throws InterruptedException {
+    Assertions.assertTrue(this.scheduler.isParallel());
+
+    Assertions.assertEquals(countViolations(false, null), countViolations(true, null));
+  }
+
+  /**
+   * Tests whether the results of background checks are only applied through the publisher and
+   * find the same violations as a serial check.
+   */
+  @Test
+  void testBackgroundCheckMatchesSerial() throws InterruptedException {
+    Assertions.assertEquals(countViolations(false, null),
+        countViolations(true, new LinkedBlockingQueue<>()));
+  }
+
+  /**
+   * Tests whether a segment that changed while a background check was evaluated keeps the result
+   * of its newer check.
+   */
+  @Test
+  void testBackgroundCheckSkipsChangedSegments() throws InterruptedException {
+    var criteriaManager = new CriteriaManager();
+    var violationManager = new ViolationManager();
+    criteriaManager.setViolationManager(violationManager);
+    var roadSystem = new GraphRoadSystem(criteriaManager, new TimeSliceSetting());
+    criteriaManager.setRoadSystem(roadSystem);
+    BlockingQueue<Runnable> results = new LinkedBlockingQueue<>();
+    criteriaManager.getPlausibilityScheduler().setPublisher(results::add);
+    var valueCriteria = criteriaManager.getCriteriaOfType(PlausibilityCriterionType.VALUE);
+    for (var criterion : valueCriteria) {
+      criterion.addSegmentType(SegmentType.BASE);
+    }
+
+    List<Base> segments = new ArrayList<>();
+    roadSystem.batch(() -> {
+      for (int i = 0; i < 1000; i++) {
+        Base segment = (Base) roadSystem.createSegment(SegmentType.BASE);
+        segment.setLength(0);
+        segments.add(segment);
+      }
+    });
+    Base changed = segments.get(0);
+    changed.setLength(100);
+    publishResults(results, valueCriteria.getSize());
+
+    Assertions.assertEquals(0, countValueViolations(violationManager, changed));
+    Assertions.assertEquals(1, countValueViolations(violationManager, segments.get(1)));
+  }
+
+  private static long countValueViolations(ViolationManager violationManager, Segment segment) {
+    return violationManager.getViolationsOfSegment(segment).stream()
+        .filter(violation -> violation.violatedCriterion().getType()
+            == PlausibilityCriterionType.VALUE)
+        .count();
+  }
+
+  private static void publishResults(BlockingQueue<Runnable> results, int count)
+      throws InterruptedException {
+    for (int i = 0; i < count; i++) {
+      Runnable result = results.poll(10, TimeUnit.SECONDS);
+      Assertions.assertNotNull(result);
+      result.run();
+    }
+  }
+
+  private Map<PlausibilityCriterionType, Long> countViolations(boolean parallel,
+                                                              BlockingQueue<Runnable> results)
+      throws InterruptedException {
+    var criteriaManager = new CriteriaManager();
+    var violationManager = new ViolationManager();
+    criteriaManager.setViolationManager(violationManager);
+    var roadSystem = new GraphRoadSystem(criteriaManager, new TimeSliceSetting());
+    criteriaManager.setRoadSystem(roadSystem);
+    criteriaManager.getPlausibilityScheduler().setParallel(parallel);
+    if (results != null) {
+      criteriaManager.getPlausibilityScheduler().setPublisher(results::add);
+    }
+    for (var criterion : criteriaManager.getCriteriaOfType(PlausibilityCriterionType.VALUE)) {
+      criterion.addSegmentType(SegmentType.BASE);
+    }
+
+    roadSystem.batch(() -> {
+      for (int i = 0; i < 2000; i++) {
+        Base segment = (Base) roadSystem.createSegment(SegmentType.BASE);
+        segment.setLength(i % 3 == 0 ? 0 : 100);
+        segment.setLaneCount(i % 7 == 0 ? 20 : 2);
+        segment.setSlope(1.0);
+        if (i % 5 == 0) {
+          segment.setName("segment " + i);
+        }
+      }
+    });
+    if (results != null) {
+      var valueCriteria = criteriaManager.getCriteriaOfType(PlausibilityCriterionType.VALUE);
+      Assertions.assertTrue(violationManager.getViolations().stream().noneMatch(
+          violation -> valueCriteria.contains(violation.violatedCriterion())));
+      publishResults(results, valueCriteria.getSize());
+    }
+
+    return violationManager.getViolations().stream().collect(Collectors.groupingBy(
+        violation -> violation.violatedCriterion().getType(), Collectors.counting()));
+  }
+}
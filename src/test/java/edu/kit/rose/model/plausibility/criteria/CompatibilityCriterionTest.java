@@ -2,6 +2,7 @@ package edu.kit.rose.model.plausibility.criteria;
 
 import edu.kit.rose.infrastructure.SortedBox;
 import edu.kit.rose.model.plausibility.criteria.validation.ValidationType;
+import edu.kit.rose.model.plausibility.violation.Violation;
 import edu.kit.rose.model.plausibility.violation.ViolationManager;
 import edu.kit.rose.model.roadsystem.GraphRoadSystem;
 import edu.kit.rose.model.roadsystem.RoadSystem;
@@ -12,6 +13,8 @@ import edu.kit.rose.model.roadsystem.elements.HighwaySegment;
 import edu.kit.rose.model.roadsystem.elements.SegmentType;
 import edu.kit.rose.util.MockingUtility;
 import edu.kit.rose.util.RoadSystemUtility;
+import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -171,6 +174,68 @@ class CompatibilityCriterionTest {
     Assertions.assertEquals(1, this.violationManager.getViolations().getSize());
   }
 
+  @Test
+  void testRecheckKeepsViolations() {
+    HighwaySegment segment1 = RoadSystemUtility.createDefaultBase(this.roadSystem);
+    HighwaySegment segment2 = RoadSystemUtility.createDefaultBase(this.roadSystem);
+    HighwaySegment segment3 = RoadSystemUtility.createDefaultBase(this.roadSystem);
+    roadSystem.connectConnectors(segment1.getExit(), segment2.getEntry());
+    roadSystem.connectConnectors(segment1.getEntry(), segment3.getExit());
+    segment1.setName("a");
+    segment2.setName("b");
+    segment3.setName("c");
+
+    this.criterion.setValidationType(ValidationType.EQUALS);
+    this.criterion.setAttributeType(AttributeType.NAME);
+    this.criterion.addSegmentType(SegmentType.BASE);
+    Assertions.assertEquals(2, this.violationManager.getViolations().getSize());
+    Violation violation = this.violationManager.getViolations().get(0);
+
+    this.criterion.notifyChange(segment1);
+    Assertions.assertEquals(2, this.violationManager.getViolations().getSize());
+    Assertions.assertTrue(this.violationManager.getViolations().contains(violation));
+
+    segment3.setName("a");
+    this.criterion.notifyChange(segment1);
+    this.criterion.notifyChange(segment3);
+    Assertions.assertEquals(1, this.violationManager.getViolations().getSize());
+    Assertions.assertEquals(List.of(segment2, segment1),
+        List.copyOf(this.violationManager.getViolations().get(0).offendingSegments()));
+  }
+
+  @Test
+  void testCheckSegments() {
+    HighwaySegment segment1 = (HighwaySegment) this.roadSystem.createSegment(SegmentType.BASE);
+    HighwaySegment segment2 = (HighwaySegment) this.roadSystem.createSegment(SegmentType.BASE);
+    HighwaySegment segment3 = (HighwaySegment) this.roadSystem.createSegment(SegmentType.BASE);
+    HighwaySegment segment4 = (HighwaySegment) this.roadSystem.createSegment(SegmentType.BASE);
+    roadSystem.connectConnectors(segment1.getExit(), segment2.getEntry());
+    roadSystem.connectConnectors(segment2.getExit(), segment3.getEntry());
+    roadSystem.connectConnectors(segment3.getExit(), segment4.getEntry());
+    segment1.setSlope(1.0);
+    segment2.setSlope(1.0);
+    segment3.setSlope(2.0);
+    segment4.setSlope(null);
+
+    this.criterion.setAttributeType(AttributeType.SLOPE);
+    this.criterion.setValidationType(ValidationType.EQUALS);
+    this.criterion.addSegmentType(SegmentType.BASE);
+    Assertions.assertEquals(1, this.violationManager.getViolations().getSize());
+    Assertions.assertEquals(Set.of(segment2, segment3),
+        Set.copyOf(this.violationManager.getViolations().get(0).offendingSegments()));
+
+    this.criterion.setValidationType(ValidationType.LESS_THAN);
+    Assertions.assertEquals(2, this.violationManager.getViolations().getSize());
+    this.criterion.setLegalDiscrepancy(0.5);
+    Assertions.assertEquals(1, this.violationManager.getViolations().getSize());
+    this.criterion.setLegalDiscrepancy(2);
+    Assertions.assertEquals(0, this.violationManager.getViolations().getSize());
+
+    segment3.setSlope(5.0);
+    this.criterion.checkSegments(List.of(segment3, segment4));
+    Assertions.assertEquals(1, this.violationManager.getViolations().getSize());
+  }
+
   @Test
   void testSetViolationManager() {
     ViolationManager violationManager2 = new ViolationManager();
@@ -82,4 +82,22 @@ class ConnectorCriterionTest {
 
     Assertions.assertEquals(0, violationManager.getViolations().getSize());
   }
+
+  @Test
+  void reversedSegmentInChainTest() {
+    var segment1 = RoadSystemUtility.createDefaultBase(this.roadSystem);
+    var segment2 = RoadSystemUtility.createDefaultBase(this.roadSystem);
+    var segment3 = RoadSystemUtility.createDefaultBase(this.roadSystem);
+
+    roadSystem.connectConnectors(segment1.getExit(), segment2.getExit());
+    roadSystem.connectConnectors(segment2.getEntry(), segment3.getEntry());
+
+    Assertions.assertEquals(2, violationManager.getViolations().getSize());
+    Assertions.assertEquals(2, violationManager.getViolationsOfSegment(segment2).getSize());
+
+    roadSystem.connectConnectors(segment2.getEntry(), segment3.getExit());
+
+    Assertions.assertEquals(1, violationManager.getViolations().getSize());
+    Assertions.assertEquals(0, violationManager.getViolationsOfSegment(segment3).getSize());
+  }
 }
@@ -126,4 +126,33 @@ class CriteriaManagerTest {
     // two completeness violations and one compatibility violation
     Assertions.assertEquals(3, violationManager.getViolations().getSize());
   }
-}
\ No newline at end of file
+
+  /**
+   * Tests if setting the road system checks the segments it already holds, without losing or
+   * duplicating the violations that were found before.
+   */
+  @Test
+  void testSetRoadSystemChecksExistingSegments() {
+    CriteriaManager criteriaManager1 = new CriteriaManager();
+    ViolationManager violationManager = new ViolationManager();
+    criteriaManager1.setViolationManager(violationManager);
+    GraphRoadSystem roadSystem =
+            new GraphRoadSystem(criteriaManager1, Mockito.mock(TimeSliceSetting.class));
+    criteriaManager1.setRoadSystem(roadSystem);
+    HighwaySegment segment = (HighwaySegment) roadSystem.createSegment(SegmentType.BASE);
+    segment.setLength(0);
+    int violationCount = violationManager.getViolationCount();
+    // adding a segment type does not check the segments again
+    criteriaManager1.getCriteriaOfType(PlausibilityCriterionType.VALUE)
+        .forEach(criterion -> criterion.addSegmentType(SegmentType.BASE));
+    Assertions.assertEquals(violationCount, violationManager.getViolationCount());
+
+    criteriaManager1.setRoadSystem(roadSystem);
+    Assertions.assertEquals(violationCount + 1, violationManager.getViolationCount());
+    criteriaManager1.setRoadSystem(roadSystem);
+    Assertions.assertEquals(violationCount + 1, violationManager.getViolationCount());
+
+    segment.setLength(100);
+    Assertions.assertEquals(violationCount, violationManager.getViolationCount());
+  }
+}
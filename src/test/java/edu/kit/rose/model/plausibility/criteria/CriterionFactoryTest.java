@@ -11,7 +11,7 @@ import edu.kit.rose.infrastructure.RoseSortedBox;
 import edu.kit.rose.model.plausibility.violation.ViolationManager;
 import edu.kit.rose.model.roadsystem.RoadSystem;
 import edu.kit.rose.model.roadsystem.elements.Base;
-import edu.kit.rose.model.roadsystem.elements.Element;
+import edu.kit.rose.model.roadsystem.elements.Segment;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,8 +25,9 @@ class CriterionFactoryTest {
   @BeforeEach
   void setUp() {
     RoadSystem roadSystem = mock(RoadSystem.class);
-    Element element = new Base();
-    when(roadSystem.getElements()).thenReturn(new RoseSortedBox<>(List.of(element)));
+    Segment segment = new Base();
+    when(roadSystem.getElements()).thenReturn(new RoseSortedBox<>(List.of(segment)));
+    when(roadSystem.getSegments()).thenReturn(new RoseSortedBox<>(List.of(segment)));
     when(roadSystem.getConnections(any())).thenReturn(new RoseBox<>());
     this.factory = new CriterionFactory();
     this.factory.setRoadSystem(roadSystem);
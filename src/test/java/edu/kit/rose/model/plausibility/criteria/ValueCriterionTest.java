@@ -5,6 +5,7 @@ import edu.kit.rose.model.plausibility.violation.ViolationManager;
 import edu.kit.rose.model.roadsystem.attributes.AttributeType;
 import edu.kit.rose.model.roadsystem.elements.Base;
 import edu.kit.rose.model.roadsystem.elements.SegmentType;
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -90,6 +91,61 @@ class ValueCriterionTest {
     Assertions.assertEquals(0, violationManager.getViolations().getSize());
   }
 
+  @Test
+  void testCheckSegments() {
+    Base inRange = new Base();
+    Base tooLong = new Base();
+    Base unset = new Base();
+    criterion1.addSegmentType(SegmentType.BASE);
+    inRange.setLength(10);
+    tooLong.setLength(6000);
+    unset.setLength(null);
+
+    criterion1.checkSegments(List.of(inRange, tooLong, unset));
+    Assertions.assertEquals(1, violationManager.getViolations().getSize());
+    Assertions.assertEquals(List.of(tooLong),
+        List.copyOf(violationManager.getViolations().get(0).offendingSegments()));
+
+    inRange.setLength(0);
+    tooLong.setLength(10);
+    criterion1.checkSegments(List.of(inRange, tooLong, unset));
+    Assertions.assertEquals(1, violationManager.getViolations().getSize());
+    Assertions.assertEquals(List.of(inRange),
+        List.copyOf(violationManager.getViolations().get(0).offendingSegments()));
+  }
+
+  @Test
+  void testSnapshotSegments() {
+    Base tooLong = new Base();
+    Base changed = new Base();
+    criterion1.addSegmentType(SegmentType.BASE);
+    tooLong.setLength(6000);
+    changed.setLength(6000);
+
+    SnapshotCheck check = criterion1.snapshotSegments(List.of(tooLong, changed));
+    tooLong.setLength(10);
+    check.evaluate();
+    Assertions.assertEquals(0, violationManager.getViolations().getSize());
+
+    check.apply(segment -> segment != changed);
+    Assertions.assertEquals(1, violationManager.getViolations().getSize());
+    Assertions.assertEquals(List.of(tooLong),
+        List.copyOf(violationManager.getViolations().get(0).offendingSegments()));
+  }
+
+  @Test
+  void testSnapshotSegmentsAfterSegmentTypeChange() {
+    Base segment = new Base();
+    segment.setLength(6000);
+
+    SnapshotCheck check = criterion1.snapshotSegments(List.of(segment));
+    check.evaluate();
+    criterion1.addSegmentType(SegmentType.BASE);
+    check.apply(checkedSegment -> true);
+
+    Assertions.assertEquals(1, violationManager.getViolations().getSize());
+  }
+
   @Test
   void testNotifyAddition() {
     Base segment = new Base();
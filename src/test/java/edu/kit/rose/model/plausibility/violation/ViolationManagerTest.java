@@ -1,5 +1,6 @@
 package edu.kit.rose.model.plausibility.violation;
 
+import edu.kit.rose.infrastructure.SetObserver;
 import edu.kit.rose.infrastructure.SortedBox;
 import edu.kit.rose.model.plausibility.criteria.PlausibilityCriterion;
 import edu.kit.rose.model.plausibility.criteria.PlausibilityCriterionType;
@@ -8,6 +9,7 @@ import edu.kit.rose.model.roadsystem.elements.Entrance;
 import edu.kit.rose.model.roadsystem.elements.Segment;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import org.junit.jupiter.api.Assertions;
@@ -102,6 +104,50 @@ class ViolationManagerTest {
 
 
 
+  @Test
+  void testReversedSegments() {
+    List<Segment> reversedSegments = new ArrayList<>(twoOffendingSegments);
+    Collections.reverse(reversedSegments);
+    Violation reversedViolation = new Violation(compatibilityCriterion, reversedSegments);
+
+    violationManager.addViolation(compatibilityViolation);
+    violationManager.addViolation(reversedViolation);
+
+    Assertions.assertEquals(1, violationManager.getViolations().getSize());
+    Assertions.assertSame(compatibilityViolation,
+        violationManager.getViolation(compatibilityCriterion, reversedSegments));
+
+    violationManager.removeViolation(reversedViolation);
+
+    Assertions.assertEquals(0, violationManager.getViolations().getSize());
+  }
+
+  @Test
+  void testIndicesAndCounts() {
+    Segment segment = twoOffendingSegments.iterator().next();
+    Violation singleViolation = new Violation(valueCriterion, List.of(segment));
+    violationManager.addViolation(compatibilityViolation);
+    violationManager.addViolation(valueViolation);
+    violationManager.addViolation(singleViolation);
+
+    Assertions.assertEquals(3, violationManager.getViolationCount());
+    Assertions.assertEquals(3, violationManager.getViolationsOfSegment(segment).getSize());
+    Assertions.assertEquals(1, violationManager.getViolationCount(compatibilityCriterion));
+    Assertions.assertEquals(2, violationManager.getViolationCount(PlausibilityCriterionType.VALUE));
+    Assertions.assertTrue(violationManager.getViolationsOfCriterion(valueCriterion)
+        .contains(singleViolation));
+
+    violationManager.removeViolation(valueViolation);
+    violationManager.removeViolation(singleViolation);
+
+    Assertions.assertEquals(1, violationManager.getViolationsOfSegment(segment).getSize());
+    Assertions.assertEquals(0, violationManager.getViolationCount(valueCriterion));
+    Assertions.assertEquals(0, violationManager.getViolationCount(PlausibilityCriterionType.VALUE));
+    Assertions.assertEquals(1,
+        violationManager.getViolationCount(PlausibilityCriterionType.COMPATIBILITY));
+    Assertions.assertEquals(0, violationManager.getViolationsOfSegment(new Base()).getSize());
+  }
+
   @Test
   void testIteratorImmutable() {
     violationManager.addViolation(compatibilityViolation);
@@ -111,10 +157,148 @@ class ViolationManagerTest {
     Assertions.assertThrows(UnsupportedOperationException.class, iterator::remove);
   }
 
+  @Test
+  void testCollectAndApply() {
+    violationManager.addViolation(compatibilityViolation);
+    ViolationBuffer buffer = violationManager.collect(() -> {
+      violationManager.addViolation(valueViolation);
+      violationManager.removeViolation(compatibilityViolation);
+    });
+
+    Assertions.assertEquals(2, buffer.getSize());
+    Assertions.assertTrue(violationManager.getViolations().contains(compatibilityViolation));
+    Assertions.assertFalse(violationManager.getViolations().contains(valueViolation));
+
+    violationManager.apply(List.of(buffer));
+
+    Assertions.assertFalse(violationManager.getViolations().contains(compatibilityViolation));
+    Assertions.assertTrue(violationManager.getViolations().contains(valueViolation));
+    Assertions.assertThrows(IllegalStateException.class,
+        () -> violationManager.collect(() -> violationManager.collect(() -> { })));
+  }
+
+  @Test
+  void testViolationBudget() {
+    SetObserver<Violation, ViolationManager> observer = mockObserver();
+    violationManager.addSubscriber(observer);
+    violationManager.setViolationBudget(2);
+    violationManager.addViolation(compatibilityViolation);
+    List<Violation> valueViolations = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      Violation violation = new Violation(valueCriterion, List.of(new Base()));
+      valueViolations.add(violation);
+      violationManager.addViolation(violation);
+    }
+
+    Mockito.verify(observer, Mockito.times(4)).notifyAddition(Mockito.any());
+    Mockito.verify(observer, Mockito.times(2)).notifyChange(violationManager);
+    Assertions.assertEquals(4, violationManager.getViolationCount());
+    Assertions.assertEquals(3, violationManager.getViolationCount(valueCriterion));
+    Assertions.assertEquals(3, violationManager.getViolations().getSize());
+    Assertions.assertEquals(3, violationManager.getViolationsOfCriterion(valueCriterion).getSize());
+    Assertions.assertTrue(violationManager.getViolationsOfCriterion(valueCriterion)
+        .contains(valueViolations.get(2)));
+    Assertions.assertTrue(violationManager.getViolationsOfSegment(
+        valueViolations.get(2).offendingSegments().iterator().next())
+        .contains(valueViolations.get(2)));
+    Assertions.assertFalse(violationManager.getViolations().contains(valueViolations.get(2)));
+    Assertions.assertTrue(violationManager.isSummarised(valueCriterion));
+    Assertions.assertFalse(violationManager.isSummarised(compatibilityCriterion));
+    Assertions.assertEquals(1, violationManager.getListedViolations().getSize());
+    Assertions.assertTrue(violationManager.getListedViolations().contains(compatibilityViolation));
+    SortedBox<ViolationSummary> summaries = violationManager.getSummaries();
+    Assertions.assertEquals(1, summaries.getSize());
+    Assertions.assertSame(valueCriterion, summaries.get(0).violatedCriterion());
+    Assertions.assertEquals(3, summaries.get(0).violationCount());
+    Assertions.assertEquals(valueViolations.subList(0, 2), summaries.get(0).sample());
+
+    violationManager.removeViolation(valueViolations.get(2));
+    Mockito.verify(observer, Mockito.times(1)).notifyRemoval(valueViolations.get(2));
+    Mockito.verify(observer, Mockito.times(3)).notifyChange(violationManager);
+    Assertions.assertFalse(violationManager.isSummarised(valueCriterion));
+    Assertions.assertEquals(0, violationManager.getSummaries().getSize());
+    Assertions.assertEquals(3, violationManager.getListedViolations().getSize());
+  }
+
+  @Test
+  void testLowerViolationBudgetAndRemoveViolationsOfCriterion() {
+    for (int i = 0; i < 3; i++) {
+      violationManager.addViolation(new Violation(valueCriterion, List.of(new Base())));
+    }
+    violationManager.addViolation(compatibilityViolation);
+
+    violationManager.setViolationBudget(1);
+    Assertions.assertTrue(violationManager.isSummarised(valueCriterion));
+    Assertions.assertEquals(2, violationManager.getViolations().getSize());
+    Assertions.assertEquals(4, violationManager.getViolationCount());
+    Assertions.assertEquals(3, violationManager.getViolationCount(PlausibilityCriterionType.VALUE));
+
+    violationManager.removeViolationsOfCriterion(valueCriterion);
+    Assertions.assertFalse(violationManager.isSummarised(valueCriterion));
+    Assertions.assertEquals(1, violationManager.getViolationCount());
+    Assertions.assertEquals(0, violationManager.getViolationCount(PlausibilityCriterionType.VALUE));
+    Assertions.assertEquals(0, violationManager.getSummaries().getSize());
+  }
+
+  @Test
+  void testCountedViolationsAreNotCountedTwice() {
+    violationManager.setViolationBudget(1);
+    Violation held = new Violation(valueCriterion, List.of(new Base()));
+    Violation counted = new Violation(valueCriterion, List.of(new Base()));
+    violationManager.addViolation(held);
+    violationManager.addViolation(counted);
+    violationManager.addViolation(new Violation(valueCriterion, counted.offendingSegments()));
+    Assertions.assertEquals(2, violationManager.getViolationCount(valueCriterion));
+
+    violationManager.removeViolation(new Violation(valueCriterion, List.of(new Base())));
+    Assertions.assertEquals(2, violationManager.getViolationCount(valueCriterion));
+    Assertions.assertTrue(violationManager.isSummarised(valueCriterion));
+
+    violationManager.removeViolation(counted);
+    violationManager.removeViolation(counted);
+    Assertions.assertEquals(1, violationManager.getViolationCount(valueCriterion));
+    Assertions.assertFalse(violationManager.isSummarised(valueCriterion));
+  }
+
+  @Test
+  void testCountedViolationsAreHeldAgain() {
+    List<Violation> violations = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      violations.add(new Violation(valueCriterion, List.of(new Base())));
+    }
+    violationManager.setViolationBudget(2);
+    violations.forEach(violationManager::addViolation);
+    Assertions.assertEquals(violations.subList(0, 2),
+        violationManager.getViolations().stream().toList());
+
+    violationManager.removeViolation(violations.get(0));
+    Assertions.assertEquals(violations.subList(1, 3),
+        violationManager.getViolations().stream().toList());
+    Assertions.assertTrue(violationManager.isSummarised(valueCriterion));
+
+    violationManager.setViolationBudget(3);
+    Assertions.assertFalse(violationManager.isSummarised(valueCriterion));
+    Assertions.assertEquals(violations.subList(1, 4),
+        violationManager.getListedViolations().stream().toList());
+    Assertions.assertEquals(3, violationManager.getViolationCount());
+  }
+
+  @Test
+  void testSetViolationBudgetThrowsException() {
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> violationManager.setViolationBudget(0));
+  }
+
   @Test
   void testGetThis() {
     Assertions.assertSame(violationManager, violationManager.getThis());
   }
 
-
+  /**
+   * Helper method to extract the "unchecked" (but correct) cast of the observer mock.
+   */
+  @SuppressWarnings("unchecked")
+  private static SetObserver<Violation, ViolationManager> mockObserver() {
+    return Mockito.mock(SetObserver.class);
+  }
 }
@@ -1,20 +1,26 @@
 package edu.kit.rose.model.roadsystem;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import edu.kit.rose.infrastructure.DualSetChange;
 import edu.kit.rose.infrastructure.DualSetObserver;
 import edu.kit.rose.infrastructure.Movement;
 import edu.kit.rose.infrastructure.Position;
+import edu.kit.rose.infrastructure.RoseBox;
 import edu.kit.rose.model.roadsystem.attributes.AttributeAccessor;
 import edu.kit.rose.model.roadsystem.attributes.AttributeType;
 import edu.kit.rose.model.roadsystem.elements.Base;
 import edu.kit.rose.model.roadsystem.elements.Connection;
 import edu.kit.rose.model.roadsystem.elements.Connector;
 import edu.kit.rose.model.roadsystem.elements.Element;
+import edu.kit.rose.model.roadsystem.elements.Exit;
 import edu.kit.rose.model.roadsystem.elements.Segment;
 import edu.kit.rose.model.roadsystem.elements.SegmentType;
 import edu.kit.rose.util.MockingUtility;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
@@ -37,6 +43,7 @@ class GraphRoadSystemTest2 {
   private ArgumentCaptor<Connection> connectionArgumentCaptorAddition;
   private ArgumentCaptor<Element> elementArgumentCaptorRemoval;
   private ArgumentCaptor<Connection> connectionArgumentCaptorRemoval;
+  private DualSetObserver<Element, Connection, RoadSystem> observer;
 
   @BeforeEach
   void setup() {
@@ -46,7 +53,7 @@ class GraphRoadSystemTest2 {
     elementArgumentCaptorRemoval = ArgumentCaptor.forClass(Element.class);
     connectionArgumentCaptorRemoval = ArgumentCaptor.forClass(Connection.class);
     timeSliceSetting = Mockito.mock(TimeSliceSetting.class);
-    DualSetObserver<Element, Connection, RoadSystem> observer = Mockito.mock(DualSetObserver.class);
+    observer = Mockito.mock(DualSetObserver.class);
     //Mockito method setup
     Mockito.doAnswer(invocation -> null)
         .when(observer).notifyAddition(elementArgumentCaptorAddition.capture());
@@ -72,6 +79,22 @@ class GraphRoadSystemTest2 {
 
   }
 
+  @Test
+  void testGetSegmentsAndGroups() {
+    var segment = testRoadSystem.createSegment(SegmentType.BASE);
+    var group = testRoadSystem.createGroup(Set.of(segment));
+
+    Assertions.assertEquals(List.of(initialSegment, segment),
+        testRoadSystem.getSegments().stream().toList());
+    Assertions.assertEquals(List.of(group), testRoadSystem.getGroups().stream().toList());
+
+    testRoadSystem.removeElement(group);
+    Assertions.assertEquals(List.of(initialSegment),
+        testRoadSystem.getSegments().stream().toList());
+    Assertions.assertEquals(0, testRoadSystem.getGroups().getSize());
+    Assertions.assertEquals(1, testRoadSystem.getElements().getSize());
+  }
+
 
   @Test
   void createSegmentTest() {
@@ -94,6 +117,23 @@ class GraphRoadSystemTest2 {
     Assertions.assertEquals(0, testRoadSystem.getConnections(exit).getSize());
   }
 
+  @Test
+  void createSegmentWithInitializerTest() {
+    var base = testRoadSystem.createSegment(SegmentType.BASE, segment -> {
+      Assertions.assertFalse(testRoadSystem.getElements().contains(segment));
+      segment.setName("Initialized");
+    });
+    Assertions.assertEquals("Initialized", base.getName());
+    Assertions.assertEquals(base, elementArgumentCaptorAddition.getValue());
+    Assertions.assertTrue(testRoadSystem.getElements().contains(base));
+
+    Assertions.assertThrows(IllegalStateException.class,
+        () -> testRoadSystem.createSegment(SegmentType.BASE, segment -> {
+          throw new IllegalStateException();
+        }));
+    Assertions.assertEquals(2, testRoadSystem.getElements().getSize());
+  }
+
   @Test
   void createGroupTest() {
     var entrance = testRoadSystem.createSegment(SegmentType.ENTRANCE);
@@ -108,6 +148,30 @@ class GraphRoadSystemTest2 {
     Assertions.assertTrue(elements.containsAll(List.of(entrance, base, exit)));
   }
 
+  @Test
+  void getParentGroupTest() {
+    var base = testRoadSystem.createSegment(SegmentType.BASE);
+    var group = testRoadSystem.createGroup(Set.of(base));
+    var outerGroup = testRoadSystem.createGroup(Set.of());
+    Assertions.assertSame(group, testRoadSystem.getParentGroup(base));
+    Assertions.assertSame(testRoadSystem.getRootGroup(), testRoadSystem.getParentGroup(group));
+    Assertions.assertSame(testRoadSystem.getRootGroup(),
+        testRoadSystem.getParentGroup(initialSegment));
+
+    group.removeElement(base);
+    outerGroup.addElement(base);
+    outerGroup.addElement(group);
+    Assertions.assertSame(outerGroup, testRoadSystem.getParentGroup(base));
+    Assertions.assertSame(outerGroup, testRoadSystem.getParentGroup(group));
+
+    outerGroup.removeElement(base);
+    Assertions.assertSame(testRoadSystem.getRootGroup(), testRoadSystem.getParentGroup(base));
+
+    testRoadSystem.removeElement(outerGroup);
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> testRoadSystem.getParentGroup(group));
+  }
+
   @Test
   void removeElementTest() {
     testRoadSystem.removeElement(initialSegment);
@@ -143,6 +207,47 @@ class GraphRoadSystemTest2 {
     Assertions.assertNull(testRoadSystem.getConnection(initialConnector));
   }
 
+  @Test
+  void disconnectUnknownConnectionTest() {
+    var entrance = testRoadSystem.createSegment(SegmentType.ENTRANCE);
+    var initialConnector = initialSegment.getConnectors().iterator().next();
+    var entranceConnector = entrance.getConnectors().iterator().next();
+    var connection = testRoadSystem.connectConnectors(initialConnector, entranceConnector);
+    testRoadSystem.disconnectConnection(connection);
+
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> testRoadSystem.disconnectConnection(connection));
+    Assertions.assertDoesNotThrow(() -> testRoadSystem.disconnectConnection(null));
+  }
+
+  /**
+   * Disconnecting every connection of a chain removes each connection exactly once and leaves the
+   * connectors of the other connections untouched until they are disconnected themselves.
+   */
+  @Test
+  void disconnectChainTest() {
+    int connectionCount = 100;
+    var connections = new ArrayList<Connection>(connectionCount);
+    var previous = (Base) testRoadSystem.createSegment(SegmentType.BASE);
+    for (int i = 0; i < connectionCount; i++) {
+      var next = (Base) testRoadSystem.createSegment(SegmentType.BASE);
+      connections.add(testRoadSystem.connectConnectors(previous.getExit(), next.getEntry()));
+      previous = next;
+    }
+
+    testRoadSystem.disconnectConnection(connections.get(0));
+    Assertions.assertEquals(connections.get(1), testRoadSystem.getConnection(
+        connections.get(1).getConnectors().iterator().next()));
+
+    connections.subList(1, connectionCount).forEach(testRoadSystem::disconnectConnection);
+    Assertions.assertEquals(connections, connectionArgumentCaptorRemoval.getAllValues());
+    for (var connection : connections) {
+      for (var connector : connection.getConnectors()) {
+        Assertions.assertNull(testRoadSystem.getConnection(connector));
+      }
+    }
+  }
+
   @Test
   void disconnectFromAllTest() {
     var entrance = testRoadSystem.createSegment(SegmentType.ENTRANCE);
@@ -270,6 +375,72 @@ class GraphRoadSystemTest2 {
     Assertions.assertEquals(originalCenters[2].getY(), segments[2].getCenter().getY());
   }
 
+  @Test
+  void moveSegmentsRepeatedlyTest() {
+    var entrance = testRoadSystem.createSegment(SegmentType.ENTRANCE);
+    var exit = testRoadSystem.createSegment(SegmentType.EXIT);
+    var initialConnectors = new LinkedList<Connector>();
+    initialSegment.getConnectors().forEach(initialConnectors::add);
+    var entranceConnector = entrance.getConnectors().iterator().next();
+    var exitConnector = exit.getConnectors().iterator().next();
+    var insideConnection = testRoadSystem.connectConnectors(initialConnectors.get(0),
+        entranceConnector);
+    testRoadSystem.connectConnectors(initialConnectors.get(1), exitConnector);
+    var dragged = List.of(initialSegment, entrance);
+
+    testRoadSystem.moveSegments(dragged, new Movement(10, 0));
+    testRoadSystem.moveSegments(dragged, new Movement(10, 0));
+    Assertions.assertNull(testRoadSystem.getConnection(exitConnector));
+    Assertions.assertEquals(insideConnection,
+        testRoadSystem.getConnection(initialConnectors.get(0)));
+
+    // a connection created between two drag steps has to be broken by the next step
+    var outsideConnection = testRoadSystem.connectConnectors(initialConnectors.get(1),
+        exitConnector);
+    testRoadSystem.moveSegments(dragged, new Movement(10, 0));
+    Assertions.assertEquals(outsideConnection, connectionArgumentCaptorRemoval.getValue());
+    Assertions.assertNull(testRoadSystem.getConnection(exitConnector));
+    Assertions.assertEquals(insideConnection,
+        testRoadSystem.getConnection(initialConnectors.get(0)));
+  }
+
+  @Test
+  void getConnectorsInRadiusTest() {
+    var base = (Base) testRoadSystem.createSegment(SegmentType.BASE);
+    base.move(new Movement(1000, 1000));
+    var entryPosition = base.getAbsoluteConnectorPosition(base.getEntry());
+
+    var found = testRoadSystem.getConnectorsInRadius(entryPosition, 1);
+    Assertions.assertEquals(1, found.getSize());
+    Assertions.assertTrue(found.contains(base.getEntry()));
+
+    base.getEntry().move(new Movement(-50, 0));
+    Assertions.assertEquals(0, testRoadSystem.getConnectorsInRadius(entryPosition, 1).getSize());
+    Assertions.assertTrue(testRoadSystem.getConnectorsInRadius(
+        base.getAbsoluteConnectorPosition(base.getEntry()), 1).contains(base.getEntry()));
+
+    testRoadSystem.removeElement(base);
+    Assertions.assertEquals(0, testRoadSystem.getConnectorsInRadius(
+        new Position(1000, 1000), 500).getSize());
+  }
+
+  @Test
+  void getSegmentsInRectangleTest() {
+    var inside = testRoadSystem.createSegment(SegmentType.BASE);
+    inside.move(new Movement(1000, 1000));
+    var outside = testRoadSystem.createSegment(SegmentType.BASE);
+    outside.move(new Movement(2000, 2000));
+
+    var found = testRoadSystem.getSegmentsInRectangle(new Position(1010, 1010),
+        new Position(990, 990));
+    Assertions.assertEquals(1, found.getSize());
+    Assertions.assertTrue(found.contains(inside));
+
+    testRoadSystem.moveSegments(List.of(outside), new Movement(-1000, -1000));
+    Assertions.assertEquals(2, testRoadSystem.getSegmentsInRectangle(new Position(1010, 1010),
+        new Position(990, 990)).getSize());
+  }
+
   @Test
   void rotateSegmentTest() {
     int funnyNumber = 69;
@@ -307,6 +478,58 @@ class GraphRoadSystemTest2 {
     verify(timeSliceSetting, times(1)).reset();
   }
 
+  @Test
+  void batchTest() {
+    var entrance = (Segment) testRoadSystem.createSegment(SegmentType.ENTRANCE);
+    var entranceConnector = entrance.getConnectors().iterator().next();
+    int additionCount = elementArgumentCaptorAddition.getAllValues().size();
+    var created = new LinkedList<Segment>();
+    var connections = new LinkedList<Connection>();
+
+    testRoadSystem.batch(() -> {
+      var base = (Base) testRoadSystem.createSegment(SegmentType.BASE);
+      created.add(base);
+      testRoadSystem.removeElement(testRoadSystem.createSegment(SegmentType.EXIT));
+      testRoadSystem.batch(() -> connections.add(
+          testRoadSystem.connectConnectors(base.getExit(), entranceConnector)));
+
+      verify(observer, never()).notifyChanges(any());
+    });
+
+    ArgumentCaptor<DualSetChange<Element, Connection>> changesCaptor =
+        ArgumentCaptor.forClass(DualSetChange.class);
+    verify(observer, times(1)).notifyChanges(changesCaptor.capture());
+    var changes = changesCaptor.getValue();
+    Assertions.assertEquals(created, changes.getAdditions().stream().toList());
+    Assertions.assertEquals(connections, changes.getAdditionsSecond().stream().toList());
+    Assertions.assertEquals(0, changes.getRemovals().getSize());
+    Assertions.assertEquals(0, changes.getRemovalsSecond().getSize());
+    Assertions.assertEquals(additionCount, elementArgumentCaptorAddition.getAllValues().size());
+    Assertions.assertTrue(connectionArgumentCaptorAddition.getAllValues().isEmpty());
+    Assertions.assertEquals(3, testRoadSystem.getElements().getSize());
+  }
+
+  @Test
+  void notifyChangesForwardsToSingleNotificationsTest() {
+    var base = (Base) testRoadSystem.createSegment(SegmentType.BASE);
+    var exit = (Exit) initialSegment;
+    var connection = testRoadSystem.connectConnectors(base.getExit(), exit.getEntry());
+    DualSetChange<Element, Connection> changes = Mockito.mock(DualSetChange.class);
+    Mockito.when(changes.getAdditions()).thenReturn(new RoseBox<>(base));
+    Mockito.when(changes.getRemovals()).thenReturn(new RoseBox<>(exit));
+    Mockito.when(changes.getAdditionsSecond()).thenReturn(new RoseBox<>(connection));
+    Mockito.when(changes.getRemovalsSecond()).thenReturn(new RoseBox<>(connection));
+    Mockito.doCallRealMethod().when(observer).notifyChanges(changes);
+
+    observer.notifyChanges(changes);
+
+    var inOrder = Mockito.inOrder(observer);
+    inOrder.verify(observer).notifyRemovalSecond(connection);
+    inOrder.verify(observer).notifyRemoval(exit);
+    inOrder.verify(observer).notifyAddition(base);
+    inOrder.verify(observer).notifyAdditionSecond(connection);
+  }
+
   @Test
   void throwsExceptionTest() {
     Assertions.assertThrows(IllegalArgumentException.class,
@@ -0,0 +1,79 @@
+package edu.kit.rose.model.roadsystem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link SpatialIndex} class.
+ */
+class SpatialIndexTest {
+  private static final double CELL_SIZE = 10;
+
+  private SpatialIndex<String> index;
+
+  @BeforeEach
+  void beforeEach() {
+    this.index = new SpatialIndex<>(CELL_SIZE);
+    this.index.put("origin", 0, 0);
+    this.index.put("near", 3, 4);
+    this.index.put("negative", -15, -15);
+    this.index.put("far", 1000, 1000);
+  }
+
+  @Test
+  void testInvalidCellSize() {
+    assertThrows(IllegalArgumentException.class, () -> new SpatialIndex<String>(0));
+  }
+
+  @Test
+  void testFindInRadius() {
+    assertEquals(Set.of("origin", "near"), findInRadius(0, 0, 5));
+    assertEquals(Set.of("origin"), findInRadius(0, 0, 4.9));
+    assertEquals(Set.of("negative"), findInRadius(-20, -20, 10));
+  }
+
+  @Test
+  void testFindInRectangle() {
+    assertEquals(Set.of("origin", "near", "negative"), findInRectangle(-15, -15, 3, 4));
+    assertEquals(Set.of("far"), findInRectangle(500, 500, 1e9, 1e9));
+    assertEquals(Set.of("origin", "near", "negative", "far"),
+        findInRectangle(-1e9, -1e9, 1e9, 1e9));
+  }
+
+  @Test
+  void testPutMovesItem() {
+    index.put("far", 1, 1);
+    index.put("near", 3.5, 4);
+
+    assertEquals(Set.of("origin", "far"), findInRadius(0, 0, 2));
+    assertEquals(Set.of("near"), findInRectangle(3.5, 4, 3.5, 4));
+    assertEquals(Set.of(), findInRadius(1000, 1000, 100));
+    assertEquals(4, index.size());
+  }
+
+  @Test
+  void testRemove() {
+    index.remove("near");
+    index.remove("unknown");
+
+    assertEquals(Set.of("origin"), findInRadius(0, 0, 5));
+    assertEquals(3, index.size());
+  }
+
+  private Set<String> findInRadius(double x, double y, double radius) {
+    var result = new HashSet<String>();
+    index.findInRadius(x, y, radius, result::add);
+    return result;
+  }
+
+  private Set<String> findInRectangle(double minX, double minY, double maxX, double maxY) {
+    var result = new HashSet<String>();
+    index.findInRectangle(minX, minY, maxX, maxY, result::add);
+    return result;
+  }
+}
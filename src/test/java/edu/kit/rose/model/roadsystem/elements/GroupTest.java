@@ -13,6 +13,7 @@ import edu.kit.rose.infrastructure.SortedBox;
 import edu.kit.rose.model.roadsystem.attributes.AttributeAccessor;
 import edu.kit.rose.model.roadsystem.attributes.AttributeType;
 import java.util.Iterator;
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -45,6 +46,34 @@ class GroupTest {
     Assertions.assertThrows(IllegalArgumentException.class, () -> g.addElement(null));
   }
 
+  @Test
+  void testContains() {
+    Group group = new Group(List.of(segment));
+    Assertions.assertTrue(group.contains(segment));
+    Assertions.assertFalse(group.contains(element));
+
+    group.addElement(element);
+    Assertions.assertTrue(group.contains(element));
+    Assertions.assertSame(segment, group.getElements().get(0));
+    Assertions.assertSame(element, group.getElements().get(1));
+
+    group.removeElement(segment);
+    Assertions.assertFalse(group.contains(segment));
+  }
+
+  @Test
+  void testGetElementsIsSnapshot() {
+    Group group = new Group(List.of(segment, element));
+    var elements = group.getElements();
+    Assertions.assertSame(elements, group.getElements());
+
+    for (Element child : elements) {
+      group.removeElement(child);
+    }
+    Assertions.assertEquals(2, elements.getSize());
+    Assertions.assertEquals(0, group.getElements().getSize());
+  }
+
   @Test
   void testRemoveElement() {
     Group group = new Group();
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import edu.kit.rose.infrastructure.Box;
+import edu.kit.rose.infrastructure.Movement;
 import edu.kit.rose.infrastructure.Position;
 import edu.kit.rose.infrastructure.SortedBox;
 import edu.kit.rose.model.roadsystem.attributes.AttributeAccessor;
@@ -79,6 +80,22 @@ class HighwaySegmentTest {
         () -> testSegment.getAbsoluteConnectorPosition(invalidConnector));
   }
 
+  @Test
+  void testGetAbsoluteConnectorPositionFollowsChanges() {
+    assertEquals(new Position(1, 0), testSegment.getAbsoluteConnectorPosition(testConnector));
+
+    testSegment.move(new Movement(10, 5));
+    assertEquals(new Position(11, 5), testSegment.getAbsoluteConnectorPosition(testConnector));
+
+    testSegment.rotate(90);
+    assertEquals(new Position(10, 6), testSegment.getAbsoluteConnectorPosition(testConnector));
+
+    double[] buffer = new double[2];
+    assertSame(buffer, testSegment.getAbsoluteConnectorPosition(testConnector, buffer));
+    assertEquals(10, buffer[0]);
+    assertEquals(6, buffer[1]);
+  }
+
   @Test
   void testGetMeasurementsReturnsBox() {
     assertNotNull(testSegment.getMeasurements());
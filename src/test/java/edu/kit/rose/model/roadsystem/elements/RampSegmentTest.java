@@ -1,7 +1,10 @@
 package edu.kit.rose.model.roadsystem.elements;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import edu.kit.rose.infrastructure.SortedBox;
 import edu.kit.rose.model.roadsystem.attributes.AttributeAccessor;
@@ -92,6 +95,30 @@ class RampSegmentTest {
     );
   }
 
+  /**
+   * Tests whether accessors and primitive values are looked up by attribute type, including the
+   * attributes the ramp segment adds.
+   */
+  @Test
+  void testAttributeSlots() {
+    for (AttributeAccessor<?> accessor : testSegment.getAttributeAccessors()) {
+      assertSame(accessor, testSegment.getAttributeAccessor(accessor.getAttributeType()));
+    }
+
+    testSegment.setLength(null);
+    testSegment.setLaneCountRamp(3);
+    testSegment.setSlope(-1.5);
+
+    assertFalse(testSegment.hasAttributeValue(AttributeType.LENGTH));
+    assertThrows(IllegalStateException.class,
+        () -> testSegment.getIntegerValue(AttributeType.LENGTH));
+    assertTrue(testSegment.hasAttributeValue(AttributeType.LANE_COUNT_RAMP));
+    assertEquals(3, testSegment.getIntegerValue(AttributeType.LANE_COUNT_RAMP));
+    assertEquals(-1.5, testSegment.getFractionalValue(AttributeType.SLOPE));
+    assertThrows(IllegalArgumentException.class,
+        () -> testSegment.getIntegerValue(AttributeType.SLOPE));
+  }
+
   private <T> void assertAccessorCorrectness(AttributeType attribute, Supplier<T> getter,
                                              Consumer<T> setter, T testValue) {
     AccessorUtility.testAccessorCorrectness(
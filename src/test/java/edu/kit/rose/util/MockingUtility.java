@@ -4,6 +4,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import edu.kit.rose.infrastructure.RoseSortedBox;
+import edu.kit.rose.model.plausibility.PlausibilityScheduler;
 import edu.kit.rose.model.plausibility.criteria.CriteriaManager;
 
 /**
@@ -17,6 +18,7 @@ public final class MockingUtility {
   public static CriteriaManager mockCriteriaManager() {
     CriteriaManager mock = mock(CriteriaManager.class);
     when(mock.getCriteria()).thenReturn(new RoseSortedBox<>());
+    when(mock.getPlausibilityScheduler()).thenReturn(new PlausibilityScheduler(mock));
     return mock;
   }
 }